@@ -0,0 +1,44 @@
+package com.adamnestor.courtvision.benchmark;
+
+import com.adamnestor.courtvision.confidence.model.ConfidenceContext;
+import com.adamnestor.courtvision.domain.Players;
+import com.adamnestor.courtvision.domain.StatCategory;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConfidenceScoreBenchmark {
+    private static final BigDecimal HIT_RATE = new BigDecimal("70.0");
+    private static final long HIT_RATE_TENTHS = 700;
+    private static final int THRESHOLD = 15;
+    private static final int GAMES_COUNT = 10;
+
+    @Benchmark
+    public BigDecimal calculateConfidenceScoreForPlayer(LeagueState state) {
+        Players player = state.nextPlayer();
+        return state.confidenceScoreService.calculateConfidenceScore(
+                player, state.league.getTonightsGame(player), StatCategory.POINTS, THRESHOLD, HIT_RATE, GAMES_COUNT);
+    }
+
+    @Benchmark
+    public BigDecimal calculateConfidenceScoreFromContext(LeagueState state) {
+        Players player = state.nextPlayer();
+        ConfidenceContext context = new ConfidenceContext(player, state.playerGameLogStore.getLog(player));
+        return state.confidenceScoreService.calculateConfidenceScore(
+                context, state.league.getTonightsGame(player), StatCategory.POINTS, THRESHOLD, HIT_RATE, GAMES_COUNT);
+    }
+
+    @Benchmark
+    public int calculateConfidenceFromContext(LeagueState state) {
+        Players player = state.nextPlayer();
+        ConfidenceContext context = new ConfidenceContext(player, state.playerGameLogStore.getLog(player));
+        return state.confidenceScoreService.calculateConfidence(
+                context, state.league.getTonightsGame(player), StatCategory.POINTS, THRESHOLD, HIT_RATE_TENTHS, GAMES_COUNT);
+    }
+}
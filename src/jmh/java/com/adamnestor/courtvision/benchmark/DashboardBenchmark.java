@@ -0,0 +1,44 @@
+package com.adamnestor.courtvision.benchmark;
+
+import com.adamnestor.courtvision.domain.StatCategory;
+import com.adamnestor.courtvision.domain.TimePeriod;
+import com.adamnestor.courtvision.dto.response.DashboardStatsResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full dashboard request path over tonight's 15-game slate (450 players).
+ * The cold variant drops the resident game logs first, so it includes building them.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DashboardBenchmark {
+
+    @Param({"L10", "SEASON"})
+    TimePeriod period;
+
+    @Benchmark
+    public List<DashboardStatsResponse> getDashboardStats(LeagueState state) {
+        return state.playerPerformanceService.getDashboardStats(
+                period, StatCategory.POINTS, 15, "hitrate", state.dashboardMapper, "desc");
+    }
+
+    @Benchmark
+    public List<DashboardStatsResponse> getDashboardStatsColdGameLogs(LeagueState state) {
+        state.playerGameLogStore.clear();
+        return state.playerPerformanceService.getDashboardStats(
+                period, StatCategory.POINTS, 15, "hitrate", state.dashboardMapper, "desc");
+    }
+
+    @Benchmark
+    public Map<TimePeriod, List<DashboardStatsResponse>> calculateDashboardMatrix(LeagueState state) {
+        return state.playerPerformanceService.calculateDashboardMatrix(state.league.getTonightsGames());
+    }
+}
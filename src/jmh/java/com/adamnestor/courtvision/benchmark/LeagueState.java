@@ -0,0 +1,83 @@
+package com.adamnestor.courtvision.benchmark;
+
+import com.adamnestor.courtvision.confidence.cache.ConfidenceComponentCache;
+import com.adamnestor.courtvision.confidence.service.impl.ConfidenceScoreServiceImpl;
+import com.adamnestor.courtvision.confidence.service.impl.GameContextServiceImpl;
+import com.adamnestor.courtvision.confidence.service.impl.TeamContextCacheImpl;
+import com.adamnestor.courtvision.domain.Players;
+import com.adamnestor.courtvision.mapper.DashboardMapper;
+import com.adamnestor.courtvision.repository.GameStatsRepository;
+import com.adamnestor.courtvision.service.dashboard.DashboardExecutor;
+import com.adamnestor.courtvision.service.gamelog.PlayerGameLogStore;
+import com.adamnestor.courtvision.service.impl.PlayerPerformanceServiceImpl;
+import com.adamnestor.courtvision.service.player.PlayerDetailCache;
+import com.adamnestor.courtvision.service.util.DateUtils;
+import com.adamnestor.courtvision.service.version.DataGeneration;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The services under benchmark, wired by hand over a {@link SyntheticLeague}.
+ */
+@State(Scope.Benchmark)
+public class LeagueState {
+    SyntheticLeague league;
+    PlayerGameLogStore playerGameLogStore;
+    ConfidenceScoreServiceImpl confidenceScoreService;
+    PlayerPerformanceServiceImpl playerPerformanceService;
+    DashboardMapper dashboardMapper;
+    DashboardExecutor dashboardExecutor;
+
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Service-level info logging would dominate the measurements
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME))
+                .setLevel(ch.qos.logback.classic.Level.WARN);
+
+        league = new SyntheticLeague(42);
+        GameStatsRepository gameStatsRepository = league.gameStatsRepository();
+        playerGameLogStore = new PlayerGameLogStore(gameStatsRepository);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ConfidenceComponentCache componentCache = new ConfidenceComponentCache(meterRegistry, 20_000, 60);
+        confidenceScoreService = new ConfidenceScoreServiceImpl(
+                playerGameLogStore,
+                new GameContextServiceImpl(
+                        new TeamContextCacheImpl(league.advancedGameStatsRepository()), componentCache),
+                componentCache);
+        dashboardMapper = new DashboardMapper();
+        dashboardExecutor = new DashboardExecutor(0, 10, 60_000);
+        playerPerformanceService = new PlayerPerformanceServiceImpl(
+                league.gamesRepository(),
+                league.playersRepository(),
+                dashboardMapper,
+                new DateUtils(),
+                confidenceScoreService,
+                playerGameLogStore,
+                league.hitRatesRepository(),
+                dashboardExecutor,
+                new PlayerDetailCache(meterRegistry, 20_000, 60),
+                new DataGeneration(),
+                meterRegistry);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dashboardExecutor.shutdown();
+    }
+
+    /**
+     * Cycles through the league so per-player benchmarks do not measure one hot player.
+     */
+    Players nextPlayer() {
+        Players player = league.getPlayers().get(cursor);
+        cursor = (cursor + 1) % league.getPlayers().size();
+        return player;
+    }
+}
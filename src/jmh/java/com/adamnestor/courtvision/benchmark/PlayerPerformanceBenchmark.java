@@ -0,0 +1,31 @@
+package com.adamnestor.courtvision.benchmark;
+
+import com.adamnestor.courtvision.domain.Players;
+import com.adamnestor.courtvision.domain.StatCategory;
+import com.adamnestor.courtvision.domain.TimePeriod;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PlayerPerformanceBenchmark {
+
+    @Param({"L10", "L20"})
+    TimePeriod period;
+
+    @Param({"10", "20"})
+    int threshold;
+
+    @Benchmark
+    public Map<String, Object> calculateStats(LeagueState state) {
+        Players player = state.nextPlayer();
+        return state.playerPerformanceService.calculateStats(
+                player, state.playerGameLogStore.getLog(player), period, StatCategory.POINTS, threshold);
+    }
+}
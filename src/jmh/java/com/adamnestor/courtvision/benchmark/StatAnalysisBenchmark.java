@@ -0,0 +1,66 @@
+package com.adamnestor.courtvision.benchmark;
+
+import com.adamnestor.courtvision.domain.Players;
+import com.adamnestor.courtvision.domain.StatCategory;
+import com.adamnestor.courtvision.domain.TimePeriod;
+import com.adamnestor.courtvision.service.gamelog.PlayerGameLog;
+import com.adamnestor.courtvision.service.gamelog.WindowAggregates;
+import com.adamnestor.courtvision.service.util.StatAnalysisUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StatAnalysisBenchmark {
+
+    @Benchmark
+    public Map<String, Object> analyzeCategoryStatsFromEntities(LeagueState state) {
+        Players player = state.nextPlayer();
+        return StatAnalysisUtils.analyzeCategoryStats(state.league.getGames(player), StatCategory.POINTS);
+    }
+
+    @Benchmark
+    public Map<String, Object> analyzeCategoryStatsFromGameLog(LeagueState state) {
+        Players player = state.nextPlayer();
+        var log = state.playerGameLogStore.getLog(player);
+        return StatAnalysisUtils.analyzeCategoryStats(log, log.size(), StatCategory.POINTS);
+    }
+
+    // Every period x category x standard threshold line for one player, as the hit-rate table needs
+    @Benchmark
+    public long allLinesFromGameLogScans(LeagueState state) {
+        PlayerGameLog log = state.playerGameLogStore.getLog(state.nextPlayer());
+        long checksum = 0;
+        for (TimePeriod period : TimePeriod.values()) {
+            int window = log.window(period);
+            for (StatCategory category : StatCategory.values()) {
+                checksum += StatAnalysisUtils.sum(log, window, category) + window;
+                for (Integer threshold : category.getValidThresholds()) {
+                    checksum += StatAnalysisUtils.countSuccesses(log, window, category, threshold);
+                }
+            }
+        }
+        return checksum;
+    }
+
+    @Benchmark
+    public long allLinesFromWindowAggregates(LeagueState state) {
+        WindowAggregates aggregates = WindowAggregates.of(state.playerGameLogStore.getLog(state.nextPlayer()));
+        long checksum = 0;
+        for (TimePeriod period : TimePeriod.values()) {
+            int window = aggregates.window(period);
+            for (StatCategory category : StatCategory.values()) {
+                checksum += aggregates.sum(category, period) + window;
+                for (Integer threshold : category.getValidThresholds()) {
+                    checksum += aggregates.hits(category, threshold, period);
+                }
+            }
+        }
+        return checksum;
+    }
+}
@@ -0,0 +1,224 @@
+package com.adamnestor.courtvision.benchmark;
+
+import com.adamnestor.courtvision.confidence.model.GameRatingTotals;
+import com.adamnestor.courtvision.domain.*;
+import com.adamnestor.courtvision.repository.AdvancedGameStatsRepository;
+import com.adamnestor.courtvision.repository.GameStatsRepository;
+import com.adamnestor.courtvision.repository.GamesRepository;
+import com.adamnestor.courtvision.repository.HitRatesRepository;
+import com.adamnestor.courtvision.repository.PlayersRepository;
+import com.adamnestor.courtvision.service.gamelog.GameStatLine;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Deterministic in-memory season at production scale: 30 teams of 15 players (450 players),
+ * 82 completed games per team and a 15-game slate tonight. Repository interfaces are served
+ * from memory so benchmarks measure computation, not the database.
+ */
+public class SyntheticLeague {
+    public static final int TEAMS = 30;
+    public static final int PLAYERS_PER_TEAM = 15;
+    public static final int GAMES_PER_TEAM = 82;
+
+    private static final ZoneId EASTERN_ZONE = ZoneId.of("America/New_York");
+
+    private final List<Teams> teams = new ArrayList<>();
+    private final List<Players> players = new ArrayList<>();
+    private final List<Games> tonightsGames = new ArrayList<>();
+    private final Map<Long, Games> gamesById = new HashMap<>();
+    private final Map<Long, List<GameStats>> gamesByPlayer = new HashMap<>();
+    private final List<GameRatingTotals> ratingTotals = new ArrayList<>();
+
+    public SyntheticLeague(long seed) {
+        Random random = new Random(seed);
+        LocalDate today = LocalDate.now(EASTERN_ZONE);
+
+        for (int t = 0; t < TEAMS; t++) {
+            Teams team = new Teams();
+            team.setId((long) t + 1);
+            team.setExternalId((long) t + 1);
+            team.setAbbreviation(String.format("T%02d", t + 1));
+            team.setName("Team " + (t + 1));
+            team.setCity("City " + (t + 1));
+            teams.add(team);
+        }
+
+        long playerId = 1;
+        for (Teams team : teams) {
+            for (int p = 0; p < PLAYERS_PER_TEAM; p++) {
+                Players player = new Players();
+                player.setId(playerId);
+                player.setExternalId(playerId);
+                player.setFirstName("Player");
+                player.setLastName(String.valueOf(playerId));
+                player.setTeam(team);
+                player.setStatus(PlayerStatus.ACTIVE);
+                players.add(player);
+                gamesByPlayer.put(playerId, new ArrayList<>());
+                playerId++;
+            }
+        }
+
+        // One full slate per night for 82 nights, oldest first; every team plays once a night
+        long gameId = 1;
+        long statsId = 1;
+        for (int night = GAMES_PER_TEAM; night >= 1; night--) {
+            LocalDate date = today.minusDays(night);
+            for (Games game : slate(date, night, gameId, "Final")) {
+                gameId++;
+                gamesById.put(game.getId(), game);
+                BigDecimal defensiveRating = BigDecimal.valueOf(10_000 + random.nextInt(2_000), 2);
+                ratingTotals.add(new GameRatingTotals(game.getId(), date,
+                        game.getHomeTeam().getId(), game.getAwayTeam().getId(),
+                        defensiveRating.multiply(BigDecimal.valueOf(2 * PLAYERS_PER_TEAM)),
+                        (long) 2 * PLAYERS_PER_TEAM,
+                        (95 + random.nextDouble() * 10) * 2 * PLAYERS_PER_TEAM,
+                        (long) 2 * PLAYERS_PER_TEAM,
+                        BigDecimal.valueOf(random.nextInt(2_000) - 1_000, 2),
+                        (long) 2 * PLAYERS_PER_TEAM));
+
+                for (Players player : players) {
+                    Long teamId = player.getTeam().getId();
+                    if (!teamId.equals(game.getHomeTeam().getId()) && !teamId.equals(game.getAwayTeam().getId())) {
+                        continue;
+                    }
+                    int role = (int) ((player.getId() - 1) % PLAYERS_PER_TEAM);
+                    GameStats stats = new GameStats();
+                    stats.setId(statsId++);
+                    stats.setPlayer(player);
+                    stats.setGame(game);
+                    stats.setPoints(Math.max(0, 28 - role * 2 + random.nextInt(13) - 6));
+                    stats.setAssists(Math.max(0, 8 - role / 2 + random.nextInt(5) - 2));
+                    stats.setRebounds(Math.max(0, 10 - role / 2 + random.nextInt(5) - 2));
+                    stats.setSteals(random.nextInt(3));
+                    stats.setBlocks(random.nextInt(3));
+                    stats.setTurnovers(random.nextInt(4));
+                    gamesByPlayer.get(player.getId()).add(0, stats); // most recent first
+                }
+            }
+        }
+
+        tonightsGames.addAll(slate(today, 0, gameId, "scheduled"));
+    }
+
+    private List<Games> slate(LocalDate date, int rotation, long firstId, String status) {
+        List<Games> games = new ArrayList<>();
+        for (int i = 0; i < TEAMS / 2; i++) {
+            Games game = new Games();
+            game.setId(firstId + i);
+            game.setExternalId(firstId + i);
+            game.setSeason(date.getYear());
+            game.setGameDate(date);
+            game.setGameTime("7:00 PM");
+            game.setStatus(status);
+            game.setHomeTeam(teams.get((i + rotation) % TEAMS));
+            game.setAwayTeam(teams.get((TEAMS - 1 - i + rotation) % TEAMS));
+            games.add(game);
+        }
+        return games;
+    }
+
+    public List<Players> getPlayers() {
+        return players;
+    }
+
+    public List<Games> getTonightsGames() {
+        return tonightsGames;
+    }
+
+    public List<GameStats> getGames(Players player) {
+        return gamesByPlayer.get(player.getId());
+    }
+
+    public Games getTonightsGame(Players player) {
+        Long teamId = player.getTeam().getId();
+        return tonightsGames.stream()
+                .filter(g -> g.getHomeTeam().getId().equals(teamId) || g.getAwayTeam().getId().equals(teamId))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    public GameStatsRepository gameStatsRepository() {
+        return stub(GameStatsRepository.class, Map.of(
+                "findRecentLinesForPlayers", args -> {
+                    @SuppressWarnings("unchecked")
+                    Collection<Long> playerIds = (Collection<Long>) args[0];
+                    int limit = (Integer) args[1];
+                    List<GameStatLine> result = new ArrayList<>();
+                    for (Long id : playerIds) {
+                        List<GameStats> games = gamesByPlayer.getOrDefault(id, List.of());
+                        for (GameStats stats : games.subList(0, Math.min(limit, games.size()))) {
+                            Games game = stats.getGame();
+                            result.add(new GameStatLine(id, game.getId(), game.getGameDate(),
+                                    game.getHomeTeam().getId(), game.getHomeTeam().getAbbreviation(),
+                                    game.getAwayTeam().getId(), game.getAwayTeam().getAbbreviation(),
+                                    stats.getPoints(), stats.getAssists(), stats.getRebounds(),
+                                    stats.getSteals(), stats.getBlocks(), stats.getTurnovers()));
+                        }
+                    }
+                    return result;
+                }));
+    }
+
+    public GamesRepository gamesRepository() {
+        return stub(GamesRepository.class, Map.of(
+                "findByGameDateAndStatus", args -> tonightsGames.stream()
+                        .filter(g -> g.getGameDate().equals(args[0]) && g.getStatus().equals(args[1]))
+                        .collect(Collectors.toList()),
+                "findById", args -> Optional.ofNullable(gamesById.get((Long) args[0]))));
+    }
+
+    public PlayersRepository playersRepository() {
+        return stub(PlayersRepository.class, Map.of(
+                "findByTeamIdInAndStatus", args -> {
+                    @SuppressWarnings("unchecked")
+                    Set<Long> teamIds = (Set<Long>) args[0];
+                    return players.stream()
+                            .filter(p -> teamIds.contains(p.getTeam().getId()) && p.getStatus() == args[1])
+                            .collect(Collectors.toList());
+                },
+                "findWithTeamById", args -> players.stream()
+                        .filter(p -> p.getId().equals(args[0]))
+                        .findFirst()));
+    }
+
+    public AdvancedGameStatsRepository advancedGameStatsRepository() {
+        return stub(AdvancedGameStatsRepository.class, Map.of(
+                "findGameRatingTotalsSince", args -> ratingTotals.stream()
+                        .filter(totals -> !totals.gameDate().isBefore((LocalDate) args[0]))
+                        .collect(Collectors.toList())));
+    }
+
+    /**
+     * An empty hit-rate table, so services compute every line from the synthetic game logs.
+     */
+    public HitRatesRepository hitRatesRepository() {
+        return stub(HitRatesRepository.class, Map.of(
+                "findForPlayers", args -> List.of(),
+                "findByPlayerIdAndCategoryAndThresholdAndTimePeriod", args -> Optional.empty()));
+    }
+
+    private static <T> T stub(Class<T> type, Map<String, Function<Object[], Object>> handlers) {
+        Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (self, method, args) -> {
+            Function<Object[], Object> handler = handlers.get(method.getName());
+            if (handler != null) {
+                return handler.apply(args);
+            }
+            return switch (method.getName()) {
+                case "toString" -> type.getSimpleName() + " (synthetic)";
+                case "hashCode" -> System.identityHashCode(self);
+                case "equals" -> self == args[0];
+                default -> throw new UnsupportedOperationException(
+                        type.getSimpleName() + "." + method.getName() + " is not available in benchmarks");
+            };
+        });
+        return type.cast(proxy);
+    }
+}
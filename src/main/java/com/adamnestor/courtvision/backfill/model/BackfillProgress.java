@@ -0,0 +1,92 @@
+package com.adamnestor.courtvision.backfill.model;
+
+import com.adamnestor.courtvision.domain.BackfillJob;
+import com.adamnestor.courtvision.domain.BackfillStatus;
+import com.adamnestor.courtvision.domain.BackfillUnit;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Progress of a backfill job, derived from its unit checkpoints. Throughput and ETA are
+ * measured over the current (or last) run only, so a resumed job is not skewed by the
+ * days completed before it was interrupted.
+ */
+public record BackfillProgress(
+        Long jobId,
+        String description,
+        BackfillStatus status,
+        LocalDate startDate,
+        LocalDate endDate,
+        int totalUnits,
+        int completedUnits,
+        int failedUnits,
+        int pendingUnits,
+        long gamesProcessed,
+        long rowsWritten,
+        long apiCalls,
+        int errors,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        Long elapsedSeconds,
+        Double unitsPerMinute,
+        Double gamesPerMinute,
+        Long etaSeconds,
+        String lastError
+) {
+    public static BackfillProgress of(BackfillJob job, List<BackfillUnit> units, LocalDateTime now) {
+        int completed = 0;
+        int failed = 0;
+        long games = 0;
+        long rows = 0;
+        long apiCalls = 0;
+        int errors = 0;
+        int completedThisRun = 0;
+        long gamesThisRun = 0;
+        String lastError = null;
+
+        for (BackfillUnit unit : units) {
+            apiCalls += unit.getApiCalls();
+            // Every attempt except a unit's final successful one ended in an error
+            errors += unit.getAttempts() - (unit.getStatus() == BackfillStatus.COMPLETED ? 1 : 0);
+            if (unit.getStatus() == BackfillStatus.COMPLETED) {
+                completed++;
+                games += unit.getGamesProcessed();
+                rows += unit.getRowsWritten();
+                if (job.getStartedAt() != null && !unit.getCompletedAt().isBefore(job.getStartedAt())) {
+                    completedThisRun++;
+                    gamesThisRun += unit.getGamesProcessed();
+                }
+            } else if (unit.getStatus() == BackfillStatus.FAILED) {
+                failed++;
+                lastError = unit.getLastError();
+            }
+        }
+        int pending = units.size() - completed - failed;
+
+        Long elapsedSeconds = null;
+        Double unitsPerMinute = null;
+        Double gamesPerMinute = null;
+        Long etaSeconds = null;
+        if (job.getStartedAt() != null) {
+            LocalDateTime end = job.getFinishedAt() != null ? job.getFinishedAt() : now;
+            Duration elapsed = Duration.between(job.getStartedAt(), end);
+            elapsedSeconds = elapsed.toSeconds();
+            double minutes = elapsed.toMillis() / 60_000.0;
+            if (minutes > 0) {
+                unitsPerMinute = completedThisRun / minutes;
+                gamesPerMinute = gamesThisRun / minutes;
+            }
+            if (job.getStatus() == BackfillStatus.RUNNING && completedThisRun > 0) {
+                etaSeconds = Math.round(pending * elapsed.toMillis() / 1000.0 / completedThisRun);
+            }
+        }
+
+        return new BackfillProgress(job.getId(), job.getDescription(), job.getStatus(),
+                job.getStartDate(), job.getEndDate(), units.size(), completed, failed, pending,
+                games, rows, apiCalls, errors, job.getStartedAt(), job.getFinishedAt(),
+                elapsedSeconds, unitsPerMinute, gamesPerMinute, etaSeconds, lastError);
+    }
+}
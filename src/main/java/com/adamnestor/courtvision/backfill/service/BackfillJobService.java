@@ -0,0 +1,56 @@
+package com.adamnestor.courtvision.backfill.service;
+
+import com.adamnestor.courtvision.backfill.model.BackfillProgress;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface BackfillJobService {
+    /**
+     * Creates a job with one checkpointed unit per day of the month and starts it on the
+     * backfill worker pool.
+     *
+     * @param year The calendar year
+     * @param month The calendar month (1-12)
+     * @return Progress of the newly started job
+     */
+    BackfillProgress startMonth(int year, int month);
+
+    /**
+     * Creates a job covering October of the season year through June of the next year
+     * and starts it on the backfill worker pool.
+     *
+     * @param season The season year (e.g., 2024)
+     * @return Progress of the newly started job
+     */
+    BackfillProgress startSeason(int season);
+
+    /**
+     * Restarts a job that is not running, processing its pending and failed units only.
+     *
+     * @param jobId The job ID
+     * @return Progress of the resumed job
+     * @throws IllegalArgumentException if the job does not exist
+     * @throws IllegalStateException if the job is already running
+     */
+    BackfillProgress resume(Long jobId);
+
+    /**
+     * Cancels a job. A running job stops dispatching units: days already in flight finish,
+     * the rest stay pending and the job is marked cancelled once its workers drain. A
+     * cancelled job can be resumed later.
+     *
+     * @param jobId The job ID
+     * @return Progress of the job after the cancellation request
+     * @throws IllegalArgumentException if the job does not exist
+     * @throws IllegalStateException if the job has already completed
+     */
+    BackfillProgress cancel(Long jobId);
+
+    Optional<BackfillProgress> getProgress(Long jobId);
+
+    /**
+     * Gets progress for the most recent jobs, newest first
+     */
+    List<BackfillProgress> getRecentJobs();
+}
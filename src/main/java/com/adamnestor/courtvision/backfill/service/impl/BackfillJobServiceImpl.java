@@ -0,0 +1,347 @@
+package com.adamnestor.courtvision.backfill.service.impl;
+
+import com.adamnestor.courtvision.config.ReadWriteRoutingDataSource;
+import com.adamnestor.courtvision.config.UsePrimaryDataSource;
+import com.adamnestor.courtvision.backfill.model.BackfillProgress;
+import com.adamnestor.courtvision.backfill.service.BackfillJobService;
+import com.adamnestor.courtvision.api.model.ApiAdvancedStats;
+import com.adamnestor.courtvision.api.model.ApiGame;
+import com.adamnestor.courtvision.api.model.ApiGameStats;
+import com.adamnestor.courtvision.client.ApiCallTracker;
+import com.adamnestor.courtvision.domain.BackfillJob;
+import com.adamnestor.courtvision.domain.BackfillStatus;
+import com.adamnestor.courtvision.domain.BackfillUnit;
+import com.adamnestor.courtvision.domain.Games;
+import com.adamnestor.courtvision.repository.BackfillJobRepository;
+import com.adamnestor.courtvision.repository.BackfillUnitRepository;
+import com.adamnestor.courtvision.service.AdvancedStatsService;
+import com.adamnestor.courtvision.service.BallDontLieService;
+import com.adamnestor.courtvision.service.GameService;
+import com.adamnestor.courtvision.service.StatsService;
+import com.adamnestor.courtvision.service.feature.GameFeatureStage;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Runs historical backfills as jobs of per-day units on a bounded worker pool. Each unit
+ * fetches one day's games and their stats, then commits them together with its checkpoint
+ * in its own transaction, so no connection is held while a worker waits on the API. API calls
+ * share the client's rate limiter, so the pool size only bounds how many days are in flight. Admin requests only create and dispatch jobs, so
+ * long imports never hold a request thread or its connection.
+ */
+@Service
+@UsePrimaryDataSource
+public class BackfillJobServiceImpl implements BackfillJobService {
+    private static final Logger logger = LoggerFactory.getLogger(BackfillJobServiceImpl.class);
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final BackfillJobRepository jobRepository;
+    private final BackfillUnitRepository unitRepository;
+    private final BallDontLieService ballDontLieService;
+    private final GameService gameService;
+    private final StatsService statsService;
+    private final AdvancedStatsService advancedStatsService;
+    private final GameFeatureStage gameFeatureStage;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService workers;
+    private final Set<Long> runningJobs = ConcurrentHashMap.newKeySet();
+    private final Set<Long> cancelledJobs = ConcurrentHashMap.newKeySet();
+
+    public BackfillJobServiceImpl(
+            BackfillJobRepository jobRepository,
+            BackfillUnitRepository unitRepository,
+            BallDontLieService ballDontLieService,
+            GameService gameService,
+            StatsService statsService,
+            AdvancedStatsService advancedStatsService,
+            GameFeatureStage gameFeatureStage,
+            PlatformTransactionManager transactionManager,
+            @Value("${backfill.workers:4}") int workerCount) {
+        this.jobRepository = jobRepository;
+        this.unitRepository = unitRepository;
+        this.ballDontLieService = ballDontLieService;
+        this.gameService = gameService;
+        this.statsService = statsService;
+        this.advancedStatsService = advancedStatsService;
+        this.gameFeatureStage = gameFeatureStage;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.workers = Executors.newFixedThreadPool(workerCount, new CustomizableThreadFactory("backfill-"));
+    }
+
+    @Override
+    public BackfillProgress startMonth(int year, int month) {
+        YearMonth yearMonth = YearMonth.of(year, month);
+        return start(String.format("%d/%02d", year, month), yearMonth.atDay(1), yearMonth.atEndOfMonth());
+    }
+
+    @Override
+    public BackfillProgress startSeason(int season) {
+        // Same October-June window as GameService.getAndUpdateGamesBySeason
+        return start("Season " + season, LocalDate.of(season, 10, 1), LocalDate.of(season + 1, 6, 30));
+    }
+
+    @Override
+    public BackfillProgress resume(Long jobId) {
+        dispatch(jobId);
+        return getProgress(jobId).orElseThrow();
+    }
+
+    @Override
+    public BackfillProgress cancel(Long jobId) {
+        BackfillJob job = jobRepository.findById(jobId)
+            .orElseThrow(() -> new IllegalArgumentException("Backfill job not found: " + jobId));
+        if (job.getStatus() == BackfillStatus.COMPLETED) {
+            throw new IllegalStateException("Backfill job " + jobId + " has already completed");
+        }
+
+        if (runningJobs.contains(jobId)) {
+            // Queued units see the flag and skip; finish() marks the job cancelled
+            cancelledJobs.add(jobId);
+            logger.info("Cancellation requested for backfill job {}", jobId);
+        } else {
+            transactionTemplate.executeWithoutResult(status -> {
+                job.setStatus(BackfillStatus.CANCELLED);
+                job.setFinishedAt(LocalDateTime.now());
+                jobRepository.save(job);
+            });
+            logger.info("Cancelled backfill job {}", jobId);
+        }
+        return getProgress(jobId).orElseThrow();
+    }
+
+    @Override
+    public Optional<BackfillProgress> getProgress(Long jobId) {
+        return jobRepository.findById(jobId)
+            .map(job -> BackfillProgress.of(job, unitRepository.findByJobIdOrderByGameDateAsc(jobId), LocalDateTime.now()));
+    }
+
+    @Override
+    public List<BackfillProgress> getRecentJobs() {
+        List<BackfillJob> jobs = jobRepository.findTop20ByOrderByIdDesc();
+        Map<Long, List<BackfillUnit>> unitsByJob = unitRepository
+            .findByJobIdIn(jobs.stream().map(BackfillJob::getId).collect(Collectors.toList()))
+            .stream()
+            .collect(Collectors.groupingBy(BackfillUnit::getJobId));
+        LocalDateTime now = LocalDateTime.now();
+        return jobs.stream()
+            .map(job -> BackfillProgress.of(job, unitsByJob.getOrDefault(job.getId(), List.of()), now))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Jobs still marked running after a restart lost their workers; flag them so they can be resumed.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void markInterruptedJobs() {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (BackfillJob job : jobRepository.findByStatus(BackfillStatus.RUNNING)) {
+                logger.warn("Backfill job {} ({}) was interrupted and can be resumed", job.getId(), job.getDescription());
+                job.setStatus(BackfillStatus.INTERRUPTED);
+                jobRepository.save(job);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    private BackfillProgress start(String description, LocalDate startDate, LocalDate endDate) {
+        BackfillJob job = transactionTemplate.execute(status -> {
+            BackfillJob newJob = new BackfillJob();
+            newJob.setDescription(description);
+            newJob.setStartDate(startDate);
+            newJob.setEndDate(endDate);
+            newJob.setStatus(BackfillStatus.PENDING);
+            newJob = jobRepository.save(newJob);
+
+            List<BackfillUnit> units = new ArrayList<>();
+            for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+                BackfillUnit unit = new BackfillUnit();
+                unit.setJobId(newJob.getId());
+                unit.setGameDate(date);
+                unit.setStatus(BackfillStatus.PENDING);
+                units.add(unit);
+            }
+            unitRepository.saveAll(units);
+            return newJob;
+        });
+
+        logger.info("Created backfill job {} for {} ({} to {})", job.getId(), description, startDate, endDate);
+        return resume(job.getId());
+    }
+
+    private void dispatch(Long jobId) {
+        if (!runningJobs.add(jobId)) {
+            throw new IllegalStateException("Backfill job " + jobId + " is already running");
+        }
+        cancelledJobs.remove(jobId);
+        try {
+            List<Long> unitIds = transactionTemplate.execute(status -> {
+                BackfillJob job = jobRepository.findById(jobId)
+                    .orElseThrow(() -> new IllegalArgumentException("Backfill job not found: " + jobId));
+                job.setStatus(BackfillStatus.RUNNING);
+                job.setStartedAt(LocalDateTime.now());
+                job.setFinishedAt(null);
+                jobRepository.save(job);
+                return unitRepository.findByJobIdAndStatusInOrderByGameDateAsc(
+                        jobId, List.of(BackfillStatus.PENDING, BackfillStatus.FAILED))
+                    .stream()
+                    .map(BackfillUnit::getId)
+                    .collect(Collectors.toList());
+            });
+
+            logger.info("Dispatching {} units of backfill job {}", unitIds.size(), jobId);
+            CompletableFuture<?>[] tasks = unitIds.stream()
+                .map(unitId -> CompletableFuture.runAsync(
+                    ReadWriteRoutingDataSource.propagating(() -> runUnit(jobId, unitId)), workers))
+                .toArray(CompletableFuture[]::new);
+            Runnable finish = ReadWriteRoutingDataSource.propagating(() -> finish(jobId));
+            CompletableFuture.allOf(tasks).whenComplete((ignored, error) -> finish.run());
+        } catch (RuntimeException e) {
+            runningJobs.remove(jobId);
+            throw e;
+        }
+    }
+
+    private void runUnit(Long jobId, Long unitId) {
+        if (cancelledJobs.contains(jobId)) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        LongAdder apiCalls = new LongAdder();
+        try {
+            LocalDate gameDate = unitRepository.findById(unitId).orElseThrow().getGameDate();
+            UnitData data = ApiCallTracker.track(apiCalls, () -> fetch(gameDate));
+
+            // Only the upserts and the checkpoint run in the transaction, not the rate-limited API waits
+            transactionTemplate.execute(status -> {
+                BackfillUnit unit = unitRepository.findById(unitId).orElseThrow();
+                List<Games> finalGames = gameService.updateGames(data.games()).stream()
+                    .filter(game -> "Final".equals(game.getStatus()))
+                    .collect(Collectors.toList());
+
+                int rowsWritten = 0;
+                if (!finalGames.isEmpty()) {
+                    rowsWritten += statsService.updateGameStats(finalGames, data.stats()).values().stream()
+                        .mapToInt(List::size).sum();
+                    rowsWritten += advancedStatsService.updateGameAdvancedStats(finalGames, data.advancedStats())
+                        .values().stream().mapToInt(List::size).sum();
+                }
+
+                // Checkpoint commits with the unit's data
+                unit.setStatus(BackfillStatus.COMPLETED);
+                unit.setAttempts(unit.getAttempts() + 1);
+                unit.setGamesProcessed(finalGames.size());
+                unit.setRowsWritten(rowsWritten);
+                unit.setApiCalls(unit.getApiCalls() + apiCalls.sum());
+                unit.setDurationMs(System.currentTimeMillis() - start);
+                unit.setCompletedAt(LocalDateTime.now());
+                unit.setLastError(null);
+                unitRepository.save(unit);
+                logger.debug("Backfilled {}: {} games, {} rows", unit.getGameDate(), finalGames.size(), rowsWritten);
+                return unit;
+            });
+        } catch (RuntimeException e) {
+            logger.error("Backfill unit {} failed: {}", unitId, e.getMessage());
+            String error = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            transactionTemplate.executeWithoutResult(status -> unitRepository.findById(unitId).ifPresent(unit -> {
+                unit.setStatus(BackfillStatus.FAILED);
+                unit.setAttempts(unit.getAttempts() + 1);
+                unit.setApiCalls(unit.getApiCalls() + apiCalls.sum());
+                unit.setDurationMs(System.currentTimeMillis() - start);
+                unit.setLastError(error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+                unitRepository.save(unit);
+            }));
+        }
+    }
+
+    /**
+     * Units commit concurrently and out of order, so rest features computed at ingest may have missed
+     * a neighbouring day; one pass over the job's range settles them once every unit has finished.
+     */
+    private void recomputeFeatures(Long jobId) {
+        List<BackfillUnit> units = unitRepository.findByJobIdOrderByGameDateAsc(jobId);
+        if (units.stream().noneMatch(unit -> unit.getStatus() == BackfillStatus.COMPLETED)) {
+            return;
+        }
+        try {
+            gameFeatureStage.recompute(units.get(0).getGameDate(), units.get(units.size() - 1).getGameDate());
+        } catch (RuntimeException e) {
+            logger.error("Error recomputing game features for backfill job {}: {}", jobId, e.getMessage(), e);
+        }
+    }
+
+    private record UnitData(
+        List<ApiGame> games,
+        Map<Long, List<ApiGameStats>> stats,
+        Map<Long, List<ApiAdvancedStats>> advancedStats) {}
+
+    /**
+     * Fetches one day's games and the stats of its final games, outside any transaction.
+     */
+    private UnitData fetch(LocalDate gameDate) {
+        List<ApiGame> games = ballDontLieService.getGames(gameDate);
+        List<Long> finalGameIds = games.stream()
+            .filter(game -> "Final".equals(game.getStatus()))
+            .map(ApiGame::getId)
+            .collect(Collectors.toList());
+        if (finalGameIds.isEmpty()) {
+            return new UnitData(games, Map.of(), Map.of());
+        }
+        return new UnitData(games,
+            ballDontLieService.getGameStats(finalGameIds),
+            ballDontLieService.getAdvancedGameStats(finalGameIds));
+    }
+
+    private void finish(Long jobId) {
+        try {
+            recomputeFeatures(jobId);
+            transactionTemplate.executeWithoutResult(status -> jobRepository.findById(jobId).ifPresent(job -> {
+                boolean incomplete = unitRepository.findByJobIdOrderByGameDateAsc(jobId).stream()
+                    .anyMatch(unit -> unit.getStatus() != BackfillStatus.COMPLETED);
+                if (!incomplete) {
+                    job.setStatus(BackfillStatus.COMPLETED);
+                } else if (cancelledJobs.contains(jobId)) {
+                    job.setStatus(BackfillStatus.CANCELLED);
+                } else {
+                    job.setStatus(BackfillStatus.FAILED);
+                }
+                job.setFinishedAt(LocalDateTime.now());
+                jobRepository.save(job);
+                logger.info("Backfill job {} ({}) finished: {}", jobId, job.getDescription(), job.getStatus());
+            }));
+        } catch (RuntimeException e) {
+            logger.error("Error finishing backfill job {}: {}", jobId, e.getMessage(), e);
+        } finally {
+            cancelledJobs.remove(jobId);
+            runningJobs.remove(jobId);
+        }
+    }
+}
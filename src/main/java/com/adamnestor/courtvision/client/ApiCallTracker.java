@@ -0,0 +1,43 @@
+package com.adamnestor.courtvision.client;
+
+import reactor.util.context.Context;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Attributes BallDontLie requests to a unit of work. A counter bound to the calling thread
+ * is carried into the client's reactive pipeline through the Reactor context, so pages and
+ * retries issued on I/O threads are still counted against the caller.
+ */
+public final class ApiCallTracker {
+    static final String CONTEXT_KEY = ApiCallTracker.class.getName();
+
+    private static final ThreadLocal<LongAdder> CURRENT = new ThreadLocal<>();
+
+    private ApiCallTracker() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Runs the work with every API request it makes on this thread counted in {@code counter}.
+     */
+    public static <T> T track(LongAdder counter, Supplier<T> work) {
+        LongAdder previous = CURRENT.get();
+        CURRENT.set(counter);
+        try {
+            return work.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    static Context capture(Context context) {
+        LongAdder counter = CURRENT.get();
+        return counter != null ? context.put(CONTEXT_KEY, counter) : context;
+    }
+}
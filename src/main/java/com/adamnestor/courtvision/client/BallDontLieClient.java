@@ -11,84 +11,78 @@ import com.adamnestor.courtvision.exception.ApiRateLimitException;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
-import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.util.UriBuilder;
 
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.util.retry.Retry;
 
-import java.util.function.Supplier;
+import java.net.URI;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.time.Duration;
-import java.util.ArrayList;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
+/**
+ * BallDontLie API client. Every request passes through a shared token bucket sized to the
+ * API tier; cursor-paginated endpoints are walked reactively, and independent queries (such
+ * as batches of game IDs) are pipelined concurrently so bulk imports are bound by the rate
+ * limit rather than by request latency.
+ */
 @Component
 public class BallDontLieClient {
     private static final Logger log = LoggerFactory.getLogger(BallDontLieClient.class);
     private static final int MAX_RETRIES = 3;
-    private static final String baseUrl = "https://www.balldontlie.io/api/v1";
+    private static final Duration RETRY_BACKOFF = Duration.ofMillis(500);
+    private static final int PER_PAGE = 100;
+
+    private static final ParameterizedTypeReference<ApiResponse<List<ApiGame>>> GAMES =
+        new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<ApiResponse<List<ApiTeam>>> TEAMS =
+        new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<ApiResponse<List<ApiPlayer>>> PLAYERS =
+        new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<ApiResponse<ApiPlayer>> PLAYER =
+        new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<ApiResponse<List<ApiGameStats>>> GAME_STATS =
+        new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<ApiResponse<List<ApiAdvancedStats>>> ADVANCED_STATS =
+        new ParameterizedTypeReference<>() {};
+
     private final WebClient webClient;
+    private final TokenBucketRateLimiter rateLimiter;
+    private final int maxConcurrency;
+    private final int gamesPerRequest;
 
-    public BallDontLieClient(WebClient.Builder webClientBuilder) {
+    public BallDontLieClient(
+            WebClient.Builder webClientBuilder,
+            @Value("${balldontlie.rate-limit.requests-per-minute:600}") int requestsPerMinute,
+            @Value("${balldontlie.rate-limit.max-concurrency:8}") int maxConcurrency,
+            @Value("${balldontlie.stats.games-per-request:25}") int gamesPerRequest) {
         this.webClient = webClientBuilder.build();
+        this.rateLimiter = new TokenBucketRateLimiter(requestsPerMinute, Math.max(1, requestsPerMinute / 60));
+        this.maxConcurrency = maxConcurrency;
+        this.gamesPerRequest = Math.max(1, gamesPerRequest);
     }
 
     public List<ApiGame> getGames(LocalDate date) {
         log.debug("Executing API operation: getGames for date: {}", date);
-        return webClient.get()
-            .uri(uriBuilder -> uriBuilder
-                .path("/games")
-                .queryParam("dates[]", date.toString())
-                .build())
-            .retrieve()
-            .onStatus(status -> status.is5xxServerError(), response -> {
-                log.error("Server error: {}", response.statusCode());
-                return Mono.error(new ApiException("Server error: " + response.statusCode()));
-            })
-            .onStatus(status -> status.value() == 429, response -> {
-                log.warn("Rate limit exceeded");
-                return Mono.error(new ApiRateLimitException("Rate limit exceeded"));
-            })
-            .onStatus(status -> status.is4xxClientError(), response -> {
-                log.error("Client error: {}", response.statusCode());
-                return Mono.error(new ApiException("Client error: " + response.statusCode()));
-            })
-            .bodyToMono(new ParameterizedTypeReference<ApiResponse<List<ApiGame>>>() {})
-            .map(ApiResponse::getData)
-            .retryWhen(Retry.backoff(MAX_RETRIES, Duration.ofMillis(10))
-                .filter(throwable -> throwable instanceof ApiException 
-                    && !(throwable instanceof ApiRateLimitException)
-                    && !(throwable instanceof ApiException && throwable.getMessage().contains("Client error"))))
-            .block();
-    }
-
-    protected <T> T handleApiCall(Supplier<T> apiCall, String operation) {
-        try {
-            log.debug("Executing API operation: {}", operation);
-            return apiCall.get();
-        } catch (WebClientResponseException e) {
-            log.error("API error during {}: {} - {}", operation, e.getStatusCode(), e.getMessage());
-            
-            if (e.getStatusCode() == HttpStatus.TOO_MANY_REQUESTS) {
-                log.warn("Rate limit exceeded during {}", operation);
-                throw new ApiRateLimitException("Rate limit exceeded", e);
-            }
-            
-            if (e.getStatusCode().is5xxServerError()) {
-                log.error("Server error during {}, will retry", operation);
-                throw new ApiException("Server error: " + e.getMessage(), e);
-            }
-            
-            throw new ApiException("API call failed: " + e.getMessage(), e);
-        } catch (Exception e) {
-            log.error("Unexpected error during {}: {}", operation, e.getMessage());
-            throw new ApiException("Unexpected error: " + e.getMessage(), e);
-        }
+        return await(fetchAllPages(
+                paged("/games", uriBuilder -> uriBuilder.queryParam("dates[]", date.toString())),
+                GAMES, "getGames")
+            .collectList());
     }
 
     public WebClient.RequestHeadersUriSpec<?> get() {
@@ -96,245 +90,232 @@ public class BallDontLieClient {
     }
 
     public List<ApiTeam> getAllTeams() {
-        return handleApiCall(() -> webClient.get()
-            .uri("/teams")
-            .retrieve()
-            .bodyToMono(new ParameterizedTypeReference<ApiResponse<List<ApiTeam>>>() {})
-            .block()
-            .getData(),
-            "getAllTeams");
+        return dataOf(await(request(uriBuilder -> uriBuilder.path("/teams").build(), TEAMS, "getAllTeams")));
     }
 
     public List<ApiPlayer> getAllPlayers() {
-        List<ApiPlayer> allPlayers = new ArrayList<>();
-        AtomicInteger nextCursor = new AtomicInteger(0);  // 0 indicates first page
-        int pageCount = 0;
-        
-        do {
-            pageCount++;
-            log.info("Fetching players page {}", pageCount);
-            
-            ApiResponse<List<ApiPlayer>> response = handleApiCall(() -> webClient.get()
-                .uri(uriBuilder -> {
-                    uriBuilder.path("/players/active");
-                    if (nextCursor.get() != 0) {
-                        uriBuilder.queryParam("cursor", nextCursor.get());
-                    }
-                    return uriBuilder.build();
-                })
-                .retrieve()
-                .bodyToMono(new ParameterizedTypeReference<ApiResponse<List<ApiPlayer>>>() {})
-                .block(),
-                "getAllPlayers");
-            
-            if (response != null && response.getData() != null) {
-                int newPlayers = response.getData().size();
-                allPlayers.addAll(response.getData());
-                log.info("Retrieved {} players from page {}. Total so far: {}", 
-                    newPlayers, pageCount, allPlayers.size());
-                
-                if (response.getMeta() != null) {
-                    log.debug("Meta info - next_cursor: {}, per_page: {}, total_pages: {}, total_count: {}", 
-                        response.getMeta().getNext_cursor(),
-                        response.getMeta().getPer_page(),
-                        response.getMeta().getTotal_pages(),
-                        response.getMeta().getTotal_count());
-                }
-                
-                Integer next = response.getMeta() != null ? response.getMeta().getNext_cursor() : null;
-                nextCursor.set(next != null ? next : -1);
-                
-                try {
-                    Thread.sleep(100);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                }
-            }
-        } while (nextCursor.get() >= 0);
-        
-        log.info("Completed player fetch. Retrieved {} players in {} pages", allPlayers.size(), pageCount);
+        List<ApiPlayer> allPlayers = await(fetchAllPages(paged("/players/active", uriBuilder -> {}), PLAYERS, "getAllPlayers")
+            .collectList());
+
+        log.info("Completed player fetch. Retrieved {} players", allPlayers.size());
         return allPlayers;
     }
 
     public ApiPlayer getPlayer(Long id) {
-        return handleApiCall(() -> {
-            log.debug("Fetching player with ID: {}", id);
-            var response = webClient.get()
-                .uri("/players/" + id)
-                .retrieve()
-                .bodyToMono(new ParameterizedTypeReference<ApiResponse<ApiPlayer>>() {})
-                .block();
-            if (response != null) {
-                Object rawData = response.getData();
-                log.debug("Raw response data type for player {}: {}", id, 
-                    rawData != null ? rawData.getClass().getName() : "null");
-                if (rawData instanceof List) {
-                    log.warn("Received List instead of single player for ID: {}", id);
-                    List<?> dataList = (List<?>) rawData;
-                    if (!dataList.isEmpty()) {
-                        return (ApiPlayer) dataList.get(0);  // Take first player if multiple returned
-                    }
+        log.debug("Fetching player with ID: {}", id);
+        var response = await(request(uriBuilder -> uriBuilder.path("/players/" + id).build(), PLAYER, "getPlayer"));
+        if (response != null) {
+            Object rawData = response.getData();
+            log.debug("Raw response data type for player {}: {}", id,
+                rawData != null ? rawData.getClass().getName() : "null");
+            if (rawData instanceof List) {
+                log.warn("Received List instead of single player for ID: {}", id);
+                List<?> dataList = (List<?>) rawData;
+                if (!dataList.isEmpty()) {
+                    return (ApiPlayer) dataList.get(0);  // Take first player if multiple returned
                 }
             }
-            return response != null ? response.getData() : null;
-        }, "getPlayer");
+        }
+        return response != null ? response.getData() : null;
     }
 
     public List<ApiPlayer> getPlayersByTeam(Long teamId) {
-        return handleApiCall(() -> webClient.get()
-            .uri(uriBuilder -> uriBuilder
-                .path("/players")
-                .queryParam("team_ids[]", teamId)
-                .build())
-            .retrieve()
-            .bodyToMono(new ParameterizedTypeReference<ApiResponse<List<ApiPlayer>>>() {})
-            .block()
-            .getData(),
-            "getPlayersByTeam");
+        return await(fetchAllPages(
+                paged("/players", uriBuilder -> uriBuilder.queryParam("team_ids[]", teamId)),
+                PLAYERS, "getPlayersByTeam")
+            .collectList());
     }
 
     public List<ApiGameStats> getGameStats(Long gameId) {
-        List<ApiGameStats> allStats = new ArrayList<>();
-        AtomicInteger nextCursor = new AtomicInteger(0);  // 0 indicates first page
-        
-        do {
-            ApiResponse<List<ApiGameStats>> response = handleApiCall(() -> webClient.get()
-                .uri(uriBuilder -> {
-                    uriBuilder.path("/stats")
-                        .queryParam("game_ids[]", gameId);
-                    if (nextCursor.get() > 0) {
-                        uriBuilder.queryParam("cursor", nextCursor.get());
-                    }
-                    return uriBuilder.build();
-                })
-                .retrieve()
-                .bodyToMono(new ParameterizedTypeReference<ApiResponse<List<ApiGameStats>>>() {})
-                .block(),
-                "getGameStats");
-            
-            if (response != null && response.getData() != null) {
-                allStats.addAll(response.getData());
-                Integer next = response.getMeta() != null ? response.getMeta().getNext_cursor() : null;
-                nextCursor.set(next != null ? next : -1);
-                
-                // Add a small delay between requests to respect rate limits
-                try {
-                    Thread.sleep(100);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    break;
-                }
-            }
-        } while (nextCursor.get() >= 0);
-        
+        List<ApiGameStats> allStats = await(gameStats(List.of(gameId)).collectList());
         log.debug("Retrieved {} total stats entries for game {}", allStats.size(), gameId);
         return allStats;
     }
 
+    /**
+     * Fetches box scores for many games, several games per request, keyed by game ID in
+     * request order. Games the API returned no rows for map to an empty list.
+     */
+    public Map<Long, List<ApiGameStats>> getGameStats(Collection<Long> gameIds) {
+        return fetchByGame(gameIds, this::gameStats,
+            stat -> stat.getGame() != null ? stat.getGame().getId() : null, "getGameStats");
+    }
+
     public List<ApiAdvancedStats> getAdvancedGameStats(Long gameId) {
-        List<ApiAdvancedStats> allStats = new ArrayList<>();
-        AtomicInteger nextCursor = new AtomicInteger(0);  // 0 indicates first page
-        
-        do {
-            ApiResponse<List<ApiAdvancedStats>> response = handleApiCall(() -> webClient.get()
-                .uri(uriBuilder -> {
-                    uriBuilder.path("/stats/advanced")
-                        .queryParam("game_ids[]", gameId);
-                    if (nextCursor.get() > 0) {
-                        uriBuilder.queryParam("cursor", nextCursor.get());
-                    }
-                    return uriBuilder.build();
-                })
-                .retrieve()
-                .bodyToMono(new ParameterizedTypeReference<ApiResponse<List<ApiAdvancedStats>>>() {})
-                .block(),
-                "getAdvancedGameStats");
-            
-            if (response != null && response.getData() != null) {
-                allStats.addAll(response.getData());
-                Integer next = response.getMeta() != null ? response.getMeta().getNext_cursor() : null;
-                nextCursor.set(next != null ? next : -1);
-                
-                // Add a small delay between requests to respect rate limits
-                try {
-                    Thread.sleep(100);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    break;
-                }
-            }
-        } while (nextCursor.get() >= 0);
-        
+        List<ApiAdvancedStats> allStats = await(advancedGameStats(List.of(gameId)).collectList());
         log.debug("Retrieved {} total advanced stats entries for game {}", allStats.size(), gameId);
         return allStats;
     }
 
+    /**
+     * Fetches advanced stats for many games, several games per request, keyed by game ID in
+     * request order. Games the API returned no rows for map to an empty list.
+     */
+    public Map<Long, List<ApiAdvancedStats>> getAdvancedGameStats(Collection<Long> gameIds) {
+        return fetchByGame(gameIds, this::advancedGameStats,
+            stat -> stat.getGame() != null ? stat.getGame().getId() : null, "getAdvancedGameStats");
+    }
+
     public List<ApiAdvancedStats> getAdvancedSeasonStats(Long playerId, Integer season) {
-        return handleApiCall(() -> webClient.get()
-            .uri(uriBuilder -> uriBuilder
-                .path("/stats/advanced")
-                .queryParam("player_ids[]", playerId)
-                .queryParam("seasons[]", season)
-                .build())
-            .retrieve()
-            .bodyToMono(new ParameterizedTypeReference<ApiResponse<List<ApiAdvancedStats>>>() {})
-            .block()
-            .getData(),
-            "getAdvancedSeasonStats");
+        return await(fetchAllPages(
+                paged("/stats/advanced", uriBuilder -> uriBuilder
+                    .queryParam("player_ids[]", playerId)
+                    .queryParam("seasons[]", season)),
+                ADVANCED_STATS, "getAdvancedSeasonStats")
+            .collectList());
     }
 
     public List<ApiGame> getGamesByYearMonth(int year, int month) {
-        String url = String.format("%s/games?seasons[]=%d&start_date=%d-%02d-01&end_date=%d-%02d-31",
-            baseUrl, year, year, month, year, month);
-        
-        return fetchAllPages(url, ApiGame.class);
+        YearMonth yearMonth = YearMonth.of(year, month);
+        return await(fetchAllPages(
+                paged("/games", uriBuilder -> uriBuilder
+                    .queryParam("seasons[]", year)
+                    .queryParam("start_date", yearMonth.atDay(1).toString())
+                    .queryParam("end_date", yearMonth.atEndOfMonth().toString())),
+                GAMES, "getGamesByYearMonth")
+            .collectList());
     }
 
     public List<ApiGameStats> getPlayerSeasonStats(Long playerId, Integer season) {
-        return handleApiCall(() -> webClient.get()
-            .uri(uriBuilder -> uriBuilder
-                .path("/stats")
-                .queryParam("player_ids[]", playerId)
-                .queryParam("seasons[]", season)
-                .build())
-            .retrieve()
-            .bodyToMono(new ParameterizedTypeReference<ApiResponse<List<ApiGameStats>>>() {})
-            .block()
-            .getData(),
-            "getPlayerSeasonStats");
+        return await(fetchAllPages(
+                paged("/stats", uriBuilder -> uriBuilder
+                    .queryParam("player_ids[]", playerId)
+                    .queryParam("seasons[]", season)),
+                GAME_STATS, "getPlayerSeasonStats")
+            .collectList());
     }
 
     public List<ApiGame> getGamesByDateRange(LocalDate startDate, LocalDate endDate) {
-        List<ApiGame> allGames = new ArrayList<>();
-        LocalDate currentDate = startDate;
-        
-        while (!currentDate.isAfter(endDate)) {
-            allGames.addAll(getGames(currentDate));
-            currentDate = currentDate.plusDays(1);
+        return await(fetchAllPages(
+                paged("/games", uriBuilder -> uriBuilder
+                    .queryParam("start_date", startDate.toString())
+                    .queryParam("end_date", endDate.toString())),
+                GAMES, "getGamesByDateRange")
+            .collectList());
+    }
+
+    private Flux<ApiGameStats> gameStats(List<Long> gameIds) {
+        return fetchAllPages(
+                paged("/stats", uriBuilder -> uriBuilder.queryParam("game_ids[]", gameIds.toArray())),
+                GAME_STATS, "getGameStats");
+    }
+
+    private Flux<ApiAdvancedStats> advancedGameStats(List<Long> gameIds) {
+        return fetchAllPages(
+                paged("/stats/advanced", uriBuilder -> uriBuilder.queryParam("game_ids[]", gameIds.toArray())),
+                ADVANCED_STATS, "getAdvancedGameStats");
+    }
+
+    /**
+     * Splits the game IDs into batches of {@code gamesPerRequest}, pages through each batch's
+     * combined rows (up to {@code maxConcurrency} batches at a time) and demultiplexes the rows
+     * back to their games by the game ID each row carries.
+     */
+    private <T> Map<Long, List<T>> fetchByGame(
+            Collection<Long> gameIds,
+            Function<List<Long>, Flux<T>> query,
+            Function<T, Long> gameIdOf,
+            String operation) {
+        Map<Long, List<T>> byGame = new LinkedHashMap<>();
+        gameIds.forEach(gameId -> byGame.putIfAbsent(gameId, new ArrayList<>()));
+
+        List<Long> distinctIds = new ArrayList<>(byGame.keySet());
+        List<List<Long>> batches = new ArrayList<>();
+        for (int i = 0; i < distinctIds.size(); i += gamesPerRequest) {
+            batches.add(distinctIds.subList(i, Math.min(i + gamesPerRequest, distinctIds.size())));
+        }
+
+        List<T> rows = await(Flux.fromIterable(batches)
+            .flatMap(query, maxConcurrency)
+            .collectList());
+
+        for (T row : rows) {
+            List<T> gameRows = byGame.get(gameIdOf.apply(row));
+            if (gameRows == null) {
+                log.warn("Dropping {} row for unrequested game {}", operation, gameIdOf.apply(row));
+                continue;
+            }
+            gameRows.add(row);
         }
-        
-        return allGames;
+        log.debug("{}: {} rows for {} games in {} batches", operation, rows.size(), byGame.size(), batches.size());
+        return byGame;
     }
 
-    private <T> List<T> fetchAllPages(String url, Class<T> type) {
-        List<T> allItems = new ArrayList<>();
-        Integer nextCursor = null;
-        
-        do {
-            String pageUrl = nextCursor == null ? url : url + "&cursor=" + nextCursor;
-            var response = handleApiCall(() -> webClient.get()
-                .uri(pageUrl)
-                .retrieve()
-                .bodyToMono(new ParameterizedTypeReference<ApiResponse<List<T>>>() {})
-                .block(),
-                "fetchAllPages");
-            
-            if (response != null && response.getData() != null) {
-                allItems.addAll(response.getData());
-                nextCursor = response.getMeta() != null ? response.getMeta().getNext_cursor() : null;
+    /**
+     * Walks a cursor-paginated query: each page's {@code next_cursor} requests the next one
+     * until the API stops returning a cursor.
+     */
+    private <T> Flux<T> fetchAllPages(
+            Function<Integer, Function<UriBuilder, URI>> pageUri,
+            ParameterizedTypeReference<ApiResponse<List<T>>> type,
+            String operation) {
+        return request(pageUri.apply(null), type, operation)
+            .expand(response -> {
+                Integer next = response.getMeta() != null ? response.getMeta().getNext_cursor() : null;
+                return next != null ? request(pageUri.apply(next), type, operation) : Mono.empty();
+            })
+            .flatMapIterable(BallDontLieClient::dataOf);
+    }
+
+    private static Function<Integer, Function<UriBuilder, URI>> paged(String path, Consumer<UriBuilder> params) {
+        return cursor -> uriBuilder -> {
+            uriBuilder.path(path).queryParam("per_page", PER_PAGE);
+            params.accept(uriBuilder);
+            if (cursor != null) {
+                uriBuilder.queryParam("cursor", cursor);
             }
-        } while (nextCursor != null);
-        
-        return allItems;
+            return uriBuilder.build();
+        };
+    }
+
+    /**
+     * Blocks for the result, carrying the caller's {@link ApiCallTracker} counter (if any)
+     * into the pipeline.
+     */
+    private static <R> R await(Mono<R> mono) {
+        return mono.contextWrite(ApiCallTracker::capture).block();
+    }
+
+    /**
+     * Issues a single rate-limited request. Rate-limit and server errors are retried with
+     * backoff (each retry waits for a fresh token); client errors fail immediately.
+     */
+    private <R> Mono<R> request(Function<UriBuilder, URI> uri, ParameterizedTypeReference<R> type, String operation) {
+        return rateLimiter.acquire()
+            .then(Mono.deferContextual(context -> {
+                context.<LongAdder>getOrEmpty(ApiCallTracker.CONTEXT_KEY).ifPresent(LongAdder::increment);
+                return webClient.get()
+                    .uri(uri)
+                    .retrieve()
+                    .onStatus(status -> status.value() == 429, response -> {
+                        log.warn("Rate limit exceeded during {}", operation);
+                        return Mono.error(new ApiRateLimitException("Rate limit exceeded"));
+                    })
+                    .onStatus(HttpStatusCode::is5xxServerError, response -> {
+                        log.error("Server error during {}: {}", operation, response.statusCode());
+                        return Mono.error(new ApiException("Server error: " + response.statusCode()));
+                    })
+                    .onStatus(HttpStatusCode::is4xxClientError, response -> {
+                        log.error("Client error during {}: {}", operation, response.statusCode());
+                        return Mono.error(new ApiException("Client error: " + response.statusCode()));
+                    })
+                    .bodyToMono(type);
+            }))
+            .retryWhen(Retry.backoff(MAX_RETRIES, RETRY_BACKOFF)
+                .filter(BallDontLieClient::isRetryable)
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure()))
+            .onErrorMap(e -> !(e instanceof ApiException), e -> {
+                log.error("Unexpected error during {}: {}", operation, e.getMessage());
+                return new ApiException("Unexpected error: " + e.getMessage(), e);
+            });
+    }
+
+    private static boolean isRetryable(Throwable throwable) {
+        return throwable instanceof ApiRateLimitException
+            || (throwable instanceof ApiException && throwable.getMessage().startsWith("Server error"));
+    }
+
+    private static <T> List<T> dataOf(ApiResponse<List<T>> response) {
+        return response != null && response.getData() != null ? response.getData() : List.of();
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,46 @@
+package com.adamnestor.courtvision.client;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Token bucket sized to the API tier's request allowance.
+ * Each request reserves a token; when the bucket is empty the reservation is queued
+ * behind earlier ones and the caller is delayed (without blocking a thread) until its
+ * token refills, so concurrent callers are spread evenly across the allowed rate.
+ */
+public class TokenBucketRateLimiter {
+    private final double capacity;
+    private final double tokensPerNano;
+    private double tokens;
+    private long lastRefill;
+
+    public TokenBucketRateLimiter(int requestsPerMinute, int burst) {
+        if (requestsPerMinute <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("Rate limit and burst must be positive");
+        }
+        this.capacity = burst;
+        this.tokensPerNano = requestsPerMinute / (double) Duration.ofMinutes(1).toNanos();
+        this.tokens = burst;
+        this.lastRefill = System.nanoTime();
+    }
+
+    /**
+     * Completes once a token is available for the subscriber.
+     */
+    public Mono<Void> acquire() {
+        return Mono.defer(() -> {
+            long waitNanos = reserve();
+            return waitNanos == 0 ? Mono.empty() : Mono.delay(Duration.ofNanos(waitNanos)).then();
+        });
+    }
+
+    synchronized long reserve() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefill) * tokensPerNano);
+        lastRefill = now;
+        tokens -= 1;
+        return tokens >= 0 ? 0 : (long) Math.ceil(-tokens / tokensPerNano);
+    }
+}
@@ -0,0 +1,144 @@
+package com.adamnestor.courtvision.confidence.cache;
+
+import com.adamnestor.courtvision.config.ReadWriteRoutingDataSource;
+import com.adamnestor.courtvision.domain.StatCategory;
+import com.adamnestor.courtvision.event.AdvancedStatsIngestedEvent;
+import com.adamnestor.courtvision.event.GameStatsIngestedEvent;
+import com.adamnestor.courtvision.service.version.DataGeneration;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Caffeine caches for the components of a confidence score, one per component:
+ * <ul>
+ *   <li>{@code baseScores}: period average and hit margin behind the base score, per player, category,
+ *       threshold and period length</li>
+ *   <li>{@code recentForm}: last-5 vs season form score, per player and category</li>
+ *   <li>{@code restFactors}: days of rest before a game, per player and game</li>
+ *   <li>{@code matchupImpacts}: home court and opponent defense score, per team and game</li>
+ * </ul>
+ * Each cache is bounded ({@code confidence.cache.max-size}) and expires entries
+ * ({@code confidence.cache.ttl-minutes}) so the rolling 30-day team ratings cannot go stale for long.
+ * Entries are dropped once ingested stats commit: box scores invalidate the players' entries,
+ * advanced stats the matchups against the teams involved, and missed entries are computed against the
+ * primary while the replica may still lag the write (see {@link ReadWriteRoutingDataSource}). Hit ratio and evictions are published
+ * per cache as Micrometer {@code cache.*} meters tagged {@code cache=confidence.<name>}, and the time
+ * spent computing missed entries as the {@code confidence.cache.load} timer with the same tag.
+ */
+@Component
+public class ConfidenceComponentCache {
+    private static final Logger logger = LoggerFactory.getLogger(ConfidenceComponentCache.class);
+
+    public record BaseScoreKey(long playerId, StatCategory category, int threshold, int gamesCount) {}
+
+    public record RecentFormKey(long playerId, StatCategory category) {}
+
+    public record RestKey(long playerId, long gameId) {}
+
+    public record MatchupKey(long teamId, long gameId, long opponentTeamId) {}
+
+    /**
+     * Log-derived inputs to the base score: the category average and the average margin by which
+     * the threshold was cleared, both over the period's games.
+     */
+    public record BaseScoreInputs(double average, double averageMarginWhenHit) {}
+
+    private final Tier<BaseScoreKey, BaseScoreInputs> baseScores;
+    private final Tier<RecentFormKey, Integer> recentForm;
+    private final Tier<RestKey, Integer> restFactors;
+    private final Tier<MatchupKey, Long> matchupImpacts;
+
+    public ConfidenceComponentCache(
+            MeterRegistry meterRegistry,
+            @Value("${confidence.cache.max-size:20000}") long maxSize,
+            @Value("${confidence.cache.ttl-minutes:60}") long ttlMinutes) {
+        Duration ttl = Duration.ofMinutes(ttlMinutes);
+        this.baseScores = new Tier<>("baseScores", maxSize, ttl, meterRegistry);
+        this.recentForm = new Tier<>("recentForm", maxSize, ttl, meterRegistry);
+        this.restFactors = new Tier<>("restFactors", maxSize, ttl, meterRegistry);
+        this.matchupImpacts = new Tier<>("matchupImpacts", maxSize, ttl, meterRegistry);
+    }
+
+    public BaseScoreInputs baseScore(BaseScoreKey key, Function<BaseScoreKey, BaseScoreInputs> loader) {
+        return baseScores.get(key, loader);
+    }
+
+    public int recentForm(RecentFormKey key, Function<RecentFormKey, Integer> loader) {
+        return recentForm.get(key, loader);
+    }
+
+    public int daysOfRest(RestKey key, Function<RestKey, Integer> loader) {
+        return restFactors.get(key, loader);
+    }
+
+    public long matchupThousandths(MatchupKey key, Function<MatchupKey, Long> loader) {
+        return matchupImpacts.get(key, loader);
+    }
+
+    @Order(DataGeneration.INVALIDATION_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGameStatsIngested(GameStatsIngestedEvent event) {
+        Set<Long> playerIds = event.playerIds();
+        if (playerIds.isEmpty()) {
+            return;
+        }
+        baseScores.invalidateIf(key -> playerIds.contains(key.playerId()));
+        recentForm.invalidateIf(key -> playerIds.contains(key.playerId()));
+        restFactors.invalidateIf(key -> playerIds.contains(key.playerId()));
+        logger.debug("Invalidated confidence components for {} players", playerIds.size());
+    }
+
+    @Order(DataGeneration.INVALIDATION_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAdvancedStatsIngested(AdvancedStatsIngestedEvent event) {
+        Set<Long> teamIds = event.teamIds();
+        if (teamIds.isEmpty()) {
+            return;
+        }
+        matchupImpacts.invalidateIf(key -> teamIds.contains(key.opponentTeamId()));
+        logger.debug("Invalidated matchup impacts against {} teams", teamIds.size());
+    }
+
+    /**
+     * One component's cache with a timer around the computation of missed entries.
+     */
+    private static final class Tier<K, V> {
+        private final Cache<K, V> cache;
+        private final Timer loadTimer;
+
+        Tier(String name, long maxSize, Duration ttl, MeterRegistry meterRegistry) {
+            String cacheName = "confidence." + name;
+            this.cache = CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+                    .maximumSize(maxSize)
+                    .expireAfterWrite(ttl)
+                    .recordStats()
+                    .<K, V>build(), cacheName);
+            this.loadTimer = Timer.builder("confidence.cache.load")
+                    .tag("cache", cacheName)
+                    .register(meterRegistry);
+        }
+
+        V get(K key, Function<K, V> loader) {
+            return cache.get(key, missed -> loadTimer.record(
+                    () -> ReadWriteRoutingDataSource.onPrimaryAfterWrite(() -> loader.apply(missed))));
+        }
+
+        void invalidateIf(Predicate<K> stale) {
+            cache.asMap().keySet().removeIf(stale);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.adamnestor.courtvision.confidence.model;
+
+import com.adamnestor.courtvision.domain.Players;
+import com.adamnestor.courtvision.service.gamelog.PlayerGameLog;
+
+/**
+ * Preloaded inputs for scoring a player: the player and their complete game log
+ * (most recent first). All log-derived components are computed from this context
+ * without further repository access.
+ */
+public class ConfidenceContext {
+    private final Players player;
+    private final PlayerGameLog gameLog;
+
+    public ConfidenceContext(Players player, PlayerGameLog gameLog) {
+        if (!gameLog.isComplete()) {
+            throw new IllegalArgumentException("Confidence scoring requires a complete game log");
+        }
+        this.player = player;
+        this.gameLog = gameLog;
+    }
+
+    public Players getPlayer() {
+        return player;
+    }
+
+    public PlayerGameLog getGameLog() {
+        return gameLog;
+    }
+}
@@ -24,6 +24,13 @@ public class GameContext {
                 .add(defenseRatingFactor.multiply(new BigDecimal("0.6")));
     }
 
+    /**
+     * Same weighting as the overall score, on factors given in hundredths; the result is in thousandths.
+     */
+    public static long overallScoreThousandths(long homeCourtFactorHundredths, long defenseRatingFactorHundredths) {
+        return homeCourtFactorHundredths * 4 + defenseRatingFactorHundredths * 6;
+    }
+
     public BigDecimal getOverallScore() {
         return overallScore;
     }
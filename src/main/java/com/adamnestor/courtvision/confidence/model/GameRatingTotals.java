@@ -0,0 +1,56 @@
+package com.adamnestor.courtvision.confidence.model;
+
+import com.adamnestor.courtvision.domain.AdvancedGameStats;
+import com.adamnestor.courtvision.domain.Games;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Per-game sums and non-null counts of the advanced ratings recorded for a game.
+ * A game counts toward the rolling context of both its home and away team.
+ */
+public record GameRatingTotals(
+        Long gameId,
+        LocalDate gameDate,
+        Long homeTeamId,
+        Long awayTeamId,
+        BigDecimal defensiveRatingSum,
+        Long defensiveRatingCount,
+        Double paceSum,
+        Long paceCount,
+        BigDecimal netRatingSum,
+        Long netRatingCount) {
+
+    /**
+     * Totals of the advanced stats recorded for a game.
+     */
+    public static GameRatingTotals of(Games game, List<AdvancedGameStats> stats) {
+        BigDecimal defensiveRatingSum = BigDecimal.ZERO;
+        long defensiveRatingCount = 0;
+        double paceSum = 0;
+        long paceCount = 0;
+        BigDecimal netRatingSum = BigDecimal.ZERO;
+        long netRatingCount = 0;
+
+        for (AdvancedGameStats stat : stats) {
+            if (stat.getDefensiveRating() != null) {
+                defensiveRatingSum = defensiveRatingSum.add(stat.getDefensiveRating());
+                defensiveRatingCount++;
+            }
+            if (stat.getPace() != null) {
+                paceSum += stat.getPace();
+                paceCount++;
+            }
+            if (stat.getNetRating() != null) {
+                netRatingSum = netRatingSum.add(stat.getNetRating());
+                netRatingCount++;
+            }
+        }
+
+        return new GameRatingTotals(game.getId(), game.getGameDate(),
+                game.getHomeTeam().getId(), game.getAwayTeam().getId(),
+                defensiveRatingSum, defensiveRatingCount, paceSum, paceCount, netRatingSum, netRatingCount);
+    }
+}
@@ -12,10 +12,14 @@ public class RestImpact {
     }
 
     private BigDecimal calculateMultiplier() {
+        return BigDecimal.valueOf(multiplierHundredths(daysOfRest), 2);
+    }
+
+    public static int multiplierHundredths(int daysOfRest) {
         return switch (daysOfRest) {
-            case 0 -> new BigDecimal("0.93"); // Back-to-back
-            case 1 -> BigDecimal.ONE;         // Normal rest
-            default -> new BigDecimal("1.02"); // Extended rest
+            case 0 -> 93;     // Back-to-back
+            case 1 -> 100;    // Normal rest
+            default -> 102;   // Extended rest
         };
     }
 
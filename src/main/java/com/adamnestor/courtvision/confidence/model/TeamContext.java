@@ -0,0 +1,49 @@
+package com.adamnestor.courtvision.confidence.model;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+/**
+ * Rolling team averages over the recent window. A rating is empty when no game in the
+ * window recorded it.
+ */
+public class TeamContext {
+    private final Long teamId;
+    private final int gamesCount;
+    private final BigDecimal defensiveRating;
+    private final BigDecimal pace;
+    private final BigDecimal netRating;
+
+    public TeamContext(
+            Long teamId,
+            int gamesCount,
+            BigDecimal defensiveRating,
+            BigDecimal pace,
+            BigDecimal netRating) {
+        this.teamId = teamId;
+        this.gamesCount = gamesCount;
+        this.defensiveRating = defensiveRating;
+        this.pace = pace;
+        this.netRating = netRating;
+    }
+
+    public Long getTeamId() {
+        return teamId;
+    }
+
+    public int getGamesCount() {
+        return gamesCount;
+    }
+
+    public Optional<BigDecimal> getDefensiveRating() {
+        return Optional.ofNullable(defensiveRating);
+    }
+
+    public Optional<BigDecimal> getPace() {
+        return Optional.ofNullable(pace);
+    }
+
+    public Optional<BigDecimal> getNetRating() {
+        return Optional.ofNullable(netRating);
+    }
+}
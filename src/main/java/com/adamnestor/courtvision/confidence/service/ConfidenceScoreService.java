@@ -1,5 +1,6 @@
 package com.adamnestor.courtvision.confidence.service;
 
+import com.adamnestor.courtvision.confidence.model.ConfidenceContext;
 import com.adamnestor.courtvision.domain.*;
 import java.math.BigDecimal;
 
@@ -12,4 +13,30 @@ public interface ConfidenceScoreService {
             BigDecimal hitRate,
             int gamesCount
     );
+
+    /**
+     * Calculates the confidence score from a preloaded game log. Base score, recent form
+     * and rest are derived from the context, or their cached values, with no repository calls.
+     */
+    BigDecimal calculateConfidenceScore(
+            ConfidenceContext context,
+            Games game,
+            StatCategory category,
+            Integer threshold,
+            BigDecimal hitRate,
+            int gamesCount
+    );
+
+    /**
+     * Primitive form of the context-based calculation for the dashboard hot paths: takes the
+     * hit rate in tenths of a percent and returns the truncated integer confidence score.
+     */
+    int calculateConfidence(
+            ConfidenceContext context,
+            Games game,
+            StatCategory category,
+            Integer threshold,
+            long hitRateTenths,
+            int gamesCount
+    );
 }
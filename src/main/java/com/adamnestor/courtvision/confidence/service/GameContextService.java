@@ -5,4 +5,10 @@ import com.adamnestor.courtvision.domain.*;
 
 public interface GameContextService {
     GameContext calculateGameContext(Players player, Games game, StatCategory category);
+
+    /**
+     * Overall matchup score in thousandths; equal in value to
+     * {@code calculateGameContext(player, game, category).getOverallScore()}.
+     */
+    long calculateOverallScoreThousandths(Players player, Games game);
 }
\ No newline at end of file
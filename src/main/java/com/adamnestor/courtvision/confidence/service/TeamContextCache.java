@@ -0,0 +1,18 @@
+package com.adamnestor.courtvision.confidence.service;
+
+import com.adamnestor.courtvision.confidence.model.GameRatingTotals;
+import com.adamnestor.courtvision.confidence.model.TeamContext;
+import com.adamnestor.courtvision.domain.Teams;
+
+public interface TeamContextCache {
+    /**
+     * Returns the team's rolling defensive rating, pace and net rating without querying
+     * the database once the cache is loaded.
+     */
+    TeamContext getTeamContext(Teams team);
+
+    /**
+     * Replaces the game's contribution to both teams' windows with the given totals.
+     */
+    void recordGame(GameRatingTotals totals);
+}
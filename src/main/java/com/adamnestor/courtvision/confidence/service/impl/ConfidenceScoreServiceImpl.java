@@ -1,29 +1,44 @@
 package com.adamnestor.courtvision.confidence.service.impl;
 
+import com.adamnestor.courtvision.confidence.cache.ConfidenceComponentCache;
+import com.adamnestor.courtvision.confidence.cache.ConfidenceComponentCache.BaseScoreInputs;
+import com.adamnestor.courtvision.confidence.cache.ConfidenceComponentCache.BaseScoreKey;
+import com.adamnestor.courtvision.confidence.cache.ConfidenceComponentCache.RecentFormKey;
+import com.adamnestor.courtvision.confidence.cache.ConfidenceComponentCache.RestKey;
+import com.adamnestor.courtvision.confidence.model.ConfidenceContext;
+import com.adamnestor.courtvision.confidence.model.RestImpact;
 import com.adamnestor.courtvision.confidence.service.ConfidenceScoreService;
 import com.adamnestor.courtvision.confidence.service.GameContextService;
-import com.adamnestor.courtvision.confidence.service.RestImpactService;
+import com.adamnestor.courtvision.confidence.util.RestCalculator;
 import com.adamnestor.courtvision.domain.*;
-import com.adamnestor.courtvision.repository.GameStatsRepository;
+import com.adamnestor.courtvision.service.gamelog.PlayerGameLog;
+import com.adamnestor.courtvision.service.gamelog.PlayerGameLogStore;
 import org.springframework.stereotype.Service;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.util.List;
 
 @Service
 public class ConfidenceScoreServiceImpl implements ConfidenceScoreService {
     private static final int SCALE = 2;
-    private final GameStatsRepository gameStatsRepository;
+    private static final int RECENT_FORM_GAMES = 5;
+    private static final BigDecimal BASE_WEIGHT = new BigDecimal("0.55");
+    private static final BigDecimal MATCHUP_WEIGHT = new BigDecimal("0.25");
+    private static final BigDecimal RECENT_FORM_WEIGHT = new BigDecimal("0.20");
+    private static final BigDecimal MAX_SCORE = new BigDecimal("100");
+    // Primitive scores closer than this to a rounding boundary are resolved with BigDecimal
+    private static final double BOUNDARY_TOLERANCE = 1e-9;
+
+    private final PlayerGameLogStore playerGameLogStore;
     private final GameContextService gameContextService;
-    private final RestImpactService restImpactService;
+    private final ConfidenceComponentCache componentCache;
 
     public ConfidenceScoreServiceImpl(
-            GameStatsRepository gameStatsRepository,
+            PlayerGameLogStore playerGameLogStore,
             GameContextService gameContextService,
-            RestImpactService restImpactService) {
-        this.gameStatsRepository = gameStatsRepository;
+            ConfidenceComponentCache componentCache) {
+        this.playerGameLogStore = playerGameLogStore;
         this.gameContextService = gameContextService;
-        this.restImpactService = restImpactService;
+        this.componentCache = componentCache;
     }
 
     @Override
@@ -34,125 +49,210 @@ public class ConfidenceScoreServiceImpl implements ConfidenceScoreService {
             Integer threshold,
             BigDecimal hitRate,
             int gamesCount) {
+        ConfidenceContext context = new ConfidenceContext(player, playerGameLogStore.getLog(player));
+        return calculateConfidenceScore(context, game, category, threshold, hitRate, gamesCount);
+    }
+
+    @Override
+    public BigDecimal calculateConfidenceScore(
+            ConfidenceContext context,
+            Games game,
+            StatCategory category,
+            Integer threshold,
+            BigDecimal hitRate,
+            int gamesCount) {
+        LogSummary summary = summarize(context, game, category, threshold, gamesCount);
+        return calculateConfidenceScore(summary, context, game, category, threshold, hitRate);
+    }
+
+    @Override
+    public int calculateConfidence(
+            ConfidenceContext context,
+            Games game,
+            StatCategory category,
+            Integer threshold,
+            long hitRateTenths,
+            int gamesCount) {
+        LogSummary summary = summarize(context, game, category, threshold, gamesCount);
 
         // 1. Base Score (55%)
-        BigDecimal baseScore = calculateBaseScore(hitRate, player, category, threshold, gamesCount);
+        double baseScore = hitRateTenths / 10.0 * 0.55 * summary.marginMultiplier(threshold);
+        if (summary.thresholdRatio(threshold) > 1.2) {
+            baseScore *= 0.9;
+        }
+        baseScore = clamp(baseScore);
 
         // 2. Matchup Impact (25%)
-        BigDecimal matchupScore = gameContextService
-                .calculateGameContext(player, game, category)
-                .getOverallScore()
-                .multiply(new BigDecimal("0.25"));
+        double matchupScore = gameContextService
+                .calculateOverallScoreThousandths(context.getPlayer(), game) * 0.25 / 1000;
 
         // 3. Recent Form (20%)
-        BigDecimal recentFormScore = calculateRecentForm(player, category)
-                .multiply(new BigDecimal("0.20"));
+        double recentFormScore = summary.recentFormScore() * 0.20;
+
+        // Combine weighted components and apply rest multiplier
+        double score = clamp(baseScore + matchupScore + recentFormScore)
+                * RestImpact.multiplierHundredths(summary.daysOfRest()) / 100.0;
+
+        // setScale(2, HALF_UP).intValue() is floor(score + 0.005)
+        double shifted = score + 0.005;
+        if (Math.abs(shifted - Math.rint(shifted)) < BOUNDARY_TOLERANCE) {
+            return calculateConfidenceScore(summary, context, game, category, threshold,
+                    BigDecimal.valueOf(hitRateTenths, 1)).intValue();
+        }
+        return (int) Math.floor(shifted);
+    }
+
+    private BigDecimal calculateConfidenceScore(
+            LogSummary summary,
+            ConfidenceContext context,
+            Games game,
+            StatCategory category,
+            Integer threshold,
+            BigDecimal hitRate) {
+
+        // 1. Base Score (55%)
+        BigDecimal baseScore = calculateBaseScore(hitRate, threshold, summary);
+
+        // 2. Matchup Impact (25%)
+        BigDecimal matchupScore = BigDecimal
+                .valueOf(gameContextService.calculateOverallScoreThousandths(context.getPlayer(), game), 3)
+                .multiply(MATCHUP_WEIGHT);
+
+        // 3. Recent Form (20%)
+        BigDecimal recentFormScore = BigDecimal.valueOf(summary.recentFormScore())
+                .multiply(RECENT_FORM_WEIGHT);
 
         // Combine weighted components
         BigDecimal initialScore = baseScore
                 .add(matchupScore)
                 .add(recentFormScore)
-                .min(new BigDecimal("100"))
+                .min(MAX_SCORE)
                 .max(BigDecimal.ZERO);
 
         // Apply rest multiplier
         return initialScore
-                .multiply(restImpactService.calculateRestImpact(player, game).getMultiplier())
+                .multiply(new RestImpact(summary.daysOfRest()).getMultiplier())
                 .setScale(SCALE, RoundingMode.HALF_UP);
     }
 
-    private BigDecimal calculateRecentForm(Players player, StatCategory category) {
-        // Get last 5 games
-        List<GameStats> last5Games = gameStatsRepository.findByPlayerOrderByGameDateDesc(player, 5);
+    private BigDecimal calculateBaseScore(BigDecimal hitRate, Integer threshold, LogSummary summary) {
+        // Base score starts with hit rate
+        BigDecimal baseScore = hitRate.multiply(BASE_WEIGHT);
 
-        // Get all games this season
-        List<GameStats> seasonGames = gameStatsRepository.findPlayerRecentGames(player);
+        // Apply the margin multiplier based on how comfortably they clear it
+        baseScore = baseScore.multiply(BigDecimal.valueOf(summary.marginMultiplier(threshold)));
 
-        if (last5Games.isEmpty() || seasonGames.isEmpty()) {
-            return new BigDecimal("50.00");
+        // Scale back based on threshold vs average
+        if (summary.thresholdRatio(threshold) > 1.2) { // Threshold is significantly above average
+            baseScore = baseScore.multiply(BigDecimal.valueOf(0.9));  // 10% reduction
         }
 
-        // Calculate averages based on category
-        double last5Avg = last5Games.stream()
-                .mapToDouble(gs -> switch(category) {
-                    case POINTS -> gs.getPoints();
-                    case ASSISTS -> gs.getAssists();
-                    case REBOUNDS -> gs.getRebounds();
-                })
-                .average()
-                .orElse(0.0);
-
-        double seasonAvg = seasonGames.stream()
-                .mapToDouble(gs -> switch(category) {
-                    case POINTS -> gs.getPoints();
-                    case ASSISTS -> gs.getAssists();
-                    case REBOUNDS -> gs.getRebounds();
-                })
-                .average()
-                .orElse(0.0);
+        return baseScore.min(MAX_SCORE).max(BigDecimal.ZERO);
+    }
 
-        if (seasonAvg == 0) {
-            return new BigDecimal("50.00");
-        }
+    private static double clamp(double score) {
+        return Math.max(0.0, Math.min(100.0, score));
+    }
 
-        double percentDiff = (last5Avg - seasonAvg) / seasonAvg * 100;
+    /**
+     * Collects the log-derived components, each from its cache or, on a miss, from one pass over the log.
+     */
+    private LogSummary summarize(
+            ConfidenceContext context, Games game, StatCategory category, Integer threshold, int gamesCount) {
+        PlayerGameLog log = context.getGameLog();
+        long playerId = context.getPlayer().getId();
+        int periodSize = Math.min(gamesCount, log.size());
 
-        BigDecimal adjustment;
-        if (percentDiff > 15) adjustment = new BigDecimal("8");
-        else if (percentDiff > 10) adjustment = new BigDecimal("5");
-        else if (percentDiff > 5) adjustment = new BigDecimal("3");
-        else if (percentDiff < -15) adjustment = new BigDecimal("-8");
-        else if (percentDiff < -10) adjustment = new BigDecimal("-5");
-        else if (percentDiff < -5) adjustment = new BigDecimal("-3");
-        else adjustment = BigDecimal.ZERO;
+        BaseScoreInputs base = componentCache.baseScore(
+                new BaseScoreKey(playerId, category, threshold, periodSize),
+                key -> baseScoreInputs(log, category, threshold, periodSize));
+        int recentFormScore = componentCache.recentForm(
+                new RecentFormKey(playerId, category),
+                key -> recentFormScore(log, category));
+        int daysOfRest = componentCache.daysOfRest(
+                new RestKey(playerId, game.getId()),
+                key -> daysOfRest(log, game));
 
-        return new BigDecimal("50").add(adjustment);
+        return new LogSummary(base.average(), base.averageMarginWhenHit(), recentFormScore, daysOfRest);
     }
 
-    private BigDecimal calculateBaseScore(BigDecimal hitRate, Players player, StatCategory category, Integer threshold, int gamesCount) {
-        // Get last 10 games
-        List<GameStats> periodGames = gameStatsRepository
-                .findByPlayerOrderByGameDateDesc(player, gamesCount);
-
-        // Calculate average and how consistently they clear the threshold
-        double average = periodGames.stream()
-                .mapToDouble(gs -> switch(category) {
-                    case POINTS -> gs.getPoints();
-                    case ASSISTS -> gs.getAssists();
-                    case REBOUNDS -> gs.getRebounds();
-                })
-                .average()
-                .orElse(0.0);
-
-        // Calculate average margin they clear threshold by when they hit
-        double averageMarginWhenHit = periodGames.stream()
-                .mapToDouble(gs -> {
-                    int value = switch(category) {
-                        case POINTS -> gs.getPoints();
-                        case ASSISTS -> gs.getAssists();
-                        case REBOUNDS -> gs.getRebounds();
-                    };
-                    return value >= threshold ? value - threshold : 0;
-                })
-                .filter(margin -> margin > 0)
-                .average()
-                .orElse(0.0);
+    private static BaseScoreInputs baseScoreInputs(
+            PlayerGameLog log, StatCategory category, Integer threshold, int periodSize) {
+        int[] values = log.column(category);
+        long periodSum = 0;
+        long marginSum = 0;
+        int marginCount = 0;
+        for (int i = 0; i < periodSize; i++) {
+            int value = values[i];
+            periodSum += value;
+            if (value > threshold) {
+                marginSum += value - threshold;
+                marginCount++;
+            }
+        }
 
-        // Base score starts with hit rate
-        BigDecimal baseScore = hitRate.multiply(new BigDecimal("0.55"));
+        return new BaseScoreInputs(
+                periodSize > 0 ? (double) periodSum / periodSize : 0.0,
+                marginCount > 0 ? (double) marginSum / marginCount : 0.0);
+    }
+
+    private static int recentFormScore(PlayerGameLog log, StatCategory category) {
+        int[] values = log.column(category);
+        int seasonSize = log.size();
+        int recentSize = Math.min(RECENT_FORM_GAMES, seasonSize);
+        if (recentSize == 0) {
+            return 50;
+        }
 
-        // Calculate margin multiplier based on how comfortably they clear it
-        double marginMultiplier = Math.min(1.5, 1.0 + (averageMarginWhenHit / threshold) * 0.5);
+        long recentSum = 0;
+        long seasonSum = 0;
+        for (int i = 0; i < seasonSize; i++) {
+            seasonSum += values[i];
+            if (i < recentSize) {
+                recentSum += values[i];
+            }
+        }
 
-        // Apply the multiplier to base score
-        baseScore = baseScore.multiply(BigDecimal.valueOf(marginMultiplier));
+        double seasonAvg = (double) seasonSum / seasonSize;
+        if (seasonAvg == 0) {
+            return 50;
+        }
+        double percentDiff = ((double) recentSum / recentSize - seasonAvg) / seasonAvg * 100;
 
-        // Scale back based on threshold vs average
-        double thresholdRatio = threshold / average;
-        if (thresholdRatio > 1.2) { // Threshold is significantly above average
-            baseScore = baseScore.multiply(BigDecimal.valueOf(0.9));  // 10% reduction
+        int adjustment;
+        if (percentDiff > 15) adjustment = 8;
+        else if (percentDiff > 10) adjustment = 5;
+        else if (percentDiff > 5) adjustment = 3;
+        else if (percentDiff < -15) adjustment = -8;
+        else if (percentDiff < -10) adjustment = -5;
+        else if (percentDiff < -5) adjustment = -3;
+        else adjustment = 0;
+
+        return 50 + adjustment;
+    }
+
+    private static int daysOfRest(PlayerGameLog log, Games game) {
+        int currentGameDay = (int) game.getGameDate().toEpochDay();
+        for (int i = 0; i < log.size(); i++) {
+            if (log.getGameDay(i) < currentGameDay) {
+                return RestCalculator.calculateDaysOfRest(log.getGameDate(i), game.getGameDate());
+            }
         }
+        return 1; // Default to normal rest if no previous game
+    }
+
+    private record LogSummary(
+            double average,
+            double averageMarginWhenHit,
+            int recentFormScore,
+            int daysOfRest) {
 
-        return baseScore.min(new BigDecimal("100")).max(BigDecimal.ZERO);
+        double marginMultiplier(Integer threshold) {
+            return Math.min(1.5, 1.0 + (averageMarginWhenHit / threshold) * 0.5);
+        }
+
+        double thresholdRatio(Integer threshold) {
+            return threshold / average;
+        }
     }
 }
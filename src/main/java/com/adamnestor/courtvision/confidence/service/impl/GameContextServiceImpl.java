@@ -1,27 +1,34 @@
 package com.adamnestor.courtvision.confidence.service.impl;
 
+import com.adamnestor.courtvision.confidence.cache.ConfidenceComponentCache;
+import com.adamnestor.courtvision.confidence.cache.ConfidenceComponentCache.MatchupKey;
 import com.adamnestor.courtvision.confidence.model.GameContext;
+import com.adamnestor.courtvision.confidence.model.TeamContext;
 import com.adamnestor.courtvision.confidence.service.GameContextService;
+import com.adamnestor.courtvision.confidence.service.TeamContextCache;
 import com.adamnestor.courtvision.domain.*;
-import com.adamnestor.courtvision.repository.AdvancedGameStatsRepository;
 import org.springframework.stereotype.Service;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.time.LocalDate;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 @Service
 public class GameContextServiceImpl implements GameContextService {
     private static final int SCALE = 2;
     private static final BigDecimal LEAGUE_AVG_DEF_RATING = new BigDecimal("110.00");
-    private final AdvancedGameStatsRepository advancedGameStatsRepository;
+    private final TeamContextCache teamContextCache;
+    private final ConfidenceComponentCache componentCache;
+    private final ConcurrentMap<Long, DefenseRatingFactor> defenseRatingFactors = new ConcurrentHashMap<>();
 
-    public GameContextServiceImpl(AdvancedGameStatsRepository advancedGameStatsRepository) {
-        this.advancedGameStatsRepository = advancedGameStatsRepository;
+    public GameContextServiceImpl(TeamContextCache teamContextCache, ConfidenceComponentCache componentCache) {
+        this.teamContextCache = teamContextCache;
+        this.componentCache = componentCache;
     }
 
     @Override
     public GameContext calculateGameContext(Players player, Games game, StatCategory category) {
-        boolean isHome = game.getHomeTeam().equals(player.getTeam());
+        boolean isHome = game.getHomeTeam().getId().equals(player.getTeam().getId());
 
         // Home court factor: 1.03 for home, 0.97 for away
         BigDecimal homeCourtFactor = isHome ?
@@ -34,13 +41,42 @@ public class GameContextServiceImpl implements GameContextService {
         return new GameContext(homeCourtFactor, defenseRatingFactor, category);
     }
 
+    @Override
+    public long calculateOverallScoreThousandths(Players player, Games game) {
+        boolean isHome = game.getHomeTeam().getId().equals(player.getTeam().getId());
+        Teams opponent = isHome ? game.getAwayTeam() : game.getHomeTeam();
+
+        return componentCache.matchupThousandths(
+                new MatchupKey(player.getTeam().getId(), game.getId(), opponent.getId()),
+                key -> GameContext.overallScoreThousandths(
+                        isHome ? 103 : 97,
+                        defenseRatingFactor(opponent).hundredths()));
+    }
+
     private BigDecimal calculateDefenseRatingFactor(Teams opponent, StatCategory category) {
-        // Get average defensive rating for opponent's last 10 games
-        BigDecimal teamDefRating = advancedGameStatsRepository
-                .findAverageTeamDefensiveRating(opponent, LocalDate.now().minusDays(30))
+        return defenseRatingFactor(opponent).factor();
+    }
+
+    private DefenseRatingFactor defenseRatingFactor(Teams opponent) {
+        // Get opponent's rolling 30-day average defensive rating; the factor is recomputed
+        // only when the cache publishes a new context for the team
+        TeamContext teamContext = teamContextCache.getTeamContext(opponent);
+        DefenseRatingFactor cached = defenseRatingFactors.get(opponent.getId());
+        if (cached != null && cached.source() == teamContext) {
+            return cached;
+        }
+
+        BigDecimal teamDefRating = teamContext
+                .getDefensiveRating()
                 .orElse(LEAGUE_AVG_DEF_RATING);
 
         // Normalize: Better defense (lower rating) = lower factor
-        return LEAGUE_AVG_DEF_RATING.divide(teamDefRating, SCALE, RoundingMode.HALF_UP);
+        BigDecimal factor = LEAGUE_AVG_DEF_RATING.divide(teamDefRating, SCALE, RoundingMode.HALF_UP);
+        DefenseRatingFactor computed = new DefenseRatingFactor(
+                teamContext, factor, factor.movePointRight(SCALE).longValueExact());
+        defenseRatingFactors.put(opponent.getId(), computed);
+        return computed;
     }
+
+    private record DefenseRatingFactor(TeamContext source, BigDecimal factor, long hundredths) {}
 }
\ No newline at end of file
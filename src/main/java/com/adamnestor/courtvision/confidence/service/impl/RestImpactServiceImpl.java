@@ -1,5 +1,7 @@
 package com.adamnestor.courtvision.confidence.service.impl;
 
+import com.adamnestor.courtvision.confidence.cache.ConfidenceComponentCache;
+import com.adamnestor.courtvision.confidence.cache.ConfidenceComponentCache.RestKey;
 import com.adamnestor.courtvision.confidence.model.RestImpact;
 import com.adamnestor.courtvision.confidence.service.RestImpactService;
 import com.adamnestor.courtvision.confidence.util.RestCalculator;
@@ -11,21 +13,27 @@ import java.util.Optional;
 @Service
 public class RestImpactServiceImpl implements RestImpactService {
     private final GameStatsRepository gameStatsRepository;
+    private final ConfidenceComponentCache componentCache;
 
-    public RestImpactServiceImpl(GameStatsRepository gameStatsRepository) {
+    public RestImpactServiceImpl(GameStatsRepository gameStatsRepository, ConfidenceComponentCache componentCache) {
         this.gameStatsRepository = gameStatsRepository;
+        this.componentCache = componentCache;
     }
 
     @Override
     public RestImpact calculateRestImpact(Players player, Games currentGame) {
-        Optional<GameStats> previousGame = gameStatsRepository.findPreviousGame(
-                player, currentGame.getGameDate());
+        int daysOfRest = componentCache.daysOfRest(
+                new RestKey(player.getId(), currentGame.getId()),
+                key -> {
+                    Optional<GameStats> previousGame = gameStatsRepository.findPreviousGame(
+                            player, currentGame.getGameDate());
 
-        int daysOfRest = previousGame
-                .map(stats -> RestCalculator.calculateDaysOfRest(
-                        stats.getGame().getGameDate(),
-                        currentGame.getGameDate()))
-                .orElse(1); // Default to normal rest if no previous game
+                    return previousGame
+                            .map(stats -> RestCalculator.calculateDaysOfRest(
+                                    stats.getGameDate(),
+                                    currentGame.getGameDate()))
+                            .orElse(1); // Default to normal rest if no previous game
+                });
 
         return new RestImpact(daysOfRest);
     }
@@ -0,0 +1,171 @@
+package com.adamnestor.courtvision.confidence.service.impl;
+
+import com.adamnestor.courtvision.confidence.model.GameRatingTotals;
+import com.adamnestor.courtvision.confidence.model.TeamContext;
+import com.adamnestor.courtvision.confidence.service.TeamContextCache;
+import com.adamnestor.courtvision.config.ReadWriteRoutingDataSource;
+import com.adamnestor.courtvision.domain.Teams;
+import com.adamnestor.courtvision.event.AdvancedStatsIngestedEvent;
+import com.adamnestor.courtvision.repository.AdvancedGameStatsRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Rolling 30-day team ratings kept as running sums over per-game totals.
+ * All teams are loaded with one aggregate query on first use; afterwards ingested games
+ * are applied incrementally once their transaction commits and games falling out of the window are
+ * dropped on read.
+ */
+@Service
+public class TeamContextCacheImpl implements TeamContextCache {
+    private static final Logger logger = LoggerFactory.getLogger(TeamContextCacheImpl.class);
+    private static final int WINDOW_DAYS = 30;
+    private static final int SCALE = 6;
+
+    private final AdvancedGameStatsRepository advancedGameStatsRepository;
+    private final ConcurrentMap<Long, TeamWindow> windows = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+
+    public TeamContextCacheImpl(AdvancedGameStatsRepository advancedGameStatsRepository) {
+        this.advancedGameStatsRepository = advancedGameStatsRepository;
+    }
+
+    @Override
+    public TeamContext getTeamContext(Teams team) {
+        ensureLoaded();
+        return windows.computeIfAbsent(team.getId(), id -> new TeamWindow())
+                .toContext(team.getId(), windowStart());
+    }
+
+    /**
+     * Runs ahead of the caches derived from team context, so they never reload from old totals.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAdvancedStatsIngested(AdvancedStatsIngestedEvent event) {
+        event.games().forEach(this::recordGame);
+    }
+
+    @Override
+    public void recordGame(GameRatingTotals totals) {
+        if (!loaded) {
+            // Waits for a load in progress, which may have read the database before this game committed
+            synchronized (this) {
+                if (!loaded) {
+                    return; // The initial load will read this game from the database
+                }
+            }
+        }
+        if (totals.gameDate().isBefore(windowStart())) {
+            return;
+        }
+
+        windows.computeIfAbsent(totals.homeTeamId(), id -> new TeamWindow()).put(totals);
+        windows.computeIfAbsent(totals.awayTeamId(), id -> new TeamWindow()).put(totals);
+        logger.debug("Updated team context for game {}", totals.gameId());
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        synchronized (this) {
+            if (loaded) {
+                return;
+            }
+            List<GameRatingTotals> games = ReadWriteRoutingDataSource.onPrimaryAfterWrite(
+                    () -> advancedGameStatsRepository.findGameRatingTotalsSince(windowStart()));
+            for (GameRatingTotals totals : games) {
+                windows.computeIfAbsent(totals.homeTeamId(), id -> new TeamWindow()).put(totals);
+                windows.computeIfAbsent(totals.awayTeamId(), id -> new TeamWindow()).put(totals);
+            }
+            loaded = true;
+            logger.info("Loaded team context for {} teams from {} games", windows.size(), games.size());
+        }
+    }
+
+    private static LocalDate windowStart() {
+        return LocalDate.now().minusDays(WINDOW_DAYS);
+    }
+
+    private static BigDecimal average(BigDecimal sum, long count) {
+        return count > 0 ? sum.divide(BigDecimal.valueOf(count), SCALE, RoundingMode.HALF_UP) : null;
+    }
+
+    /**
+     * One team's window: per-game totals ordered by date plus running sums over them.
+     * The published context is reused until a game is added or expires.
+     */
+    private static final class TeamWindow {
+        private final TreeMap<LocalDate, Map<Long, GameRatingTotals>> gamesByDate = new TreeMap<>();
+        private final Map<Long, GameRatingTotals> gamesById = new HashMap<>();
+        private BigDecimal defensiveRatingSum = BigDecimal.ZERO;
+        private long defensiveRatingCount;
+        private BigDecimal paceSum = BigDecimal.ZERO;
+        private long paceCount;
+        private BigDecimal netRatingSum = BigDecimal.ZERO;
+        private long netRatingCount;
+        private TeamContext context;
+
+        synchronized void put(GameRatingTotals totals) {
+            GameRatingTotals previous = gamesById.put(totals.gameId(), totals);
+            if (previous != null) {
+                Map<Long, GameRatingTotals> sameDay = gamesByDate.get(previous.gameDate());
+                sameDay.remove(previous.gameId());
+                if (sameDay.isEmpty()) {
+                    gamesByDate.remove(previous.gameDate());
+                }
+                apply(previous, -1);
+            }
+            gamesByDate.computeIfAbsent(totals.gameDate(), date -> new HashMap<>()).put(totals.gameId(), totals);
+            apply(totals, 1);
+            context = null;
+        }
+
+        synchronized TeamContext toContext(Long teamId, LocalDate windowStart) {
+            while (!gamesByDate.isEmpty() && gamesByDate.firstKey().isBefore(windowStart)) {
+                for (GameRatingTotals expired : gamesByDate.pollFirstEntry().getValue().values()) {
+                    gamesById.remove(expired.gameId());
+                    apply(expired, -1);
+                }
+                context = null;
+            }
+            if (context == null) {
+                context = new TeamContext(teamId, gamesById.size(),
+                        average(defensiveRatingSum, defensiveRatingCount),
+                        average(paceSum, paceCount),
+                        average(netRatingSum, netRatingCount));
+            }
+            return context;
+        }
+
+        private void apply(GameRatingTotals totals, int sign) {
+            BigDecimal factor = BigDecimal.valueOf(sign);
+            if (totals.defensiveRatingSum() != null) {
+                defensiveRatingSum = defensiveRatingSum.add(totals.defensiveRatingSum().multiply(factor));
+            }
+            defensiveRatingCount += sign * totals.defensiveRatingCount();
+            if (totals.paceSum() != null) {
+                paceSum = paceSum.add(BigDecimal.valueOf(totals.paceSum()).multiply(factor));
+            }
+            paceCount += sign * totals.paceCount();
+            if (totals.netRatingSum() != null) {
+                netRatingSum = netRatingSum.add(totals.netRatingSum().multiply(factor));
+            }
+            netRatingCount += sign * totals.netRatingCount();
+        }
+    }
+}
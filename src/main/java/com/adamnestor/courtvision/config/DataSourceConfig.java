@@ -0,0 +1,92 @@
+package com.adamnestor.courtvision.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Two Hikari pools behind a {@link ReadWriteRoutingDataSource}:
+ * <ul>
+ *   <li>{@code primary}: configured as before through {@code spring.datasource.*}, sized with
+ *       {@code spring.datasource.hikari.*}; takes all writes and ingestion</li>
+ *   <li>{@code replica}: enabled by {@code datasource.replica.url} (credentials default to the
+ *       primary's), sized with {@code datasource.replica.hikari.*}; serves read-only transactions</li>
+ * </ul>
+ * Without a replica URL both routes use the primary pool. Cache loads read from the primary for
+ * {@code datasource.replica.read-your-writes-ms} after each committed write, which should cover the
+ * replica's usual lag. Each pool publishes its own
+ * {@code hikaricp.connections.*} meters tagged {@code pool=primary} or {@code pool=replica}.
+ */
+@Configuration
+public class DataSourceConfig {
+    private static final Logger logger = LoggerFactory.getLogger(DataSourceConfig.class);
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConditionalOnProperty("datasource.replica.url")
+    @ConfigurationProperties("datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            DataSourceProperties properties,
+            @Value("${datasource.replica.url}") String url,
+            @Value("${datasource.replica.username:}") String username,
+            @Value("${datasource.replica.password:}") String password) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(url);
+        dataSource.setDriverClassName(properties.determineDriverClassName());
+        dataSource.setUsername(username.isEmpty() ? properties.determineUsername() : username);
+        dataSource.setPassword(password.isEmpty() ? properties.determinePassword() : password);
+        dataSource.setReadOnly(true);
+        dataSource.setPoolName("replica");
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primary,
+            @Qualifier("replicaDataSource") ObjectProvider<DataSource> replica,
+            @Value("${datasource.replica.read-your-writes-ms:5000}") long readYourWritesMillis) {
+        DataSource readOnly = replica.getIfAvailable();
+        if (readOnly == null) {
+            logger.info("No read replica configured, read-only transactions use the primary pool");
+            readOnly = primary;
+        }
+        return new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(
+                primary, readOnly, Duration.ofMillis(readYourWritesMillis)));
+    }
+
+    /**
+     * Open-in-view keeps a request's entity manager, and by default its first connection, for the
+     * whole request; with a replica that would pin every later transaction of the request to the
+     * first one's pool, so connections are released after each transaction instead.
+     */
+    @Bean
+    @ConditionalOnProperty("datasource.replica.url")
+    public HibernatePropertiesCustomizer releaseConnectionsAfterTransaction() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+}
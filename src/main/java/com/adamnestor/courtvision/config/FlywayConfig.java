@@ -0,0 +1,21 @@
+package com.adamnestor.courtvision.config;
+
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Flyway owns the schema through the scripts in {@code db/migration}. V1 is the schema Hibernate
+ * used to generate before migrations were introduced; databases created that way are baselined at
+ * V1 on first start so that every later schema change runs against them as its own migration.
+ */
+@Configuration
+public class FlywayConfig {
+
+    @Bean
+    public FlywayConfigurationCustomizer baselineExistingSchema() {
+        return configuration -> configuration
+                .baselineOnMigrate(true)
+                .baselineVersion("1");
+    }
+}
@@ -0,0 +1,24 @@
+package com.adamnestor.courtvision.config;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+public class PrimaryDataSourceAspect {
+
+    @Around("@within(com.adamnestor.courtvision.config.UsePrimaryDataSource) || "
+            + "@annotation(com.adamnestor.courtvision.config.UsePrimaryDataSource)")
+    public Object onPrimary(ProceedingJoinPoint joinPoint) throws Throwable {
+        boolean alreadyPinned = ReadWriteRoutingDataSource.pinPrimary();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            if (!alreadyPinned) {
+                ReadWriteRoutingDataSource.unpinPrimary();
+            }
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.adamnestor.courtvision.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Sends connections of read-only transactions to the replica pool and everything else to the
+ * primary. Work that must see its own writes, such as ingestion, is pinned to the primary for the
+ * current thread with {@link UsePrimaryDataSource}. Cache loads read from the replica, except within
+ * a short read-your-writes window after a committed write ({@link #markWritten()}), when an entry
+ * refilled from a lagging replica would stay stale until the next invalidation; see
+ * {@link #onPrimaryAfterWrite(Supplier)}. Tasks handed to other threads keep the pin when wrapped with
+ * {@link #propagating(Runnable)}. Wrapped in a lazy connection proxy (see {@link DataSourceConfig})
+ * so the route is chosen at the first statement of a transaction.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route { PRIMARY, REPLICA }
+
+    private static final ThreadLocal<Boolean> PRIMARY_PINNED = new ThreadLocal<>();
+    private static final AtomicLong WRITE_WINDOW_END = new AtomicLong(System.nanoTime());
+    private static volatile long writeWindowNanos = Duration.ofSeconds(5).toNanos();
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, Duration readYourWritesWindow) {
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+        writeWindowNanos = readYourWritesWindow.toNanos();
+    }
+
+    /**
+     * Pins the current thread to the primary and returns whether it already was.
+     */
+    static boolean pinPrimary() {
+        boolean pinned = PRIMARY_PINNED.get() != null;
+        PRIMARY_PINNED.set(Boolean.TRUE);
+        return pinned;
+    }
+
+    static void unpinPrimary() {
+        PRIMARY_PINNED.remove();
+    }
+
+    /**
+     * Runs the work pinned to the primary. Takes effect for transactions that have not yet run a
+     * statement, so cache loads call this before they reach the repositories.
+     */
+    public static <T> T onPrimary(Supplier<T> work) {
+        boolean alreadyPinned = pinPrimary();
+        try {
+            return work.get();
+        } finally {
+            if (!alreadyPinned) {
+                unpinPrimary();
+            }
+        }
+    }
+
+    /**
+     * Records a committed write: cache loads read from the primary until the read-your-writes
+     * window has passed, giving the replica time to apply it.
+     */
+    public static void markWritten() {
+        long end = System.nanoTime() + writeWindowNanos;
+        WRITE_WINDOW_END.accumulateAndGet(end, (current, next) -> next - current > 0 ? next : current);
+    }
+
+    /**
+     * Ends the read-your-writes window, for tests.
+     */
+    static void clearWriteWindow() {
+        WRITE_WINDOW_END.set(System.nanoTime());
+    }
+
+    static boolean withinWriteWindow() {
+        return WRITE_WINDOW_END.get() - System.nanoTime() > 0;
+    }
+
+    /**
+     * Runs a cache load pinned to the primary within the read-your-writes window and on its usual
+     * route otherwise.
+     */
+    public static <T> T onPrimaryAfterWrite(Supplier<T> work) {
+        return withinWriteWindow() ? onPrimary(work) : work.get();
+    }
+
+    /**
+     * Wraps a task so that it runs pinned to the primary on another thread if the caller is pinned.
+     */
+    public static Runnable propagating(Runnable task) {
+        if (PRIMARY_PINNED.get() == null) {
+            return task;
+        }
+        return () -> onPrimary(() -> {
+            task.run();
+            return null;
+        });
+    }
+
+    public static <T, R> Function<T, R> propagating(Function<T, R> task) {
+        if (PRIMARY_PINNED.get() == null) {
+            return task;
+        }
+        return item -> onPrimary(() -> task.apply(item));
+    }
+
+    public static Route currentRoute() {
+        if (PRIMARY_PINNED.get() != null) {
+            return Route.PRIMARY;
+        }
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? Route.REPLICA : Route.PRIMARY;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return currentRoute();
+    }
+}
@@ -0,0 +1,43 @@
+package com.adamnestor.courtvision.config;
+
+import com.adamnestor.courtvision.event.AdvancedStatsIngestedEvent;
+import com.adamnestor.courtvision.event.GameStatsIngestedEvent;
+import com.adamnestor.courtvision.event.GamesUpdatedEvent;
+import com.adamnestor.courtvision.event.PlayersUpdatedEvent;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Opens the read-your-writes window of {@link ReadWriteRoutingDataSource} once a write commits,
+ * ahead of the caches' own invalidation listeners, so that the first refill after an invalidation
+ * already reads from the primary.
+ */
+@Component
+public class ReadYourWritesWindow {
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGameStatsIngested(GameStatsIngestedEvent event) {
+        ReadWriteRoutingDataSource.markWritten();
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAdvancedStatsIngested(AdvancedStatsIngestedEvent event) {
+        ReadWriteRoutingDataSource.markWritten();
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGamesUpdated(GamesUpdatedEvent event) {
+        ReadWriteRoutingDataSource.markWritten();
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPlayersUpdated(PlayersUpdatedEvent event) {
+        ReadWriteRoutingDataSource.markWritten();
+    }
+}
@@ -0,0 +1,18 @@
+package com.adamnestor.courtvision.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Runs the annotated bean's methods, and everything they call on the same thread, against the
+ * primary database, including reads in read-only transactions. For writers that read back what
+ * they just stored and cannot tolerate replica lag.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface UsePrimaryDataSource {
+}
@@ -11,14 +11,18 @@ public class AdvancedGameStats {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "player_id", nullable = false)
     private Players player;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "game_id", nullable = false)
     private Games game;
 
+    // Copy of the game's date so per-player lookups by date need no join
+    @Column(name = "game_date")
+    private LocalDate gameDate;
+
     // Core Advanced Stats from BallDontLie API
     @Column(precision = 6, scale = 3)
     private BigDecimal pie;  // Player Impact Estimate: observed range -0.286 to 0.417
@@ -80,9 +84,30 @@ public class AdvancedGameStats {
     @Column(name = "performance_retention", precision = 5, scale = 2)
     private BigDecimal performanceRetention;
 
+    // Ingest-time features of the player's game (GameFeatureStage)
+    @Column(name = "back_to_back")
+    private Boolean backToBack;  // played the previous day
+
+    @Column(name = "home_game")
+    private Boolean homeGame;
+
+    @Column(name = "point_margin")
+    private Integer pointMargin;  // final margin from the player's team's side
+
+    @Column(name = "blowout")
+    private Boolean blowout;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDate.now();
+        syncGameDate();
+    }
+
+    @PreUpdate
+    protected void syncGameDate() {
+        if (game != null) {
+            gameDate = game.getGameDate();
+        }
     }
 
     // Getters and Setters
@@ -95,6 +120,9 @@ public class AdvancedGameStats {
     public Games getGame() { return game; }
     public void setGame(Games game) { this.game = game; }
 
+    public LocalDate getGameDate() { return gameDate; }
+    public void setGameDate(LocalDate gameDate) { this.gameDate = gameDate; }
+
     public BigDecimal getPie() { return pie; }
     public void setPie(BigDecimal pie) { this.pie = pie; }
 
@@ -180,4 +208,16 @@ public class AdvancedGameStats {
 
     public BigDecimal getPerformanceRetention() { return performanceRetention; }
     public void setPerformanceRetention(BigDecimal performanceRetention) { this.performanceRetention = performanceRetention; }
+
+    public Boolean getBackToBack() { return backToBack; }
+    public void setBackToBack(Boolean backToBack) { this.backToBack = backToBack; }
+
+    public Boolean getHomeGame() { return homeGame; }
+    public void setHomeGame(Boolean homeGame) { this.homeGame = homeGame; }
+
+    public Integer getPointMargin() { return pointMargin; }
+    public void setPointMargin(Integer pointMargin) { this.pointMargin = pointMargin; }
+
+    public Boolean getBlowout() { return blowout; }
+    public void setBlowout(Boolean blowout) { this.blowout = blowout; }
 }
\ No newline at end of file
@@ -0,0 +1,5 @@
+package com.adamnestor.courtvision.domain;
+
+public enum BackfillStatus {
+    PENDING, RUNNING, COMPLETED, FAILED, INTERRUPTED, CANCELLED
+}
@@ -0,0 +1,83 @@
+package com.adamnestor.courtvision.domain;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Checkpoint for one game day of a backfill job. A unit is marked completed in the same
+ * transaction that writes its games and stats, so a resumed job never repeats or skips a day.
+ */
+@Entity
+@Table(name = "backfill_units",
+       indexes = @Index(name = "idx_backfill_units_job_status", columnList = "job_id, status"))
+public class BackfillUnit {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    @Column(name = "game_date", nullable = false)
+    private LocalDate gameDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private BackfillStatus status;
+
+    @Column(nullable = false)
+    private Integer attempts = 0;
+
+    @Column(name = "games_processed", nullable = false)
+    private Integer gamesProcessed = 0;
+
+    @Column(name = "rows_written", nullable = false)
+    private Integer rowsWritten = 0;
+
+    @Column(name = "api_calls", nullable = false)
+    private Long apiCalls = 0L;
+
+    @Column(name = "duration_ms")
+    private Long durationMs;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Long getJobId() { return jobId; }
+    public void setJobId(Long jobId) { this.jobId = jobId; }
+
+    public LocalDate getGameDate() { return gameDate; }
+    public void setGameDate(LocalDate gameDate) { this.gameDate = gameDate; }
+
+    public BackfillStatus getStatus() { return status; }
+    public void setStatus(BackfillStatus status) { this.status = status; }
+
+    public Integer getAttempts() { return attempts; }
+    public void setAttempts(Integer attempts) { this.attempts = attempts; }
+
+    public Integer getGamesProcessed() { return gamesProcessed; }
+    public void setGamesProcessed(Integer gamesProcessed) { this.gamesProcessed = gamesProcessed; }
+
+    public Integer getRowsWritten() { return rowsWritten; }
+    public void setRowsWritten(Integer rowsWritten) { this.rowsWritten = rowsWritten; }
+
+    public Long getApiCalls() { return apiCalls; }
+    public void setApiCalls(Long apiCalls) { this.apiCalls = apiCalls; }
+
+    public Long getDurationMs() { return durationMs; }
+    public void setDurationMs(Long durationMs) { this.durationMs = durationMs; }
+
+    public String getLastError() { return lastError; }
+    public void setLastError(String lastError) { this.lastError = lastError; }
+
+    public LocalDateTime getCompletedAt() { return completedAt; }
+    public void setCompletedAt(LocalDateTime completedAt) { this.completedAt = completedAt; }
+}
@@ -13,14 +13,18 @@ public class GameStats {
     @Column(name = "external_id")
     private Long externalId;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "player_id", nullable = false)
     private Players player;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "game_id", nullable = false)
     private Games game;
 
+    // Copy of the game's date so per-player lookups by date need no join
+    @Column(name = "game_date")
+    private LocalDate gameDate;
+
     @Column(name = "minutes_played")
     private String minutesPlayed;
 
@@ -55,6 +59,14 @@ public class GameStats {
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDate.now();
+        syncGameDate();
+    }
+
+    @PreUpdate
+    protected void syncGameDate() {
+        if (game != null) {
+            gameDate = game.getGameDate();
+        }
     }
 
     // Getters and Setters
@@ -70,6 +82,9 @@ public class GameStats {
     public Games getGame() { return game; }
     public void setGame(Games game) { this.game = game; }
 
+    public LocalDate getGameDate() { return gameDate; }
+    public void setGameDate(LocalDate gameDate) { this.gameDate = gameDate; }
+
     public String getMinutesPlayed() { return minutesPlayed; }
     public void setMinutesPlayed(String minutesPlayed) { this.minutesPlayed = minutesPlayed; }
 
@@ -5,13 +5,17 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "hit_rates")
+@Table(name = "hit_rates",
+       uniqueConstraints = @UniqueConstraint(name = "uk_hit_rates_player_line",
+               columnNames = {"player_id", "category", "threshold", "time_period"}),
+       indexes = @Index(name = "idx_hit_rates_line_rate",
+               columnList = "time_period, category, threshold, hit_rate"))
 public class HitRates {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "player_id", nullable = false)
     private Players player;
 
@@ -26,10 +30,11 @@ public class HitRates {
     @Column(name = "time_period", nullable = false)
     private TimePeriod timePeriod;
 
-    @Column(name = "hit_rate", nullable = false)
+    // Same scales as the fixed-point dashboard values (see FixedPointMath)
+    @Column(name = "hit_rate", nullable = false, precision = 4, scale = 1)
     private BigDecimal hitRate;
 
-    @Column(nullable = false)
+    @Column(nullable = false, precision = 9, scale = 4)
     private BigDecimal average;
 
     @Column(name = "games_counted", nullable = false)
@@ -1,5 +1,15 @@
 package com.adamnestor.courtvision.domain;
 
 public enum TimePeriod {
-    L5, L10, L15, L20, SEASON
-}
\ No newline at end of file
+    L5(5), L10(10), L15(15), L20(20), SEASON(Integer.MAX_VALUE);
+
+    private final int requiredGames;
+
+    TimePeriod(int requiredGames) {
+        this.requiredGames = requiredGames;
+    }
+
+    public int getRequiredGames() {
+        return requiredGames;
+    }
+}
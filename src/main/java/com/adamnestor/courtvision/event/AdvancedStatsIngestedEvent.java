@@ -0,0 +1,13 @@
+package com.adamnestor.courtvision.event;
+
+import com.adamnestor.courtvision.confidence.model.GameRatingTotals;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Published when advanced stat rows are written; carries the IDs of the teams whose ratings changed
+ * and the rating totals of each game written, which listeners apply once the transaction commits.
+ */
+public record AdvancedStatsIngestedEvent(Set<Long> teamIds, List<GameRatingTotals> games) {
+}
@@ -0,0 +1,10 @@
+package com.adamnestor.courtvision.event;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * Published when a new dashboard snapshot replaces the previous one.
+ */
+public record DashboardSnapshotPublishedEvent(LocalDate gameDate, Instant generatedAt) {
+}
@@ -0,0 +1,9 @@
+package com.adamnestor.courtvision.event;
+
+import java.util.Set;
+
+/**
+ * Published when box-score rows are written; carries the IDs of the players whose game logs changed.
+ */
+public record GameStatsIngestedEvent(Set<Long> playerIds) {
+}
@@ -0,0 +1,9 @@
+package com.adamnestor.courtvision.event;
+
+import java.util.Set;
+
+/**
+ * Published when game rows (schedule, status or scores) are written; carries the IDs of the games that changed.
+ */
+public record GamesUpdatedEvent(Set<Long> gameIds) {
+}
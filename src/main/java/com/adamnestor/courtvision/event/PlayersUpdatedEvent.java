@@ -0,0 +1,9 @@
+package com.adamnestor.courtvision.event;
+
+import java.util.Set;
+
+/**
+ * Published when player rows (roster, team or status) are written; carries the IDs of the players that changed.
+ */
+public record PlayersUpdatedEvent(Set<Long> playerIds) {
+}
@@ -0,0 +1,15 @@
+package com.adamnestor.courtvision.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class DashboardTimeoutException extends RuntimeException {
+    public DashboardTimeoutException(String message) {
+        super(message);
+    }
+
+    public DashboardTimeoutException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
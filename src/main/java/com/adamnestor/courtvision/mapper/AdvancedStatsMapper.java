@@ -25,10 +25,21 @@ public class AdvancedStatsMapper {
         stats.setOffensiveRating(apiStats.getOffensiveRating());
         stats.setDefensiveRating(apiStats.getDefensiveRating());
         stats.setNetRating(apiStats.getNetRating());
+        stats.setHomeGame(isHomeTeam(apiStats, game));
 
         return stats;
     }
 
+    /**
+     * Whether the stat line's team is the game's home team, or null if the payload carries no team.
+     */
+    private Boolean isHomeTeam(ApiAdvancedStats apiStats, Games game) {
+        if (apiStats.getTeam() == null || apiStats.getTeam().getId() == null || game.getHomeTeam() == null) {
+            return null;
+        }
+        return apiStats.getTeam().getId().equals(game.getHomeTeam().getExternalId());
+    }
+
     public void updateEntity(AdvancedGameStats existingStats, ApiAdvancedStats apiStats) {
         if (apiStats == null) {
             return;
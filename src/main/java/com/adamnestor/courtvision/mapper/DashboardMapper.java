@@ -4,6 +4,7 @@ import com.adamnestor.courtvision.domain.Players;
 import com.adamnestor.courtvision.domain.Games;
 import com.adamnestor.courtvision.domain.StatCategory;
 import com.adamnestor.courtvision.dto.response.DashboardStatsResponse;
+import com.adamnestor.courtvision.service.util.FixedPointMath;
 import org.springframework.stereotype.Component;
 import java.math.BigDecimal;
 import java.util.List;
@@ -40,4 +41,36 @@ public class DashboardMapper {
             game.getGameTime()
         );
     }
+
+    /**
+     * Maps fixed-point dashboard values: hit rate in tenths of a percent and average in
+     * ten-thousandths (see {@link FixedPointMath}).
+     */
+    public DashboardStatsResponse toStatsResponse(
+        Players player,
+        Games game,
+        StatCategory category,
+        Integer threshold,
+        long hitRateTenths,
+        long averageTenThousandths,
+        Integer confidenceScore,
+        String opponent,
+        boolean isAway
+    ) {
+        return new DashboardStatsResponse(
+            player.getId(),
+            player.getFirstName() + " " + player.getLastName(),
+            player.getTeam().getAbbreviation(),
+            opponent,
+            isAway,
+            category,
+            threshold,
+            FixedPointMath.toBigDecimal(hitRateTenths, FixedPointMath.HIT_RATE_SCALE),
+            confidenceScore,
+            null,
+            FixedPointMath.toBigDecimal(averageTenThousandths, FixedPointMath.AVERAGE_SCALE),
+            List.of(),
+            game.getGameTime()
+        );
+    }
 }
\ No newline at end of file
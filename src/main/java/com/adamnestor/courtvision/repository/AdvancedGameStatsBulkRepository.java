@@ -0,0 +1,17 @@
+package com.adamnestor.courtvision.repository;
+
+import com.adamnestor.courtvision.domain.AdvancedGameStats;
+
+import java.util.List;
+
+public interface AdvancedGameStatsBulkRepository {
+    /**
+     * Inserts or updates advanced stat rows keyed on game and player. Existing rows for all
+     * the games involved are resolved with one query, then updates and inserts are each
+     * sent as a single JDBC batch. Updates only touch the columns the API provides.
+     *
+     * @param stats Advanced stat rows with game and player set
+     * @return The same rows with their IDs assigned
+     */
+    List<AdvancedGameStats> upsertAll(List<AdvancedGameStats> stats);
+}
@@ -0,0 +1,103 @@
+package com.adamnestor.courtvision.repository;
+
+import com.adamnestor.courtvision.domain.AdvancedGameStats;
+import com.adamnestor.courtvision.repository.BulkUpsertSupport.RowKey;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public class AdvancedGameStatsBulkRepositoryImpl implements AdvancedGameStatsBulkRepository {
+
+    private static final String INSERT_SQL =
+        "INSERT INTO advanced_game_stats (player_id, game_id, game_date, pie, pace, assist_percentage, assist_ratio, " +
+        "assist_to_turnover, defensive_rating, defensive_rebound_percentage, effective_fg_percentage, " +
+        "net_rating, offensive_rating, offensive_rebound_percentage, rebound_percentage, " +
+        "true_shooting_percentage, turnover_ratio, usage_percentage, created_at, days_of_rest, " +
+        "rest_impact_score, blowout_risk, performance_retention, back_to_back, home_game, point_margin, blowout) " +
+        "VALUES (:playerId, :gameId, :gameDate, :pie, :pace, :assistPercentage, :assistRatio, " +
+        ":assistToTurnover, :defensiveRating, :defensiveReboundPercentage, :effectiveFieldGoalPercentage, " +
+        ":netRating, :offensiveRating, :offensiveReboundPercentage, :reboundPercentage, " +
+        ":trueShootingPercentage, :turnoverRatio, :usagePercentage, :createdAt, :daysOfRest, " +
+        ":restImpactScore, :blowoutRisk, :performanceRetention, :backToBack, :homeGame, :pointMargin, :blowout)";
+
+    // Only the columns AdvancedStatsMapper fills from the API, the copied game date and the ingest-time features
+    private static final String UPDATE_SQL =
+        "UPDATE advanced_game_stats SET game_date = :gameDate, pie = :pie, pace = :pace, assist_percentage = :assistPercentage, " +
+        "assist_ratio = :assistRatio, assist_to_turnover = :assistToTurnover, " +
+        "offensive_rating = :offensiveRating, defensive_rating = :defensiveRating, net_rating = :netRating, " +
+        "days_of_rest = :daysOfRest, rest_impact_score = :restImpactScore, back_to_back = :backToBack, " +
+        "home_game = :homeGame, point_margin = :pointMargin, blowout = :blowout " +
+        "WHERE id = :id";
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public AdvancedGameStatsBulkRepositoryImpl(NamedParameterJdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    @Override
+    public List<AdvancedGameStats> upsertAll(List<AdvancedGameStats> stats) {
+        Map<RowKey, Long> existingIds = BulkUpsertSupport.findExistingIds(jdbc, "advanced_game_stats",
+            stats.stream().map(stat -> stat.getGame().getId()).collect(Collectors.toSet()));
+
+        List<AdvancedGameStats> inserts = new ArrayList<>();
+        List<AdvancedGameStats> updates = new ArrayList<>();
+        for (AdvancedGameStats stat : stats) {
+            stat.setGameDate(stat.getGame().getGameDate());
+            Long id = existingIds.get(new RowKey(stat.getGame().getId(), stat.getPlayer().getId()));
+            if (id != null) {
+                stat.setId(id);
+                updates.add(stat);
+            } else {
+                stat.setCreatedAt(LocalDate.now());
+                inserts.add(stat);
+            }
+        }
+
+        BulkUpsertSupport.updateAll(jdbc, UPDATE_SQL, updates, AdvancedGameStatsBulkRepositoryImpl::params);
+        List<Long> insertedIds = BulkUpsertSupport.insertAll(jdbc, INSERT_SQL, inserts,
+            AdvancedGameStatsBulkRepositoryImpl::params);
+        for (int i = 0; i < insertedIds.size(); i++) {
+            inserts.get(i).setId(insertedIds.get(i));
+        }
+        return stats;
+    }
+
+    private static SqlParameterSource params(AdvancedGameStats stat) {
+        return new MapSqlParameterSource()
+            .addValue("id", stat.getId())
+            .addValue("playerId", stat.getPlayer().getId())
+            .addValue("gameId", stat.getGame().getId())
+            .addValue("gameDate", stat.getGameDate())
+            .addValue("pie", stat.getPie())
+            .addValue("pace", stat.getPace())
+            .addValue("assistPercentage", stat.getAssistPercentage())
+            .addValue("assistRatio", stat.getAssistRatio())
+            .addValue("assistToTurnover", stat.getAssistToTurnover())
+            .addValue("defensiveRating", stat.getDefensiveRating())
+            .addValue("defensiveReboundPercentage", stat.getDefensiveReboundPercentage())
+            .addValue("effectiveFieldGoalPercentage", stat.getEffectiveFieldGoalPercentage())
+            .addValue("netRating", stat.getNetRating())
+            .addValue("offensiveRating", stat.getOffensiveRating())
+            .addValue("offensiveReboundPercentage", stat.getOffensiveReboundPercentage())
+            .addValue("reboundPercentage", stat.getReboundPercentage())
+            .addValue("trueShootingPercentage", stat.getTrueShootingPercentage())
+            .addValue("turnoverRatio", stat.getTurnoverRatio())
+            .addValue("usagePercentage", stat.getUsagePercentage())
+            .addValue("createdAt", stat.getCreatedAt())
+            .addValue("daysOfRest", stat.getDaysOfRest())
+            .addValue("restImpactScore", stat.getRestImpactScore())
+            .addValue("blowoutRisk", stat.getBlowoutRisk())
+            .addValue("performanceRetention", stat.getPerformanceRetention())
+            .addValue("backToBack", stat.getBackToBack())
+            .addValue("homeGame", stat.getHomeGame())
+            .addValue("pointMargin", stat.getPointMargin())
+            .addValue("blowout", stat.getBlowout());
+    }
+}
@@ -1,9 +1,11 @@
 package com.adamnestor.courtvision.repository;
 
+import com.adamnestor.courtvision.confidence.model.GameRatingTotals;
 import com.adamnestor.courtvision.domain.AdvancedGameStats;
 import com.adamnestor.courtvision.domain.Games;
 import com.adamnestor.courtvision.domain.Players;
 import com.adamnestor.courtvision.domain.Teams;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -11,39 +13,44 @@ import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface AdvancedGameStatsRepository extends JpaRepository<AdvancedGameStats, Long> {
+public interface AdvancedGameStatsRepository extends JpaRepository<AdvancedGameStats, Long>, AdvancedGameStatsBulkRepository {
 
     // Basic finder methods
     Optional<AdvancedGameStats> findByPlayerAndGame(Players player, Games game);
 
     // Find most recent advanced stats for a player (no limit)
+    @EntityGraph(attributePaths = {"game", "game.homeTeam", "game.awayTeam"})
     @Query("SELECT ags FROM AdvancedGameStats ags " +
             "WHERE ags.player = :player " +
-            "ORDER BY ags.game.gameDate DESC")
+            "ORDER BY ags.gameDate DESC")
     List<AdvancedGameStats> findPlayerRecentGames(@Param("player") Players player);
 
     // Find N most recent advanced stats for a player
+    @EntityGraph(attributePaths = {"game", "game.homeTeam", "game.awayTeam"})
     @Query(value = "SELECT ags FROM AdvancedGameStats ags " +
             "WHERE ags.player = :player " +
-            "ORDER BY ags.game.gameDate DESC " +
+            "ORDER BY ags.gameDate DESC " +
             "LIMIT :limit")
     List<AdvancedGameStats> findPlayerRecentGames(@Param("player") Players player, @Param("limit") int limit);
 
     // Find games in date range with optional player filter
+    @EntityGraph(attributePaths = {"game", "game.homeTeam", "game.awayTeam"})
     @Query("SELECT ags FROM AdvancedGameStats ags " +
             "WHERE (:player IS NULL OR ags.player = :player) " +
-            "AND ags.game.gameDate BETWEEN :startDate AND :endDate " +
-            "ORDER BY ags.game.gameDate DESC")
+            "AND ags.gameDate BETWEEN :startDate AND :endDate " +
+            "ORDER BY ags.gameDate DESC")
     List<AdvancedGameStats> findGamesByDateRange(
             @Param("player") Players player,
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate);
 
     // Find team's games in date range
+    @EntityGraph(attributePaths = {"game", "game.homeTeam", "game.awayTeam"})
     @Query("SELECT ags FROM AdvancedGameStats ags " +
             "WHERE (ags.game.homeTeam = :team OR ags.game.awayTeam = :team) " +
             "AND ags.game.gameDate BETWEEN :startDate AND :endDate " +
@@ -72,9 +79,10 @@ public interface AdvancedGameStatsRepository extends JpaRepository<AdvancedGameS
             @Param("endDate") LocalDate endDate);
 
     // Find last N games for a player
+    @EntityGraph(attributePaths = {"game", "game.homeTeam", "game.awayTeam"})
     @Query(value = "SELECT ags FROM AdvancedGameStats ags " +
             "WHERE ags.player = :player " +
-            "ORDER BY ags.game.gameDate DESC " +
+            "ORDER BY ags.gameDate DESC " +
             "LIMIT :limit")
     List<AdvancedGameStats> findLastNGames(
             @Param("player") Players player,
@@ -83,6 +91,24 @@ public interface AdvancedGameStatsRepository extends JpaRepository<AdvancedGameS
     // Check if stats exist for a game
     boolean existsByGame(Games game);
 
+    // For recomputing ingest-time features over a backfilled range
+    @EntityGraph(attributePaths = {"player", "player.team", "game", "game.homeTeam", "game.awayTeam"})
+    @Query("SELECT ags FROM AdvancedGameStats ags " +
+            "WHERE ags.game.gameDate BETWEEN :startDate AND :endDate")
+    List<AdvancedGameStats> findWithGameAndPlayerByGameDateBetween(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    // Each player's first stored game after a date
+    @EntityGraph(attributePaths = {"player", "player.team", "game", "game.homeTeam", "game.awayTeam"})
+    @Query("SELECT ags FROM AdvancedGameStats ags " +
+            "WHERE ags.player.id IN :playerIds " +
+            "AND ags.game.gameDate = (SELECT MIN(next.game.gameDate) FROM AdvancedGameStats next " +
+            "WHERE next.player = ags.player AND next.game.gameDate > :date)")
+    List<AdvancedGameStats> findNextGames(
+            @Param("playerIds") Collection<Long> playerIds,
+            @Param("date") LocalDate date);
+
     @Query("SELECT AVG(ags.netRating) FROM AdvancedGameStats ags " +
             "WHERE (ags.game.homeTeam = :team OR ags.game.awayTeam = :team) " +
             "AND ags.game.gameDate BETWEEN :startDate AND :endDate")
@@ -102,4 +128,15 @@ public interface AdvancedGameStatsRepository extends JpaRepository<AdvancedGameS
             @Param("team") Teams team,
             @Param("since") LocalDate since
     );
+
+    // Per-game rating totals for the rolling team context
+    @Query("SELECT new com.adamnestor.courtvision.confidence.model.GameRatingTotals(" +
+            "g.id, g.gameDate, g.homeTeam.id, g.awayTeam.id, " +
+            "SUM(ags.defensiveRating), COUNT(ags.defensiveRating), " +
+            "SUM(ags.pace), COUNT(ags.pace), " +
+            "SUM(ags.netRating), COUNT(ags.netRating)) " +
+            "FROM AdvancedGameStats ags JOIN ags.game g " +
+            "WHERE g.gameDate >= :since " +
+            "GROUP BY g.id, g.gameDate, g.homeTeam.id, g.awayTeam.id")
+    List<GameRatingTotals> findGameRatingTotalsSince(@Param("since") LocalDate since);
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.adamnestor.courtvision.repository;
+
+import com.adamnestor.courtvision.domain.BackfillJob;
+import com.adamnestor.courtvision.domain.BackfillStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface BackfillJobRepository extends JpaRepository<BackfillJob, Long> {
+
+    List<BackfillJob> findTop20ByOrderByIdDesc();
+
+    List<BackfillJob> findByStatus(BackfillStatus status);
+}
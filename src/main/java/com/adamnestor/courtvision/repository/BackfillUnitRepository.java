@@ -0,0 +1,19 @@
+package com.adamnestor.courtvision.repository;
+
+import com.adamnestor.courtvision.domain.BackfillStatus;
+import com.adamnestor.courtvision.domain.BackfillUnit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface BackfillUnitRepository extends JpaRepository<BackfillUnit, Long> {
+
+    List<BackfillUnit> findByJobIdOrderByGameDateAsc(Long jobId);
+
+    List<BackfillUnit> findByJobIdIn(Collection<Long> jobIds);
+
+    List<BackfillUnit> findByJobIdAndStatusInOrderByGameDateAsc(Long jobId, Collection<BackfillStatus> statuses);
+}
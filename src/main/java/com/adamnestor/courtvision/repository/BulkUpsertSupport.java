@@ -0,0 +1,71 @@
+package com.adamnestor.courtvision.repository;
+
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Shared pieces of the bulk upserts: resolving existing per-game stat rows by
+ * (game, player) and running batched inserts that return generated IDs.
+ */
+final class BulkUpsertSupport {
+
+    record RowKey(Long gameId, Long playerId) {}
+
+    private BulkUpsertSupport() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Maps (game, player) to the existing row ID for every row of the given games.
+     */
+    static Map<RowKey, Long> findExistingIds(NamedParameterJdbcTemplate jdbc, String table, Collection<Long> gameIds) {
+        Map<RowKey, Long> ids = new HashMap<>();
+        if (gameIds.isEmpty()) {
+            return ids;
+        }
+        jdbc.query("SELECT id, game_id, player_id FROM " + table + " WHERE game_id IN (:gameIds)",
+            Map.of("gameIds", gameIds),
+            rs -> {
+                ids.putIfAbsent(new RowKey(rs.getLong("game_id"), rs.getLong("player_id")), rs.getLong("id"));
+            });
+        return ids;
+    }
+
+    /**
+     * Batch-inserts the rows and returns their generated IDs in insertion order.
+     */
+    static <T> List<Long> insertAll(
+            NamedParameterJdbcTemplate jdbc,
+            String sql,
+            List<T> rows,
+            Function<T, SqlParameterSource> params) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbc.batchUpdate(sql, rows.stream().map(params).toArray(SqlParameterSource[]::new),
+            keyHolder, new String[]{"id"});
+        return keyHolder.getKeyList().stream()
+            .map(keys -> ((Number) keys.values().iterator().next()).longValue())
+            .toList();
+    }
+
+    static <T> void updateAll(
+            NamedParameterJdbcTemplate jdbc,
+            String sql,
+            List<T> rows,
+            Function<T, SqlParameterSource> params) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbc.batchUpdate(sql, rows.stream().map(params).toArray(SqlParameterSource[]::new));
+    }
+}
@@ -0,0 +1,17 @@
+package com.adamnestor.courtvision.repository;
+
+import com.adamnestor.courtvision.domain.GameStats;
+
+import java.util.List;
+
+public interface GameStatsBulkRepository {
+    /**
+     * Inserts or updates stat rows keyed on game and player. Existing rows for all the
+     * games involved are resolved with one query, then updates and inserts are each sent
+     * as a single JDBC batch.
+     *
+     * @param stats Stat rows with game and player set
+     * @return The same rows with their IDs assigned
+     */
+    List<GameStats> upsertAll(List<GameStats> stats);
+}
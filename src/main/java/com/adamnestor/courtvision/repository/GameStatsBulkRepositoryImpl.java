@@ -0,0 +1,88 @@
+package com.adamnestor.courtvision.repository;
+
+import com.adamnestor.courtvision.domain.GameStats;
+import com.adamnestor.courtvision.repository.BulkUpsertSupport.RowKey;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public class GameStatsBulkRepositoryImpl implements GameStatsBulkRepository {
+
+    private static final String INSERT_SQL =
+        "INSERT INTO game_stats (external_id, player_id, game_id, game_date, minutes_played, points, assists, rebounds, " +
+        "steals, blocks, turnovers, field_goals_made, field_goals_attempted, three_pointers_made, " +
+        "three_pointers_attempted, free_throws_made, free_throws_attempted, created_at) " +
+        "VALUES (:externalId, :playerId, :gameId, :gameDate, :minutesPlayed, :points, :assists, :rebounds, " +
+        ":steals, :blocks, :turnovers, :fieldGoalsMade, :fieldGoalsAttempted, :threePointersMade, " +
+        ":threePointersAttempted, :freeThrowsMade, :freeThrowsAttempted, :createdAt)";
+
+    private static final String UPDATE_SQL =
+        "UPDATE game_stats SET game_date = :gameDate, minutes_played = :minutesPlayed, points = :points, assists = :assists, " +
+        "rebounds = :rebounds, steals = :steals, blocks = :blocks, turnovers = :turnovers, " +
+        "field_goals_made = :fieldGoalsMade, field_goals_attempted = :fieldGoalsAttempted, " +
+        "three_pointers_made = :threePointersMade, three_pointers_attempted = :threePointersAttempted, " +
+        "free_throws_made = :freeThrowsMade, free_throws_attempted = :freeThrowsAttempted " +
+        "WHERE id = :id";
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public GameStatsBulkRepositoryImpl(NamedParameterJdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    @Override
+    public List<GameStats> upsertAll(List<GameStats> stats) {
+        Map<RowKey, Long> existingIds = BulkUpsertSupport.findExistingIds(jdbc, "game_stats",
+            stats.stream().map(stat -> stat.getGame().getId()).collect(Collectors.toSet()));
+
+        List<GameStats> inserts = new ArrayList<>();
+        List<GameStats> updates = new ArrayList<>();
+        for (GameStats stat : stats) {
+            stat.setGameDate(stat.getGame().getGameDate());
+            Long id = existingIds.get(new RowKey(stat.getGame().getId(), stat.getPlayer().getId()));
+            if (id != null) {
+                stat.setId(id);
+                updates.add(stat);
+            } else {
+                stat.setCreatedAt(LocalDate.now());
+                inserts.add(stat);
+            }
+        }
+
+        BulkUpsertSupport.updateAll(jdbc, UPDATE_SQL, updates, GameStatsBulkRepositoryImpl::params);
+        List<Long> insertedIds = BulkUpsertSupport.insertAll(jdbc, INSERT_SQL, inserts, GameStatsBulkRepositoryImpl::params);
+        for (int i = 0; i < insertedIds.size(); i++) {
+            inserts.get(i).setId(insertedIds.get(i));
+        }
+        return stats;
+    }
+
+    private static SqlParameterSource params(GameStats stat) {
+        return new MapSqlParameterSource()
+            .addValue("id", stat.getId())
+            .addValue("externalId", stat.getExternalId())
+            .addValue("playerId", stat.getPlayer().getId())
+            .addValue("gameId", stat.getGame().getId())
+            .addValue("gameDate", stat.getGameDate())
+            .addValue("minutesPlayed", stat.getMinutesPlayed())
+            .addValue("points", stat.getPoints())
+            .addValue("assists", stat.getAssists())
+            .addValue("rebounds", stat.getRebounds())
+            .addValue("steals", stat.getSteals())
+            .addValue("blocks", stat.getBlocks())
+            .addValue("turnovers", stat.getTurnovers())
+            .addValue("fieldGoalsMade", stat.getFieldGoalsMade())
+            .addValue("fieldGoalsAttempted", stat.getFieldGoalsAttempted())
+            .addValue("threePointersMade", stat.getThreePointersMade())
+            .addValue("threePointersAttempted", stat.getThreePointersAttempted())
+            .addValue("freeThrowsMade", stat.getFreeThrowsMade())
+            .addValue("freeThrowsAttempted", stat.getFreeThrowsAttempted())
+            .addValue("createdAt", stat.getCreatedAt());
+    }
+}
@@ -5,27 +5,77 @@ import com.adamnestor.courtvision.domain.Games;
 import com.adamnestor.courtvision.domain.Teams;
 import com.adamnestor.courtvision.domain.Players;
 import com.adamnestor.courtvision.domain.PlayerStatus;
+import com.adamnestor.courtvision.service.feature.PreviousGameDate;
+import com.adamnestor.courtvision.service.gamelog.GameStatLine;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
 @Repository
-public interface GameStatsRepository extends JpaRepository<GameStats, Long> {
+public interface GameStatsRepository extends JpaRepository<GameStats, Long>, GameStatsBulkRepository {
     // For player detail view - game by game stats
+    @EntityGraph(attributePaths = {"game", "game.homeTeam", "game.awayTeam"})
     @Query("SELECT gs FROM GameStats gs " +
             "WHERE gs.player = :player " +
-            "ORDER BY gs.game.gameDate DESC")
+            "ORDER BY gs.gameDate DESC")
     List<GameStats> findPlayerRecentGames(@Param("player") Players player);
 
+    // For batched game logs - IDs of the N most recent stat rows per player
+    @Query(value = "SELECT ranked.id FROM (" +
+            "SELECT gs.id, ROW_NUMBER() OVER (PARTITION BY gs.player_id ORDER BY gs.game_date DESC) AS rn " +
+            "FROM game_stats gs " +
+            "WHERE gs.player_id IN (:playerIds)) ranked " +
+            "WHERE ranked.rn <= :limit",
+            nativeQuery = true)
+    List<Long> findRecentGameStatIds(
+            @Param("playerIds") Collection<Long> playerIds,
+            @Param("limit") int limit);
+
+    String GAME_STAT_LINE = "SELECT new com.adamnestor.courtvision.service.gamelog.GameStatLine(" +
+            "gs.player.id, g.id, g.gameDate, ht.id, ht.abbreviation, at.id, at.abbreviation, " +
+            "gs.points, gs.assists, gs.rebounds, gs.steals, gs.blocks, gs.turnovers) " +
+            "FROM GameStats gs JOIN gs.game g JOIN g.homeTeam ht JOIN g.awayTeam at ";
+
+    @Transactional(readOnly = true)
+    @Query(GAME_STAT_LINE +
+            "WHERE gs.id IN :ids " +
+            "ORDER BY gs.player.id, g.gameDate DESC")
+    List<GameStatLine> findLinesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Transactional(readOnly = true)
+    @Query(GAME_STAT_LINE +
+            "WHERE gs.player.id IN :playerIds " +
+            "ORDER BY gs.player.id, g.gameDate DESC")
+    List<GameStatLine> findAllLinesByPlayerIds(@Param("playerIds") Collection<Long> playerIds);
+
+    /**
+     * Find the most recent game lines for many players at once, ordered by player and game date (desc).
+     * Lines are read-only projections carrying the game and team data game logs need.
+     */
+    @Transactional(readOnly = true)
+    default List<GameStatLine> findRecentLinesForPlayers(Collection<Long> playerIds, int gamesPerPlayer) {
+        if (playerIds.isEmpty() || gamesPerPlayer <= 0) {
+            return List.of();
+        }
+        if (gamesPerPlayer == Integer.MAX_VALUE) {
+            return findAllLinesByPlayerIds(playerIds);
+        }
+        List<Long> ids = findRecentGameStatIds(playerIds, gamesPerPlayer);
+        return ids.isEmpty() ? List.of() : findLinesByIdIn(ids);
+    }
+
     // For calculating hit rates
     @Query("SELECT COUNT(gs) * 100.0 / COUNT(*) FROM GameStats gs " +
             "WHERE gs.player = :player " +
-            "AND gs.game.gameDate BETWEEN :startDate AND :endDate " +
+            "AND gs.gameDate BETWEEN :startDate AND :endDate " +
             "AND gs.points >= :threshold")
     Double calculatePointsHitRate(
             @Param("player") Players player,
@@ -36,7 +86,7 @@ public interface GameStatsRepository extends JpaRepository<GameStats, Long> {
 
     @Query("SELECT COUNT(gs) * 100.0 / COUNT(*) FROM GameStats gs " +
             "WHERE gs.player = :player " +
-            "AND gs.game.gameDate BETWEEN :startDate AND :endDate " +
+            "AND gs.gameDate BETWEEN :startDate AND :endDate " +
             "AND gs.assists >= :threshold")
     Double calculateAssistsHitRate(
             @Param("player") Players player,
@@ -47,7 +97,7 @@ public interface GameStatsRepository extends JpaRepository<GameStats, Long> {
 
     @Query("SELECT COUNT(gs) * 100.0 / COUNT(*) FROM GameStats gs " +
             "WHERE gs.player = :player " +
-            "AND gs.game.gameDate BETWEEN :startDate AND :endDate " +
+            "AND gs.gameDate BETWEEN :startDate AND :endDate " +
             "AND gs.rebounds >= :threshold")
     Double calculateReboundsHitRate(
             @Param("player") Players player,
@@ -59,7 +109,7 @@ public interface GameStatsRepository extends JpaRepository<GameStats, Long> {
     // For calculating averages
     @Query("SELECT AVG(gs.points) FROM GameStats gs " +
             "WHERE gs.player = :player " +
-            "AND gs.game.gameDate BETWEEN :startDate AND :endDate")
+            "AND gs.gameDate BETWEEN :startDate AND :endDate")
     Double calculatePointsAverage(
             @Param("player") Players player,
             @Param("startDate") LocalDate startDate,
@@ -70,33 +120,33 @@ public interface GameStatsRepository extends JpaRepository<GameStats, Long> {
 
     @Query("SELECT gs FROM GameStats gs " +
             "WHERE gs.player = :player " +
-            "AND gs.game.gameDate < :date " +
-            "ORDER BY gs.game.gameDate DESC " +
+            "AND gs.gameDate < :date " +
+            "ORDER BY gs.gameDate DESC " +
             "LIMIT 1")
     Optional<GameStats> findPreviousGame(
             @Param("player") Players player,
             @Param("date") LocalDate date);
 
+    // Each player's previous game before a date, for many players at once (ingest-time rest features)
+    @Query("SELECT new com.adamnestor.courtvision.service.feature.PreviousGameDate(gs.player.id, MAX(gs.gameDate)) " +
+            "FROM GameStats gs " +
+            "WHERE gs.player.id IN :playerIds " +
+            "AND gs.gameDate < :date " +
+            "GROUP BY gs.player.id")
+    List<PreviousGameDate> findPreviousGameDates(
+            @Param("playerIds") Collection<Long> playerIds,
+            @Param("date") LocalDate date);
+
+    @EntityGraph(attributePaths = {"game", "game.homeTeam", "game.awayTeam"})
     @Query("SELECT gs FROM GameStats gs " +
             "WHERE gs.player = :player " +
-            "AND gs.game.gameDate BETWEEN :start AND :end " +
-            "ORDER BY gs.game.gameDate ASC")
+            "AND gs.gameDate BETWEEN :start AND :end " +
+            "ORDER BY gs.gameDate ASC")
     List<GameStats> findGamesByDateRange(
             @Param("player") Players player,
             @Param("start") LocalDate start,
             @Param("end") LocalDate end);
 
-    @Query("SELECT gs FROM GameStats gs " +
-            "WHERE gs.player = :player " +
-            "AND ABS(gs.game.homeTeamScore - gs.game.awayTeamScore) >= :threshold " +
-            "AND gs.game.gameDate BETWEEN :startDate AND :endDate " +
-            "ORDER BY gs.game.gameDate DESC")
-    List<GameStats> findBlowoutGames(
-            @Param("player") Players player,
-            @Param("threshold") Integer threshold,
-            @Param("startDate") LocalDate startDate,
-            @Param("endDate") LocalDate endDate);
-
     @Query("SELECT DISTINCT gs.game FROM GameStats gs " +
            "WHERE (gs.game.homeTeam = :team1 AND gs.game.awayTeam = :team2 " +
            "    OR gs.game.homeTeam = :team2 AND gs.game.awayTeam = :team1) " +
@@ -110,7 +160,7 @@ public interface GameStatsRepository extends JpaRepository<GameStats, Long> {
 
     @Query("SELECT AVG(gs.assists) FROM GameStats gs " +
             "WHERE gs.player = :player " +
-            "AND gs.game.gameDate BETWEEN :startDate AND :endDate")
+            "AND gs.gameDate BETWEEN :startDate AND :endDate")
     Double calculateAssistsAverage(
             @Param("player") Players player,
             @Param("startDate") LocalDate startDate,
@@ -119,7 +169,7 @@ public interface GameStatsRepository extends JpaRepository<GameStats, Long> {
 
     @Query("SELECT AVG(gs.rebounds) FROM GameStats gs " +
             "WHERE gs.player = :player " +
-            "AND gs.game.gameDate BETWEEN :startDate AND :endDate")
+            "AND gs.gameDate BETWEEN :startDate AND :endDate")
     Double calculateReboundsAverage(
             @Param("player") Players player,
             @Param("startDate") LocalDate startDate,
@@ -145,15 +195,17 @@ public interface GameStatsRepository extends JpaRepository<GameStats, Long> {
     /**
      * Find recent stats for a player, ordered by game date
      */
+    @EntityGraph(attributePaths = {"game", "game.homeTeam", "game.awayTeam"})
     @Query(value = "SELECT gs FROM GameStats gs " +
            "WHERE gs.player = :player " +
-           "ORDER BY gs.game.gameDate DESC " +
+           "ORDER BY gs.gameDate DESC " +
            "LIMIT :limit")
     List<GameStats> findByPlayerOrderByGameDateDesc(@Param("player") Players player, @Param("limit") int limit);
 
     /**
      * Find all stats for a game
      */
+    @EntityGraph(attributePaths = {"player", "player.team"})
     List<GameStats> findByGame(Games game);
 
     @Query("""
@@ -2,6 +2,7 @@ package com.adamnestor.courtvision.repository;
 
 import com.adamnestor.courtvision.domain.Games;
 import com.adamnestor.courtvision.domain.GameStatus;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 import java.time.LocalDate;
@@ -10,9 +11,19 @@ import java.util.Optional;
 
 @Repository
 public interface GamesRepository extends JpaRepository<Games, Long> {
+    // Teams are lazy; callers match players and print opponents from these results
+    @EntityGraph(attributePaths = {"homeTeam", "awayTeam"})
     Optional<Games> findByExternalId(Long externalId);
+
+    @EntityGraph(attributePaths = {"homeTeam", "awayTeam"})
     List<Games> findByGameDate(LocalDate date);
+
+    @EntityGraph(attributePaths = {"homeTeam", "awayTeam"})
     List<Games> findByGameDateAndStatus(LocalDate date, String status);
+
+    @EntityGraph(attributePaths = {"homeTeam", "awayTeam"})
     List<Games> findByGameDateBetweenAndStatus(LocalDate start, LocalDate end, GameStatus status);
+
+    @EntityGraph(attributePaths = {"homeTeam", "awayTeam"})
     List<Games> findByGameDateBetween(LocalDate startDate, LocalDate endDate);
 }
\ No newline at end of file
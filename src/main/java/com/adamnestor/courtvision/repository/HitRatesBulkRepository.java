@@ -0,0 +1,18 @@
+package com.adamnestor.courtvision.repository;
+
+import com.adamnestor.courtvision.domain.HitRates;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface HitRatesBulkRepository {
+    /**
+     * Makes the given rows the complete set of hit rates for the players. Rows are keyed on
+     * player, category, threshold and time period: existing rows are updated in place, new
+     * ones inserted and any the players no longer have are deleted, each as a single batch.
+     *
+     * @param playerIds Players whose hit rates are being replaced
+     * @param hitRates The players' new rows, with player set
+     */
+    void replaceForPlayers(Collection<Long> playerIds, List<HitRates> hitRates);
+}
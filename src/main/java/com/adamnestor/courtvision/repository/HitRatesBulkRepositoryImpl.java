@@ -0,0 +1,97 @@
+package com.adamnestor.courtvision.repository;
+
+import com.adamnestor.courtvision.domain.HitRates;
+import com.adamnestor.courtvision.domain.StatCategory;
+import com.adamnestor.courtvision.domain.TimePeriod;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class HitRatesBulkRepositoryImpl implements HitRatesBulkRepository {
+
+    private static final String INSERT_SQL =
+        "INSERT INTO hit_rates (player_id, category, threshold, time_period, hit_rate, average, " +
+        "games_counted, last_calculated, created_at) " +
+        "VALUES (:playerId, :category, :threshold, :timePeriod, :hitRate, :average, " +
+        ":gamesCounted, :lastCalculated, :createdAt)";
+
+    private static final String UPDATE_SQL =
+        "UPDATE hit_rates SET hit_rate = :hitRate, average = :average, games_counted = :gamesCounted, " +
+        "last_calculated = :lastCalculated WHERE id = :id";
+
+    private record LineKey(Long playerId, StatCategory category, Integer threshold, TimePeriod timePeriod) {}
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public HitRatesBulkRepositoryImpl(NamedParameterJdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    @Override
+    public void replaceForPlayers(Collection<Long> playerIds, List<HitRates> hitRates) {
+        if (playerIds.isEmpty()) {
+            return;
+        }
+
+        Map<LineKey, Long> existingIds = new HashMap<>();
+        jdbc.query("SELECT id, player_id, category, threshold, time_period FROM hit_rates " +
+                "WHERE player_id IN (:playerIds)",
+            Map.of("playerIds", playerIds),
+            rs -> {
+                existingIds.put(new LineKey(
+                    rs.getLong("player_id"),
+                    StatCategory.valueOf(rs.getString("category")),
+                    rs.getInt("threshold"),
+                    TimePeriod.valueOf(rs.getString("time_period"))), rs.getLong("id"));
+            });
+
+        List<HitRates> inserts = new ArrayList<>();
+        List<HitRates> updates = new ArrayList<>();
+        for (HitRates hitRate : hitRates) {
+            Long id = existingIds.remove(key(hitRate));
+            if (id != null) {
+                hitRate.setId(id);
+                updates.add(hitRate);
+            } else {
+                hitRate.setCreatedAt(LocalDate.now());
+                inserts.add(hitRate);
+            }
+        }
+
+        // Whatever is left belongs to windows the players no longer have games for
+        if (!existingIds.isEmpty()) {
+            jdbc.update("DELETE FROM hit_rates WHERE id IN (:ids)", Map.of("ids", existingIds.values()));
+        }
+        BulkUpsertSupport.updateAll(jdbc, UPDATE_SQL, updates, HitRatesBulkRepositoryImpl::params);
+        List<Long> insertedIds = BulkUpsertSupport.insertAll(jdbc, INSERT_SQL, inserts, HitRatesBulkRepositoryImpl::params);
+        for (int i = 0; i < insertedIds.size(); i++) {
+            inserts.get(i).setId(insertedIds.get(i));
+        }
+    }
+
+    private static LineKey key(HitRates hitRate) {
+        return new LineKey(hitRate.getPlayer().getId(), hitRate.getCategory(),
+            hitRate.getThreshold(), hitRate.getTimePeriod());
+    }
+
+    private static SqlParameterSource params(HitRates hitRate) {
+        return new MapSqlParameterSource()
+            .addValue("id", hitRate.getId())
+            .addValue("playerId", hitRate.getPlayer().getId())
+            .addValue("category", hitRate.getCategory().name())
+            .addValue("threshold", hitRate.getThreshold())
+            .addValue("timePeriod", hitRate.getTimePeriod().name())
+            .addValue("hitRate", hitRate.getHitRate())
+            .addValue("average", hitRate.getAverage())
+            .addValue("gamesCounted", hitRate.getGamesCounted())
+            .addValue("lastCalculated", hitRate.getLastCalculated())
+            .addValue("createdAt", hitRate.getCreatedAt());
+    }
+}
@@ -7,9 +7,11 @@ import com.adamnestor.courtvision.domain.TimePeriod;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
-public interface HitRatesRepository extends JpaRepository<HitRates, Long> {
+public interface HitRatesRepository extends JpaRepository<HitRates, Long>, HitRatesBulkRepository {
     // For dashboard display
     @Query("SELECT h FROM HitRates h " +
             "WHERE h.timePeriod = :period " +
@@ -22,6 +24,28 @@ public interface HitRatesRepository extends JpaRepository<HitRates, Long> {
             @Param("threshold") Integer threshold
     );
 
+    // For dashboard lines - one row per player, served by the (player, line) unique key
+    @Query("SELECT h FROM HitRates h " +
+            "JOIN FETCH h.player p " +
+            "LEFT JOIN FETCH p.team " +
+            "WHERE p.id IN :playerIds " +
+            "AND h.timePeriod = :period " +
+            "AND h.category = :category " +
+            "AND h.threshold = :threshold")
+    List<HitRates> findForPlayers(
+            @Param("playerIds") Collection<Long> playerIds,
+            @Param("period") TimePeriod period,
+            @Param("category") StatCategory category,
+            @Param("threshold") Integer threshold
+    );
+
+    Optional<HitRates> findByPlayerIdAndCategoryAndThresholdAndTimePeriod(
+            Long playerId,
+            StatCategory category,
+            Integer threshold,
+            TimePeriod timePeriod
+    );
+
     // For player detail view
     List<HitRates> findByPlayerAndCategoryAndTimePeriodOrderByHitRateDesc(
             Players player,
@@ -3,6 +3,7 @@ package com.adamnestor.courtvision.repository;
 import com.adamnestor.courtvision.domain.Players;
 import com.adamnestor.courtvision.domain.PlayerStatus;
 import com.adamnestor.courtvision.domain.Teams;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -12,21 +13,30 @@ import java.util.Set;
 
 @Repository
 public interface PlayersRepository extends JpaRepository<Players, Long> {
+
+    /**
+     * Find a player with their team loaded, for views that show the team
+     */
+    @EntityGraph(attributePaths = "team")
+    Optional<Players> findWithTeamById(Long id);
     
     /**
      * Find a player by their external API ID
      */
+    @EntityGraph(attributePaths = "team")
     Optional<Players> findByExternalId(Long externalId);
     
     /**
      * Find players by first name or last name containing search term (case insensitive)
      */
+    @EntityGraph(attributePaths = "team")
     List<Players> findByFirstNameContainingIgnoreCaseOrLastNameContainingIgnoreCase(
             String firstName, String lastName);
     
     /**
      * Find all players with a given status, ordered by last name
      */
+    @EntityGraph(attributePaths = "team")
     List<Players> findByStatusOrderByLastNameAsc(PlayerStatus status);
     
     /**
@@ -37,9 +47,12 @@ public interface PlayersRepository extends JpaRepository<Players, Long> {
     /**
      * Find all active players on specified teams
      */
+    @EntityGraph(attributePaths = "team")
     List<Players> findByTeamIdInAndStatus(Set<Long> teamIds, PlayerStatus status);
     
+    @EntityGraph(attributePaths = "team")
     List<Players> findByTeamIdIn(Set<Long> teamIds);
 
+    @EntityGraph(attributePaths = "team")
     List<Players> findByTeamAndStatus(Teams team, PlayerStatus status);
 }
\ No newline at end of file
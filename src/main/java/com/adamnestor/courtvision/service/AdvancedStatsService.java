@@ -1,10 +1,12 @@
 package com.adamnestor.courtvision.service;
 
+import com.adamnestor.courtvision.api.model.ApiAdvancedStats;
 import com.adamnestor.courtvision.domain.AdvancedGameStats;
 import com.adamnestor.courtvision.domain.Games;
 import com.adamnestor.courtvision.domain.Players;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface AdvancedStatsService {
@@ -16,6 +18,24 @@ public interface AdvancedStatsService {
      */
     List<AdvancedGameStats> getAndUpdateGameAdvancedStats(Games game);
 
+    /**
+     * Retrieves and updates advanced stats for several games, requesting many games per API call
+     *
+     * @param games The games to fetch advanced stats for
+     * @return Updated advanced game stats keyed by game ID
+     */
+    Map<Long, List<AdvancedGameStats>> getAndUpdateGameAdvancedStats(List<Games> games);
+
+    /**
+     * Updates advanced stats for several games from API rows already fetched for them
+     *
+     * @param games The games the rows belong to
+     * @param apiStatsByGame API advanced stat rows keyed by external game ID
+     * @return Updated advanced game stats keyed by game ID
+     */
+    Map<Long, List<AdvancedGameStats>> updateGameAdvancedStats(
+        List<Games> games, Map<Long, List<ApiAdvancedStats>> apiStatsByGame);
+
     /**
      * Retrieves and updates player's advanced stats for a season
      *
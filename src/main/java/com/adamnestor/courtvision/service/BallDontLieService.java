@@ -2,7 +2,9 @@ package com.adamnestor.courtvision.service;
 
 import com.adamnestor.courtvision.api.model.*;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface BallDontLieService {
     List<ApiGame> getGames(LocalDate date);
@@ -13,7 +15,9 @@ public interface BallDontLieService {
     ApiPlayer getPlayer(Long playerId);
     List<ApiPlayer> getPlayersByTeam(Long teamId);
     List<ApiGameStats> getGameStats(Long gameId);
+    Map<Long, List<ApiGameStats>> getGameStats(Collection<Long> gameIds);
     List<ApiAdvancedStats> getAdvancedGameStats(Long gameId);
+    Map<Long, List<ApiAdvancedStats>> getAdvancedGameStats(Collection<Long> gameIds);
     List<ApiAdvancedStats> getAdvancedSeasonStats(Long playerId, Integer season);
     List<ApiGameStats> getPlayerSeasonStats(Long playerId, Integer season);
 } 
\ No newline at end of file
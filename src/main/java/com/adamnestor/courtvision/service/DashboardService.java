@@ -1,18 +1,26 @@
 package com.adamnestor.courtvision.service;
 
 import org.springframework.stereotype.Service;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
 
 import com.adamnestor.courtvision.domain.StatCategory;
+import com.adamnestor.courtvision.domain.TimePeriod;
 import com.adamnestor.courtvision.dto.response.DashboardStatsResponse;
 import com.adamnestor.courtvision.mapper.DashboardMapper;
 import com.adamnestor.courtvision.dto.response.DashboardMetadata;
 import com.adamnestor.courtvision.dto.response.DashboardResponse;
 import com.adamnestor.courtvision.repository.GamesRepository;
+import com.adamnestor.courtvision.service.concurrent.SingleFlight;
 import com.adamnestor.courtvision.service.util.DateUtils;
+import com.adamnestor.courtvision.service.version.DataGeneration;
+import com.adamnestor.courtvision.snapshot.model.DashboardSnapshot;
+import com.adamnestor.courtvision.snapshot.service.DashboardSnapshotService;
 
 @Service
 public class DashboardService {
@@ -20,19 +28,31 @@ public class DashboardService {
     private final DashboardMapper dashboardMapper;
     private final GamesRepository gamesRepository;
     private final DateUtils dateUtils;
+    private final DashboardSnapshotService dashboardSnapshotService;
+    private final DataGeneration dataGeneration;
+    private final SingleFlight<RequestKey, DashboardResponse> requestFlight;
     private static final Logger logger = LoggerFactory.getLogger(DashboardService.class);
 
     public DashboardService(
             PlayerPerformanceService hitRateCalculationService,
             DashboardMapper dashboardMapper,
             GamesRepository gamesRepository,
-            DateUtils dateUtils) {
+            DateUtils dateUtils,
+            DashboardSnapshotService dashboardSnapshotService,
+            DataGeneration dataGeneration,
+            MeterRegistry meterRegistry) {
         this.hitRateCalculationService = hitRateCalculationService;
         this.dashboardMapper = dashboardMapper;
         this.gamesRepository = gamesRepository;
         this.dateUtils = dateUtils;
+        this.dashboardSnapshotService = dashboardSnapshotService;
+        this.dataGeneration = dataGeneration;
+        this.requestFlight = new SingleFlight<>("dashboard", meterRegistry);
     }
 
+    private record RequestKey(
+        long generation, LocalDate date, TimePeriod period, StatCategory category, Integer threshold, String sortBy, String sortDir) {}
+
     public DashboardResponse getDashboardStats(
         String timeFrame,
         StatCategory category,
@@ -40,13 +60,43 @@ public class DashboardService {
         String sortBy,
         String sortDir
     ) {
-        // Get stats and map directly to response
-        List<DashboardStatsResponse> stats = hitRateCalculationService.calculateDashboardStats(
-            timeFrame,
-            category,
-            threshold,
-            dashboardMapper
-        );
+        LocalDate today = dateUtils.getCurrentEasternDate();
+        TimePeriod period = timeFrame != null ? TimePeriod.valueOf(timeFrame) : TimePeriod.L5;
+
+        // Clients polling with identical parameters share one computation, unless it started
+        // before the data generation moved
+        return requestFlight.execute(
+            new RequestKey(dataGeneration.current(), today, period, category, threshold, sortBy, sortDir),
+            () -> buildDashboardResponse(today, period, category, threshold, sortBy, sortDir));
+    }
+
+    private DashboardResponse buildDashboardResponse(
+        LocalDate today,
+        TimePeriod period,
+        StatCategory category,
+        Integer threshold,
+        String sortBy,
+        String sortDir
+    ) {
+        // Serve from the precomputed snapshot when one has been published for today
+        Optional<DashboardSnapshot> snapshot = dashboardSnapshotService.getSnapshot(today);
+        Optional<List<DashboardStatsResponse>> snapshotStats = snapshot
+            .flatMap(s -> s.lookup(period, category, threshold));
+
+        List<DashboardStatsResponse> stats;
+        if (snapshotStats.isPresent()) {
+            logger.debug("Serving dashboard stats from snapshot generated at {}",
+                snapshot.get().getGeneratedAt());
+            stats = snapshotStats.get();
+        } else {
+            // Get stats and map directly to response
+            stats = hitRateCalculationService.calculateDashboardStats(
+                period.name(),
+                category,
+                threshold,
+                dashboardMapper
+            );
+        }
 
         // Filter out entries with null values
         stats = stats.stream()
@@ -59,10 +109,9 @@ public class DashboardService {
         }
 
         // Get actual count of today's games
-        int totalGames = gamesRepository.findByGameDateAndStatus(
-            dateUtils.getCurrentEasternDate(), 
-            "scheduled"
-        ).size();
+        int totalGames = snapshotStats.isPresent()
+            ? snapshot.get().getTotalGames()
+            : gamesRepository.findByGameDateAndStatus(today, "scheduled").size();
         
         logger.debug("Total games found: {}", totalGames);
 
@@ -14,6 +14,14 @@ public interface GameService {
      */
     List<Games> getAndUpdateGames(LocalDate date);
 
+    /**
+     * Updates the database from games already fetched from the API
+     *
+     * @param apiGames The games returned by the API
+     * @return List of updated game entities
+     */
+    List<Games> updateGames(List<ApiGame> apiGames);
+
     /**
      * Retrieves games for a specific season and updates the database
      *
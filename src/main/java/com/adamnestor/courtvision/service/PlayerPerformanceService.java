@@ -1,5 +1,6 @@
 package com.adamnestor.courtvision.service;
 
+import com.adamnestor.courtvision.domain.Games;
 import com.adamnestor.courtvision.domain.Players;
 import com.adamnestor.courtvision.domain.StatCategory;
 import com.adamnestor.courtvision.domain.TimePeriod;
@@ -83,4 +84,13 @@ public interface PlayerPerformanceService {
         DashboardMapper dashboardMapper,
         String sortDirection
     );
+
+    /**
+     * Calculates the full dashboard matrix for the given games: every time period,
+     * stat category and valid threshold, using a single game-log fetch per player.
+     *
+     * @param games The games whose rostered players should be evaluated
+     * @return Qualifying dashboard rows grouped by time period, ordered by hit rate and confidence
+     */
+    Map<TimePeriod, List<DashboardStatsResponse>> calculateDashboardMatrix(List<Games> games);
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.adamnestor.courtvision.service;
 
+import com.adamnestor.courtvision.api.model.ApiPlayer;
 import com.adamnestor.courtvision.domain.Players;
 import com.adamnestor.courtvision.domain.Teams;
 
@@ -15,6 +16,16 @@ public interface PlayerService {
      */
     Players getAndUpdatePlayer(Long playerId);
 
+    /**
+     * Resolves the player embedded in an API stat row. Recently resolved players come from
+     * cache; otherwise the player is created or refreshed from the embedded payload, and the
+     * API is only called when the payload is incomplete.
+     *
+     * @param apiPlayer The player payload embedded in a stat row
+     * @return Resolved player entity, or null if the player could not be resolved
+     */
+    Players resolvePlayer(ApiPlayer apiPlayer);
+
     /**
      * Retrieves and updates all active players
      *
@@ -68,4 +79,9 @@ public interface PlayerService {
      * Updates a player's information
      */
     Players updatePlayer(Players player);
+
+    /**
+     * Updates several players' information in one transaction
+     */
+    List<Players> updatePlayers(List<Players> players);
 } 
\ No newline at end of file
@@ -1,11 +1,13 @@
 package com.adamnestor.courtvision.service;
 
+import com.adamnestor.courtvision.api.model.ApiGameStats;
 import com.adamnestor.courtvision.domain.GameStats;
 import com.adamnestor.courtvision.domain.Games;
 import com.adamnestor.courtvision.domain.Players;
 import com.adamnestor.courtvision.domain.StatCategory;
 
 import java.util.List;
+import java.util.Map;
 
 public interface StatsService {
     /**
@@ -16,6 +18,23 @@ public interface StatsService {
      */
     List<GameStats> getAndUpdateGameStats(Games game);
 
+    /**
+     * Retrieves and updates stats for several games, requesting many games per API call
+     *
+     * @param games The games to fetch stats for
+     * @return Updated game stats keyed by game ID
+     */
+    Map<Long, List<GameStats>> getAndUpdateGameStats(List<Games> games);
+
+    /**
+     * Updates stats for several games from API rows already fetched for them
+     *
+     * @param games The games the rows belong to
+     * @param apiStatsByGame API stat rows keyed by external game ID
+     * @return Updated game stats keyed by game ID
+     */
+    Map<Long, List<GameStats>> updateGameStats(List<Games> games, Map<Long, List<ApiGameStats>> apiStatsByGame);
+
     /**
      * Retrieves and updates player's stats for a season
      *
@@ -0,0 +1,80 @@
+package com.adamnestor.courtvision.service.concurrent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Shares one in-flight computation between concurrent callers with equal keys.
+ * The first caller for a key runs the computation on its own thread; callers arriving while it
+ * runs wait for and return the same result, or rethrow the same exception. Nothing is kept once
+ * the computation finishes, so this coalesces bursts of identical requests without caching them.
+ * <p>
+ * Calls are counted in {@code courtvision.singleflight.calls}, tagged with the flight's name and
+ * {@code outcome=executed} (ran the computation) or {@code outcome=merged} (joined one in flight).
+ *
+ * @param <K> Key type; must implement equals and hashCode, e.g. a record of the request parameters
+ */
+public class SingleFlight<K, V> {
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter executed;
+    private final Counter merged;
+
+    public SingleFlight(String name, MeterRegistry meterRegistry) {
+        this.executed = Counter.builder("courtvision.singleflight.calls")
+                .tag("name", name)
+                .tag("outcome", "executed")
+                .register(meterRegistry);
+        this.merged = Counter.builder("courtvision.singleflight.calls")
+                .tag("name", name)
+                .tag("outcome", "merged")
+                .register(meterRegistry);
+        Gauge.builder("courtvision.singleflight.in_flight", inFlight, ConcurrentMap::size)
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the result of the in-flight computation for the key, starting it if there is none.
+     */
+    public V execute(K key, Supplier<? extends V> computation) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            merged.increment();
+            return join(running);
+        }
+
+        executed.increment();
+        try {
+            V result = computation.get();
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private static <V> V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
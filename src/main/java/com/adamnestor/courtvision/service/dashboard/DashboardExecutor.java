@@ -0,0 +1,107 @@
+package com.adamnestor.courtvision.service.dashboard;
+
+import com.adamnestor.courtvision.config.ReadWriteRoutingDataSource;
+import com.adamnestor.courtvision.exception.DashboardTimeoutException;
+import com.adamnestor.courtvision.util.SqlStatementCounter;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * Runs the per-player work of a dashboard build on a dedicated fixed pool instead of the common
+ * ForkJoinPool. The work blocks on JDBC, so the pool is sized to a share of the connection pool:
+ * however many dashboard requests are in flight, they never hold more connections than it has threads.
+ * <p>
+ * Each build runs against a deadline ({@code dashboard.timeout-ms}); unfinished work is cancelled
+ * and the request fails with {@link DashboardTimeoutException}.
+ */
+@Component
+public class DashboardExecutor {
+    private static final Logger logger = LoggerFactory.getLogger(DashboardExecutor.class);
+
+    private final ExecutorService workers;
+    private final long timeoutNanos;
+
+    public DashboardExecutor(
+            @Value("${dashboard.workers:0}") int workerCount,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int connectionPoolSize,
+            @Value("${dashboard.timeout-ms:10000}") long timeoutMillis) {
+        // Default to half the connection pool so ingestion and other requests keep the rest
+        int threads = workerCount > 0 ? workerCount : Math.max(1, connectionPoolSize / 2);
+        this.workers = Executors.newFixedThreadPool(threads, new CustomizableThreadFactory("dashboard-"));
+        this.timeoutNanos = Duration.ofMillis(timeoutMillis).toNanos();
+        logger.info("Dashboard executor started with {} workers and a {} ms deadline", threads, timeoutMillis);
+    }
+
+    /**
+     * Returns the {@link System#nanoTime()} by which a build starting now has to finish.
+     */
+    public long deadline() {
+        return System.nanoTime() + timeoutNanos;
+    }
+
+    /**
+     * Applies the task to every item on the pool and returns the results in item order. The
+     * caller's statement count and primary pin carry over to the workers.
+     *
+     * @throws DashboardTimeoutException if the results are not all in by the deadline
+     */
+    public <T, R> List<R> mapAll(List<T> items, Function<? super T, ? extends R> task, long deadline) {
+        Function<? super T, ? extends R> counted =
+                ReadWriteRoutingDataSource.propagating(SqlStatementCounter.propagating(task));
+        List<Future<? extends R>> futures = new ArrayList<>(items.size());
+        for (T item : items) {
+            futures.add(workers.submit(() -> counted.apply(item)));
+        }
+
+        List<R> results = new ArrayList<>(items.size());
+        try {
+            for (Future<? extends R> future : futures) {
+                results.add(await(future, deadline));
+            }
+            return results;
+        } finally {
+            // No-op for finished tasks; drops queued ones and interrupts running ones on failure
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    private static <R> R await(Future<? extends R> future, long deadline) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException | CancellationException e) {
+            throw new DashboardTimeoutException("Dashboard build did not finish before its deadline", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DashboardTimeoutException("Interrupted while waiting for the dashboard build", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Dashboard build failed", e.getCause());
+        }
+    }
+}
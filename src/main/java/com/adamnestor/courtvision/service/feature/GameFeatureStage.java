@@ -0,0 +1,139 @@
+package com.adamnestor.courtvision.service.feature;
+
+import com.adamnestor.courtvision.confidence.model.RestImpact;
+import com.adamnestor.courtvision.confidence.util.RestCalculator;
+import com.adamnestor.courtvision.domain.AdvancedGameStats;
+import com.adamnestor.courtvision.domain.Games;
+import com.adamnestor.courtvision.domain.Players;
+import com.adamnestor.courtvision.repository.AdvancedGameStatsRepository;
+import com.adamnestor.courtvision.repository.GameStatsRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Derives per-player, per-game features when a game's advanced stats are ingested, so queries over
+ * finished games take them from the row instead of looking up neighbouring games:
+ * <ul>
+ *   <li>{@code daysOfRest} and its {@code restImpactScore} multiplier, as confidence scoring computes them</li>
+ *   <li>{@code backToBack}: the player's previous game was the day before</li>
+ *   <li>{@code homeGame}, {@code pointMargin} (from the player's team's side) and {@code blowout}
+ *       (final margin of {@value #BLOWOUT_MARGIN}+ points)</li>
+ * </ul>
+ * Rest is measured against the latest box score already stored, so box scores must be ingested
+ * first. Backfills commit days concurrently and out of order, so rest computed at ingest can miss the
+ * day before; {@link #recompute} redoes a backfilled range once all of its box scores are stored.
+ * Previous games are resolved with one grouped query per game date in the batch.
+ * <p>
+ * Confidence scoring does not read these columns: it scores scheduled games, which have no row yet,
+ * and takes their rest from the player's game log it already holds.
+ */
+@Component
+public class GameFeatureStage {
+    private static final Logger logger = LoggerFactory.getLogger(GameFeatureStage.class);
+
+    public static final int BLOWOUT_MARGIN = 20;
+
+    private final GameStatsRepository gameStatsRepository;
+    private final AdvancedGameStatsRepository advancedGameStatsRepository;
+
+    public GameFeatureStage(
+            GameStatsRepository gameStatsRepository,
+            AdvancedGameStatsRepository advancedGameStatsRepository) {
+        this.gameStatsRepository = gameStatsRepository;
+        this.advancedGameStatsRepository = advancedGameStatsRepository;
+    }
+
+    public void apply(Collection<AdvancedGameStats> stats) {
+        Map<LocalDate, List<AdvancedGameStats>> byDate = stats.stream()
+            .filter(stat -> stat.getGame().getGameDate() != null)
+            .collect(Collectors.groupingBy(stat -> stat.getGame().getGameDate()));
+
+        byDate.forEach((date, rows) -> {
+            Set<Long> playerIds = rows.stream().map(stat -> stat.getPlayer().getId()).collect(Collectors.toSet());
+            Map<Long, LocalDate> previousDates = new HashMap<>();
+            for (PreviousGameDate previous : gameStatsRepository.findPreviousGameDates(playerIds, date)) {
+                previousDates.put(previous.playerId(), previous.gameDate());
+            }
+            for (AdvancedGameStats stat : rows) {
+                applyRest(stat, previousDates.get(stat.getPlayer().getId()), date);
+                applyResult(stat);
+            }
+        });
+        logger.debug("Computed game features for {} stat rows over {} dates", stats.size(), byDate.size());
+    }
+
+    /**
+     * Recomputes the features of every stored row in the range, and of each of those players' next
+     * stored game after it, whose rest depended on the range's last games. The rows are managed, so
+     * the new values are written when the transaction commits.
+     *
+     * @return Number of rows recomputed
+     */
+    @Transactional
+    public int recompute(LocalDate startDate, LocalDate endDate) {
+        List<AdvancedGameStats> rows = new ArrayList<>(
+            advancedGameStatsRepository.findWithGameAndPlayerByGameDateBetween(startDate, endDate));
+        Set<Long> playerIds = rows.stream().map(stat -> stat.getPlayer().getId()).collect(Collectors.toSet());
+        if (!playerIds.isEmpty()) {
+            rows.addAll(advancedGameStatsRepository.findNextGames(playerIds, endDate));
+        }
+        apply(rows);
+        logger.info("Recomputed game features for {} rows from {} to {}", rows.size(), startDate, endDate);
+        return rows.size();
+    }
+
+    private static void applyRest(AdvancedGameStats stat, LocalDate previousGame, LocalDate gameDate) {
+        if (previousGame == null) {
+            // First stored game: no rest features rather than a guess
+            stat.setDaysOfRest(null);
+            stat.setRestImpactScore(null);
+            stat.setBackToBack(null);
+            return;
+        }
+        int daysOfRest = RestCalculator.calculateDaysOfRest(previousGame, gameDate);
+        stat.setDaysOfRest(daysOfRest);
+        stat.setRestImpactScore(BigDecimal.valueOf(RestImpact.multiplierHundredths(daysOfRest), 2));
+        stat.setBackToBack(ChronoUnit.DAYS.between(previousGame, gameDate) == 1);
+    }
+
+    private static void applyResult(AdvancedGameStats stat) {
+        Games game = stat.getGame();
+        Boolean home = stat.getHomeGame() != null ? stat.getHomeGame() : isHomeByCurrentTeam(stat.getPlayer(), game);
+        stat.setHomeGame(home);
+        if (home == null || game.getHomeTeamScore() == null || game.getAwayTeamScore() == null) {
+            stat.setPointMargin(null);
+            stat.setBlowout(null);
+            return;
+        }
+        int margin = game.getHomeTeamScore() - game.getAwayTeamScore();
+        stat.setPointMargin(home ? margin : -margin);
+        stat.setBlowout(Math.abs(margin) >= BLOWOUT_MARGIN);
+    }
+
+    /**
+     * Fallback for payloads without a team; only right if the player has not been traded since.
+     */
+    private static Boolean isHomeByCurrentTeam(Players player, Games game) {
+        if (player.getTeam() == null || game.getHomeTeam() == null || game.getAwayTeam() == null) {
+            return null;
+        }
+        Long teamId = player.getTeam().getId();
+        if (teamId.equals(game.getHomeTeam().getId())) {
+            return true;
+        }
+        return teamId.equals(game.getAwayTeam().getId()) ? Boolean.FALSE : null;
+    }
+}
@@ -0,0 +1,9 @@
+package com.adamnestor.courtvision.service.feature;
+
+import java.time.LocalDate;
+
+/**
+ * Date of a player's most recent box score before some game date.
+ */
+public record PreviousGameDate(Long playerId, LocalDate gameDate) {
+}
@@ -0,0 +1,24 @@
+package com.adamnestor.courtvision.service.gamelog;
+
+import java.time.LocalDate;
+
+/**
+ * Read-only slice of a box score with just what game logs need: the box-score counts used by
+ * hit rates, averages and confidence, and the game's date and teams. Loaded by constructor
+ * expression, so no entity is managed or snapshotted for it.
+ */
+public record GameStatLine(
+        Long playerId,
+        Long gameId,
+        LocalDate gameDate,
+        Long homeTeamId,
+        String homeTeamAbbreviation,
+        Long awayTeamId,
+        String awayTeamAbbreviation,
+        Integer points,
+        Integer assists,
+        Integer rebounds,
+        Integer steals,
+        Integer blocks,
+        Integer turnovers) {
+}
@@ -0,0 +1,125 @@
+package com.adamnestor.courtvision.service.gamelog;
+
+import com.adamnestor.courtvision.domain.StatCategory;
+import com.adamnestor.courtvision.domain.TimePeriod;
+
+import java.time.LocalDate;
+
+/**
+ * Immutable columnar game log for a single player.
+ * Index 0 is the most recent game, so every L5/L10/L15/L20/SEASON window is the
+ * prefix {@code [0, window(period))} of each column.
+ */
+public final class PlayerGameLog {
+    private final Long playerId;
+    private final Long teamId;
+    private final boolean complete;
+    private final long[] gameIds;
+    private final int[] gameDays;
+    private final long[] opponentTeamIds;
+    private final String[] opponentAbbreviations;
+    private final boolean[] away;
+    private final int[] points;
+    private final int[] assists;
+    private final int[] rebounds;
+    private final int[] steals;
+    private final int[] blocks;
+    private final int[] turnovers;
+
+    PlayerGameLog(
+            Long playerId,
+            Long teamId,
+            boolean complete,
+            long[] gameIds,
+            int[] gameDays,
+            long[] opponentTeamIds,
+            String[] opponentAbbreviations,
+            boolean[] away,
+            int[] points,
+            int[] assists,
+            int[] rebounds,
+            int[] steals,
+            int[] blocks,
+            int[] turnovers) {
+        this.playerId = playerId;
+        this.teamId = teamId;
+        this.complete = complete;
+        this.gameIds = gameIds;
+        this.gameDays = gameDays;
+        this.opponentTeamIds = opponentTeamIds;
+        this.opponentAbbreviations = opponentAbbreviations;
+        this.away = away;
+        this.points = points;
+        this.assists = assists;
+        this.rebounds = rebounds;
+        this.steals = steals;
+        this.blocks = blocks;
+        this.turnovers = turnovers;
+    }
+
+    public int size() {
+        return gameIds.length;
+    }
+
+    public boolean isEmpty() {
+        return gameIds.length == 0;
+    }
+
+    /**
+     * Whether the log holds the player's full history rather than only the most recent N games.
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * Whether the log can serve a window of the given number of games.
+     */
+    public boolean covers(int games) {
+        return complete || size() >= games;
+    }
+
+    /**
+     * Returns the number of leading games that make up the given period's window.
+     */
+    public int window(TimePeriod period) {
+        return Math.min(period.getRequiredGames(), size());
+    }
+
+    /**
+     * Returns the backing column for a stat category. Callers must treat it as read-only.
+     */
+    public int[] column(StatCategory category) {
+        return switch (category) {
+            case POINTS -> points;
+            case ASSISTS -> assists;
+            case REBOUNDS -> rebounds;
+        };
+    }
+
+    public int getStatValue(int index, StatCategory category) {
+        return column(category)[index];
+    }
+
+    public Long getPlayerId() { return playerId; }
+
+    public Long getTeamId() { return teamId; }
+
+    public long getGameId(int index) { return gameIds[index]; }
+
+    public int getGameDay(int index) { return gameDays[index]; }
+
+    public LocalDate getGameDate(int index) { return LocalDate.ofEpochDay(gameDays[index]); }
+
+    public long getOpponentTeamId(int index) { return opponentTeamIds[index]; }
+
+    public String getOpponentAbbreviation(int index) { return opponentAbbreviations[index]; }
+
+    public boolean isAway(int index) { return away[index]; }
+
+    public int getSteals(int index) { return steals[index]; }
+
+    public int getBlocks(int index) { return blocks[index]; }
+
+    public int getTurnovers(int index) { return turnovers[index]; }
+}
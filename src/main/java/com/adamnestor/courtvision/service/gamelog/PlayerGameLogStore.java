@@ -0,0 +1,172 @@
+package com.adamnestor.courtvision.service.gamelog;
+
+import com.adamnestor.courtvision.config.ReadWriteRoutingDataSource;
+import com.adamnestor.courtvision.domain.Players;
+import com.adamnestor.courtvision.event.GameStatsIngestedEvent;
+import com.adamnestor.courtvision.repository.GameStatsRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Resident, player-indexed store of columnar game logs.
+ * Logs are loaded from {@link GameStatsRepository} as read-only {@link GameStatLine} projections
+ * on first use, in one batched round trip per request, and kept until the player's stats change or the player
+ * moves to a different team. A log loaded for a short window is deepened on demand.
+ * Logs are evicted once the transaction that wrote new stats has committed, and reloaded from the
+ * primary while the replica may still lag it; a load that overlaps an eviction is returned to its caller but not kept, since it may
+ * have read the old rows.
+ */
+@Component
+public class PlayerGameLogStore {
+    private static final Logger logger = LoggerFactory.getLogger(PlayerGameLogStore.class);
+
+    private final GameStatsRepository gameStatsRepository;
+    private final ConcurrentMap<Long, PlayerGameLog> logs = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    public PlayerGameLogStore(GameStatsRepository gameStatsRepository) {
+        this.gameStatsRepository = gameStatsRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public PlayerGameLog getLog(Players player) {
+        return getLogs(List.of(player), Integer.MAX_VALUE).get(player.getId());
+    }
+
+    /**
+     * Resolves logs holding at least {@code minGames} recent games (or the full history)
+     * for every player, loading any missing or too-shallow logs in a single batch.
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, PlayerGameLog> getLogs(Collection<Players> players, int minGames) {
+        Map<Long, PlayerGameLog> result = new HashMap<>();
+        Map<Long, Players> toLoad = new HashMap<>();
+
+        for (Players player : players) {
+            PlayerGameLog cached = logs.get(player.getId());
+            if (cached != null && Objects.equals(cached.getTeamId(), teamId(player)) && cached.covers(minGames)) {
+                result.put(player.getId(), cached);
+            } else {
+                toLoad.put(player.getId(), player);
+            }
+        }
+
+        if (!toLoad.isEmpty()) {
+            long loadedAt = generation.get();
+            ReadWriteRoutingDataSource.onPrimaryAfterWrite(() -> load(toLoad, minGames)).forEach((playerId, log) -> {
+                logs.put(playerId, log);
+                if (generation.get() != loadedAt) {
+                    logs.remove(playerId, log);
+                }
+                result.put(playerId, log);
+            });
+        }
+
+        logger.debug("Resolved {} game logs ({} loaded from repository, min depth {})",
+                result.size(), toLoad.size(), minGames);
+        return result;
+    }
+
+    /**
+     * Reads full logs straight from the repository without caching them, so a writer sees the
+     * stats it has just written in its own transaction without publishing them before commit.
+     */
+    public Map<Long, PlayerGameLog> loadUncached(Collection<Players> players) {
+        Map<Long, Players> byId = new HashMap<>();
+        players.forEach(player -> byId.put(player.getId(), player));
+        return byId.isEmpty() ? Map.of() : load(byId, Integer.MAX_VALUE);
+    }
+
+    private Map<Long, PlayerGameLog> load(Map<Long, Players> players, int minGames) {
+        Map<Long, List<GameStatLine>> gamesByPlayer = new HashMap<>();
+        for (GameStatLine line : gameStatsRepository.findRecentLinesForPlayers(players.keySet(), minGames)) {
+            gamesByPlayer.computeIfAbsent(line.playerId(), id -> new ArrayList<>()).add(line);
+        }
+
+        Map<Long, PlayerGameLog> loaded = new HashMap<>();
+        players.forEach((playerId, player) -> {
+            List<GameStatLine> games = gamesByPlayer.getOrDefault(playerId, List.of());
+            boolean complete = minGames == Integer.MAX_VALUE || games.size() < minGames;
+            loaded.put(playerId, toGameLog(player, games, complete));
+        });
+        return loaded;
+    }
+
+    /**
+     * Runs ahead of the caches derived from game logs, so they never reload from an evicted log.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGameStatsIngested(GameStatsIngestedEvent event) {
+        evict(event.playerIds());
+    }
+
+    public void evict(Collection<Long> playerIds) {
+        generation.incrementAndGet();
+        playerIds.forEach(logs::remove);
+    }
+
+    public void clear() {
+        generation.incrementAndGet();
+        logs.clear();
+    }
+
+    static PlayerGameLog toGameLog(Players player, List<GameStatLine> games, boolean complete) {
+        int size = games.size();
+        long[] gameIds = new long[size];
+        int[] gameDays = new int[size];
+        long[] opponentTeamIds = new long[size];
+        String[] opponentAbbreviations = new String[size];
+        boolean[] away = new boolean[size];
+        int[] points = new int[size];
+        int[] assists = new int[size];
+        int[] rebounds = new int[size];
+        int[] steals = new int[size];
+        int[] blocks = new int[size];
+        int[] turnovers = new int[size];
+
+        Long teamId = teamId(player);
+        for (int i = 0; i < size; i++) {
+            GameStatLine line = games.get(i);
+            boolean isAway = !line.homeTeamId().equals(teamId);
+
+            gameIds[i] = line.gameId();
+            gameDays[i] = (int) line.gameDate().toEpochDay();
+            opponentTeamIds[i] = isAway ? line.homeTeamId() : line.awayTeamId();
+            opponentAbbreviations[i] = isAway ? line.homeTeamAbbreviation() : line.awayTeamAbbreviation();
+            away[i] = isAway;
+            points[i] = valueOf(line.points());
+            assists[i] = valueOf(line.assists());
+            rebounds[i] = valueOf(line.rebounds());
+            steals[i] = valueOf(line.steals());
+            blocks[i] = valueOf(line.blocks());
+            turnovers[i] = valueOf(line.turnovers());
+        }
+
+        return new PlayerGameLog(player.getId(), teamId, complete, gameIds, gameDays, opponentTeamIds,
+                opponentAbbreviations, away, points, assists, rebounds, steals, blocks, turnovers);
+    }
+
+    private static Long teamId(Players player) {
+        return player.getTeam() != null ? player.getTeam().getId() : null;
+    }
+
+    private static int valueOf(Integer value) {
+        return value != null ? value : 0;
+    }
+}
@@ -0,0 +1,189 @@
+package com.adamnestor.courtvision.service.gamelog;
+
+import com.adamnestor.courtvision.domain.StatCategory;
+import com.adamnestor.courtvision.domain.TimePeriod;
+
+import java.util.Arrays;
+
+/**
+ * Sums and hit counts for every {@link TimePeriod} window, stat category and standard threshold
+ * ({@link StatCategory#getValidThresholds()}) of one player's games.
+ * <p>
+ * Built in one pass over the log: the windows are nested (5, 10, 15, 20, all games), so each
+ * is a prefix sum of the one before plus the games up to its own boundary. {@link #append}
+ * then slides every window forward to a newer game in O(1) by adding it and subtracting the
+ * game that leaves.
+ * Instances are not thread-safe: build one per use or guard appends externally.
+ */
+public final class WindowAggregates {
+    private static final StatCategory[] CATEGORIES = StatCategory.values();
+    private static final TimePeriod[] PERIODS = TimePeriod.values();
+    private static final int[][] THRESHOLDS = new int[CATEGORIES.length][];
+    private static final int[] SUM_SLOT = new int[CATEGORIES.length];
+    private static final int ROW_WIDTH;
+
+    static {
+        // A row is [sum, hits per threshold...] for each category in turn
+        int slot = 0;
+        for (StatCategory category : CATEGORIES) {
+            int c = category.ordinal();
+            THRESHOLDS[c] = category.getValidThresholds().stream().mapToInt(Integer::intValue).toArray();
+            SUM_SLOT[c] = slot;
+            slot += 1 + THRESHOLDS[c].length;
+        }
+        ROW_WIDTH = slot;
+    }
+
+    private final int[] totals = new int[PERIODS.length * ROW_WIDTH];
+    private final int[] windows = new int[PERIODS.length];
+
+    // Game history, most recent first: appended games (newest at the end) ahead of the base columns
+    private final int[][] base;
+    private int[][] appended = new int[CATEGORIES.length][0];
+    private int appendedCount;
+    private int size;
+
+    private WindowAggregates(int[][] base) {
+        this.base = base;
+        this.size = base[0].length;
+        for (TimePeriod period : PERIODS) {
+            windows[period.ordinal()] = Math.min(period.getRequiredGames(), size);
+        }
+
+        // Windows are ordered by length, so each one is the previous window plus the games up to
+        // its own boundary; every game is visited once per category column and threshold
+        for (int c = 0; c < CATEGORIES.length; c++) {
+            int[] column = base[c];
+            int[] thresholds = THRESHOLDS[c];
+            int from = 0;
+            for (int p = 0; p < PERIODS.length; p++) {
+                int row = p * ROW_WIDTH + SUM_SLOT[c];
+                int previous = p == 0 ? -1 : row - ROW_WIDTH;
+                int to = windows[p];
+
+                totals[row] = (previous < 0 ? 0 : totals[previous]) + segmentSum(column, from, to);
+                for (int t = 0; t < thresholds.length; t++) {
+                    totals[row + 1 + t] = (previous < 0 ? 0 : totals[previous + 1 + t])
+                            + segmentHits(column, from, to, thresholds[t]);
+                }
+                from = to;
+            }
+        }
+    }
+
+    /**
+     * Aggregates a columnar log (most recent game first). The log's columns are read, not copied.
+     */
+    public static WindowAggregates of(PlayerGameLog log) {
+        int[][] columns = new int[CATEGORIES.length][];
+        for (StatCategory category : CATEGORIES) {
+            columns[category.ordinal()] = log.column(category);
+        }
+        return new WindowAggregates(columns);
+    }
+
+    /**
+     * Adds a game more recent than every game already aggregated, sliding each window forward.
+     */
+    public void append(int points, int assists, int rebounds) {
+        if (appendedCount == appended[0].length) {
+            for (int c = 0; c < CATEGORIES.length; c++) {
+                appended[c] = Arrays.copyOf(appended[c], Math.max(4, appendedCount * 2));
+            }
+        }
+        appended[StatCategory.POINTS.ordinal()][appendedCount] = points;
+        appended[StatCategory.ASSISTS.ordinal()][appendedCount] = assists;
+        appended[StatCategory.REBOUNDS.ordinal()][appendedCount] = rebounds;
+        appendedCount++;
+        size++;
+
+        for (int p = 0; p < PERIODS.length; p++) {
+            boolean full = windows[p] == PERIODS[p].getRequiredGames();
+            for (int c = 0; c < CATEGORIES.length; c++) {
+                accumulate(totals, p * ROW_WIDTH, c, gameAt(0, c), 1);
+                if (full) {
+                    // The game that was the window's oldest is now one past its end
+                    accumulate(totals, p * ROW_WIDTH, c, gameAt(windows[p], c), -1);
+                }
+            }
+            if (!full) {
+                windows[p]++;
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of most recent games that make up the given period's window.
+     */
+    public int window(TimePeriod period) {
+        return windows[period.ordinal()];
+    }
+
+    /**
+     * Sums a category over the period's window.
+     */
+    public long sum(StatCategory category, TimePeriod period) {
+        return totals[period.ordinal() * ROW_WIDTH + SUM_SLOT[category.ordinal()]];
+    }
+
+    /**
+     * Counts the games in the period's window meeting or exceeding a standard threshold.
+     *
+     * @throws IllegalArgumentException if the threshold is not standard for the category
+     */
+    public int hits(StatCategory category, int threshold, TimePeriod period) {
+        int index = indexOf(THRESHOLDS[category.ordinal()], threshold);
+        if (index < 0) {
+            throw new IllegalArgumentException("Not a standard " + category + " threshold: " + threshold);
+        }
+        return totals[period.ordinal() * ROW_WIDTH + SUM_SLOT[category.ordinal()] + 1 + index];
+    }
+
+    private int gameAt(int index, int c) {
+        return index < appendedCount
+                ? appended[c][appendedCount - 1 - index]
+                : base[c][index - appendedCount];
+    }
+
+    private static int segmentSum(int[] column, int from, int to) {
+        int sum = 0;
+        for (int i = from; i < to; i++) {
+            sum += column[i];
+        }
+        return sum;
+    }
+
+    private static int segmentHits(int[] column, int from, int to, int threshold) {
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            if (column[i] >= threshold) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static void accumulate(int[] rows, int offset, int c, int value, int sign) {
+        int slot = offset + SUM_SLOT[c];
+        rows[slot] += sign * value;
+        int[] thresholds = THRESHOLDS[c];
+        for (int t = 0; t < thresholds.length; t++) {
+            if (value >= thresholds[t]) {
+                rows[slot + 1 + t] += sign;
+            }
+        }
+    }
+
+    private static int indexOf(int[] values, int value) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,116 @@
+package com.adamnestor.courtvision.service.hitrate;
+
+import com.adamnestor.courtvision.config.UsePrimaryDataSource;
+import com.adamnestor.courtvision.domain.HitRates;
+import com.adamnestor.courtvision.domain.PlayerStatus;
+import com.adamnestor.courtvision.domain.Players;
+import com.adamnestor.courtvision.domain.StatCategory;
+import com.adamnestor.courtvision.domain.TimePeriod;
+import com.adamnestor.courtvision.repository.HitRatesRepository;
+import com.adamnestor.courtvision.repository.PlayersRepository;
+import com.adamnestor.courtvision.service.gamelog.PlayerGameLog;
+import com.adamnestor.courtvision.service.gamelog.PlayerGameLogStore;
+import com.adamnestor.courtvision.service.gamelog.WindowAggregates;
+import com.adamnestor.courtvision.service.util.FixedPointMath;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps the {@code hit_rates} table current for every period, category and standard threshold.
+ * Stat writers call {@link #refresh} with the players whose games they just stored; only those
+ * players' rows are recomputed, from one pass over their game logs ({@link WindowAggregates}), so
+ * each L5-L20 window slides forward to its newest games in the same transaction as the stats themselves.
+ */
+@Component
+@UsePrimaryDataSource
+public class HitRateMaintainer {
+    private static final Logger logger = LoggerFactory.getLogger(HitRateMaintainer.class);
+    private static final int REBUILD_BATCH_SIZE = 100;
+
+    private final HitRatesRepository hitRatesRepository;
+    private final PlayersRepository playersRepository;
+    private final PlayerGameLogStore playerGameLogStore;
+
+    public HitRateMaintainer(
+            HitRatesRepository hitRatesRepository,
+            PlayersRepository playersRepository,
+            PlayerGameLogStore playerGameLogStore) {
+        this.hitRatesRepository = hitRatesRepository;
+        this.playersRepository = playersRepository;
+        this.playerGameLogStore = playerGameLogStore;
+    }
+
+    /**
+     * Recomputes all hit-rate rows of the given players.
+     */
+    @Transactional
+    public void refresh(Collection<Players> players) {
+        if (players.isEmpty()) {
+            return;
+        }
+
+        LocalDate today = LocalDate.now();
+        Map<Long, PlayerGameLog> logs = playerGameLogStore.loadUncached(players);
+        List<HitRates> rows = new ArrayList<>();
+        for (Players player : players) {
+            PlayerGameLog log = logs.get(player.getId());
+            if (log != null) {
+                addRows(rows, player, WindowAggregates.of(log), today);
+            }
+        }
+
+        hitRatesRepository.replaceForPlayers(logs.keySet(), rows);
+        logger.debug("Refreshed {} hit-rate rows for {} players", rows.size(), logs.size());
+    }
+
+    /**
+     * Recomputes hit rates for every active player, e.g. after the table was first created.
+     *
+     * @return The number of players refreshed
+     */
+    @Transactional
+    public int rebuildActivePlayers() {
+        List<Players> players = playersRepository.findByStatusOrderByLastNameAsc(PlayerStatus.ACTIVE);
+        for (int i = 0; i < players.size(); i += REBUILD_BATCH_SIZE) {
+            refresh(players.subList(i, Math.min(i + REBUILD_BATCH_SIZE, players.size())));
+        }
+        logger.info("Rebuilt hit rates for {} active players", players.size());
+        return players.size();
+    }
+
+    private static void addRows(List<HitRates> rows, Players player, WindowAggregates aggregates, LocalDate today) {
+        for (TimePeriod period : TimePeriod.values()) {
+            int window = aggregates.window(period);
+            if (window == 0) {
+                continue;
+            }
+
+            for (StatCategory category : StatCategory.values()) {
+                long average = FixedPointMath.averageTenThousandths(aggregates.sum(category, period), window);
+
+                for (Integer threshold : category.getValidThresholds()) {
+                    long hitRate = FixedPointMath.hitRateTenths(aggregates.hits(category, threshold, period), window);
+
+                    HitRates row = new HitRates();
+                    row.setPlayer(player);
+                    row.setCategory(category);
+                    row.setThreshold(threshold);
+                    row.setTimePeriod(period);
+                    row.setHitRate(FixedPointMath.toBigDecimal(hitRate, FixedPointMath.HIT_RATE_SCALE));
+                    row.setAverage(FixedPointMath.toBigDecimal(average, FixedPointMath.AVERAGE_SCALE));
+                    row.setGamesCounted(window);
+                    row.setLastCalculated(today);
+                    rows.add(row);
+                }
+            }
+        }
+    }
+}
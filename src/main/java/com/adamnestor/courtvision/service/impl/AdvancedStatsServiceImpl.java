@@ -1,24 +1,35 @@
 package com.adamnestor.courtvision.service.impl;
 
+import com.adamnestor.courtvision.config.UsePrimaryDataSource;
 import com.adamnestor.courtvision.api.model.ApiAdvancedStats;
+import com.adamnestor.courtvision.confidence.model.GameRatingTotals;
 import com.adamnestor.courtvision.domain.AdvancedGameStats;
 import com.adamnestor.courtvision.domain.Games;
 import com.adamnestor.courtvision.domain.Players;
+import com.adamnestor.courtvision.event.AdvancedStatsIngestedEvent;
 import com.adamnestor.courtvision.mapper.AdvancedStatsMapper;
 import com.adamnestor.courtvision.repository.AdvancedGameStatsRepository;
 import com.adamnestor.courtvision.service.AdvancedStatsService;
 import com.adamnestor.courtvision.service.BallDontLieService;
 import com.adamnestor.courtvision.service.PlayerService;
+import com.adamnestor.courtvision.service.feature.GameFeatureStage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
+@UsePrimaryDataSource
 public class AdvancedStatsServiceImpl implements AdvancedStatsService {
     
     private static final Logger logger = LoggerFactory.getLogger(AdvancedStatsServiceImpl.class);
@@ -27,16 +38,22 @@ public class AdvancedStatsServiceImpl implements AdvancedStatsService {
     private final AdvancedGameStatsRepository advancedStatsRepository;
     private final AdvancedStatsMapper advancedStatsMapper;
     private final PlayerService playerService;
+    private final GameFeatureStage gameFeatureStage;
+    private final ApplicationEventPublisher eventPublisher;
 
     public AdvancedStatsServiceImpl(
             BallDontLieService ballDontLieService,
             AdvancedGameStatsRepository advancedStatsRepository,
             AdvancedStatsMapper advancedStatsMapper,
-            PlayerService playerService) {
+            PlayerService playerService,
+            GameFeatureStage gameFeatureStage,
+            ApplicationEventPublisher eventPublisher) {
         this.ballDontLieService = ballDontLieService;
         this.advancedStatsRepository = advancedStatsRepository;
         this.advancedStatsMapper = advancedStatsMapper;
         this.playerService = playerService;
+        this.gameFeatureStage = gameFeatureStage;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -44,12 +61,63 @@ public class AdvancedStatsServiceImpl implements AdvancedStatsService {
     public List<AdvancedGameStats> getAndUpdateGameAdvancedStats(Games game) {
         logger.debug("Fetching and updating advanced stats for game: {}", game.getId());
         List<ApiAdvancedStats> apiStats = ballDontLieService.getAdvancedGameStats(game.getExternalId());
-        
+
+        List<AdvancedGameStats> stats = toAdvancedStats(game, apiStats);
+        gameFeatureStage.apply(stats);
+        List<AdvancedGameStats> savedStats = advancedStatsRepository.upsertAll(stats);
+        publishIngested(Map.of(game.getId(), savedStats), List.of(game));
+        return savedStats;
+    }
+
+    @Override
+    @Transactional
+    public Map<Long, List<AdvancedGameStats>> getAndUpdateGameAdvancedStats(List<Games> games) {
+        logger.debug("Fetching and updating advanced stats for {} games", games.size());
+        return updateGameAdvancedStats(games, ballDontLieService.getAdvancedGameStats(
+            games.stream().map(Games::getExternalId).collect(Collectors.toList())));
+    }
+
+    @Override
+    @Transactional
+    public Map<Long, List<AdvancedGameStats>> updateGameAdvancedStats(
+            List<Games> games, Map<Long, List<ApiAdvancedStats>> apiStatsByGame) {
+        Map<Long, List<AdvancedGameStats>> savedByGame = new LinkedHashMap<>();
+        List<AdvancedGameStats> allStats = new ArrayList<>();
+        for (Games game : games) {
+            List<AdvancedGameStats> gameStats = toAdvancedStats(
+                game, apiStatsByGame.getOrDefault(game.getExternalId(), List.of()));
+            savedByGame.put(game.getId(), gameStats);
+            allStats.addAll(gameStats);
+        }
+
+        // Features are written with the rows: one existing-row lookup and one insert/update batch for all games
+        gameFeatureStage.apply(allStats);
+        advancedStatsRepository.upsertAll(allStats);
+        publishIngested(savedByGame, games);
+        return savedByGame;
+    }
+
+    /**
+     * Announces the games' rating totals so team context is updated, and caches derived from it are
+     * invalidated, once the transaction commits; a rollback leaves them untouched.
+     */
+    private void publishIngested(Map<Long, List<AdvancedGameStats>> statsByGame, List<Games> games) {
+        Set<Long> teamIds = new HashSet<>();
+        List<GameRatingTotals> totals = new ArrayList<>();
+        for (Games game : games) {
+            teamIds.add(game.getHomeTeam().getId());
+            teamIds.add(game.getAwayTeam().getId());
+            totals.add(GameRatingTotals.of(game, statsByGame.getOrDefault(game.getId(), List.of())));
+        }
+        eventPublisher.publishEvent(new AdvancedStatsIngestedEvent(teamIds, totals));
+    }
+
+    private List<AdvancedGameStats> toAdvancedStats(Games game, List<ApiAdvancedStats> apiStats) {
         return apiStats.stream()
             .map(apiStat -> {
                 Players player = null;
                 if (apiStat.getPlayer() != null && apiStat.getPlayer().getId() != null) {
-                    player = playerService.getAndUpdatePlayer(apiStat.getPlayer().getId());
+                    player = playerService.resolvePlayer(apiStat.getPlayer());
                     if (player == null) {
                         logger.warn("Could not find or create player with ID {} for game {}", 
                             apiStat.getPlayer().getId(), game.getId());
@@ -60,17 +128,7 @@ public class AdvancedStatsServiceImpl implements AdvancedStatsService {
                     return null;
                 }
 
-                AdvancedGameStats existingStats = advancedStatsRepository
-                    .findByPlayerAndGame(player, game)
-                    .orElse(null);
-                
-                if (existingStats != null) {
-                    advancedStatsMapper.updateEntity(existingStats, apiStat);
-                    return advancedStatsRepository.save(existingStats);
-                } else {
-                    AdvancedGameStats newStats = advancedStatsMapper.toEntity(apiStat, game, player);
-                    return advancedStatsRepository.save(newStats);
-                }
+                return advancedStatsMapper.toEntity(apiStat, game, player);
             })
             .filter(stats -> stats != null)
             .collect(Collectors.toList());
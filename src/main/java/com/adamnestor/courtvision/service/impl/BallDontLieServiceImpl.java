@@ -12,7 +12,9 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 @Service
 public class BallDontLieServiceImpl implements BallDontLieService {
@@ -68,11 +70,21 @@ public class BallDontLieServiceImpl implements BallDontLieService {
         return apiClient.getGameStats(gameId);
     }
 
+    @Override
+    public Map<Long, List<ApiGameStats>> getGameStats(Collection<Long> gameIds) {
+        return apiClient.getGameStats(gameIds);
+    }
+
     @Override
     public List<ApiAdvancedStats> getAdvancedGameStats(Long gameId) {
         return apiClient.getAdvancedGameStats(gameId);
     }
 
+    @Override
+    public Map<Long, List<ApiAdvancedStats>> getAdvancedGameStats(Collection<Long> gameIds) {
+        return apiClient.getAdvancedGameStats(gameIds);
+    }
+
     @Override
     public List<ApiAdvancedStats> getAdvancedSeasonStats(Long playerId, Integer season) {
         return apiClient.getAdvancedSeasonStats(playerId, season);
@@ -1,7 +1,10 @@
 package com.adamnestor.courtvision.service.impl;
 
+import com.adamnestor.courtvision.config.UsePrimaryDataSource;
 import com.adamnestor.courtvision.client.BallDontLieClient;
 import com.adamnestor.courtvision.api.model.ApiGame;
+import com.adamnestor.courtvision.domain.AdvancedGameStats;
+import com.adamnestor.courtvision.domain.GameStats;
 import com.adamnestor.courtvision.domain.Games;
 import com.adamnestor.courtvision.domain.Players;
 import com.adamnestor.courtvision.domain.PlayerStatus;
@@ -9,20 +12,25 @@ import com.adamnestor.courtvision.service.GameService;
 import com.adamnestor.courtvision.service.StatsService;
 import com.adamnestor.courtvision.service.AdvancedStatsService;
 import com.adamnestor.courtvision.service.PlayerService;
+import com.adamnestor.courtvision.snapshot.service.DashboardSnapshotService;
+import com.adamnestor.courtvision.warmup.service.CacheWarmingService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.Map;
 
 @Service
+@UsePrimaryDataSource
 public class DataRefreshServiceImpl {
     private static final Logger logger = LoggerFactory.getLogger(DataRefreshServiceImpl.class);
     
@@ -31,18 +39,24 @@ public class DataRefreshServiceImpl {
     private final StatsService statsService;
     private final AdvancedStatsService advancedStatsService;
     private final PlayerService playerService;
+    private final DashboardSnapshotService dashboardSnapshotService;
+    private final CacheWarmingService cacheWarmingService;
 
     public DataRefreshServiceImpl(
             BallDontLieClient apiClient,
             GameService gameService,
             StatsService statsService,
             AdvancedStatsService advancedStatsService,
-            PlayerService playerService) {
+            PlayerService playerService,
+            DashboardSnapshotService dashboardSnapshotService,
+            CacheWarmingService cacheWarmingService) {
         this.apiClient = apiClient;
         this.gameService = gameService;
         this.statsService = statsService;
         this.advancedStatsService = advancedStatsService;
         this.playerService = playerService;
+        this.dashboardSnapshotService = dashboardSnapshotService;
+        this.cacheWarmingService = cacheWarmingService;
     }
 
     @Scheduled(cron = "0 39 10 * * *", zone = "America/New_York")
@@ -90,6 +104,7 @@ public class DataRefreshServiceImpl {
             logger.debug("Received {} games from API", games.size());
             
             // Process each game
+            List<Games> finalGames = new ArrayList<>();
             games.forEach(game -> {
                 String homeTeamName = game.getHomeTeam() != null ? game.getHomeTeam().getName() : "Unknown";
                 String visitorTeamName = game.getVisitorTeam() != null ? game.getVisitorTeam().getName() : "Unknown";
@@ -101,16 +116,15 @@ public class DataRefreshServiceImpl {
                 // Update game info
                 gameService.processGameResults(game);
                 
-                // If game is final, update stats
+                // If game is final, queue it for the batched stats update
                 if ("Final".equals(game.getStatus())) {
-                    logger.info("Game {} is final - updating stats", game.getId());
-                    Games gameEntity = gameService.findByExternalId(game.getId());
-                    statsService.getAndUpdateGameStats(gameEntity);
-                    advancedStatsService.getAndUpdateGameAdvancedStats(gameEntity);
-                    logger.info("Stats updated successfully for game {}", game.getId());
+                    logger.info("Game {} is final - queueing stats update", game.getId());
+                    finalGames.add(gameService.findByExternalId(game.getId()));
                 }
             });
 
+            updateGameStats(finalGames);
+
             logger.info("Completed daily game results update. Processed {} games", games.size());
         } catch (Exception e) {
             logger.error("Error updating game results: {}", e.getMessage(), e);
@@ -141,6 +155,7 @@ public class DataRefreshServiceImpl {
                 ))
                 .collect(Collectors.toSet());
             
+            List<Players> updatedPlayers = new ArrayList<>();
             allPlayers.forEach(player -> {
                 // Skip players without a team
                 if (player.getTeam() == null) {
@@ -151,100 +166,73 @@ public class DataRefreshServiceImpl {
                 
                 boolean hasGameToday = teamsWithGames.contains(player.getTeam().getId());
                 player.setStatus(hasGameToday ? PlayerStatus.ACTIVE : PlayerStatus.INACTIVE);
-                playerService.updatePlayer(player);
+                updatedPlayers.add(player);
             });
+            playerService.updatePlayers(updatedPlayers);
             
             logger.info("Updated player statuses. {} teams playing today", teamsWithGames.size());
             
         } catch (Exception e) {
             logger.error("Error checking today's games: {}", e.getMessage(), e);
         }
-    }
 
-    @Transactional
-    public void importHistoricalData(Integer season) {
-        logger.info("Starting historical data import for season {}", season);
         try {
-            // First get all games for the season
-            List<Games> games = gameService.getAndUpdateGamesBySeason(season);
-            logger.info("Found {} games for season {}", games.size(), season);
-            
-            // Process only completed games
-            games.stream()
-                .filter(game -> "Final".equals(game.getStatus()))
-                .forEach(game -> {
-                    try {
-                        // Get both basic and advanced stats
-                        var basicStats = statsService.getAndUpdateGameStats(game);
-                        var advancedStats = advancedStatsService.getAndUpdateGameAdvancedStats(game);
-                        
-                        logger.debug("Processed game {} - Basic stats: {}, Advanced stats: {}", 
-                            game.getId(), 
-                            basicStats.size(),
-                            advancedStats != null ? advancedStats.size() : 0);
-                    } catch (Exception e) {
-                        logger.error("Error processing game {}: {}", game.getId(), e.getMessage());
-                    }
-                });
-            
-            logger.info("Completed historical data import for season {}", season);
+            dashboardSnapshotService.rebuildSnapshot();
         } catch (Exception e) {
-            logger.error("Error during historical data import: {}", e.getMessage(), e);
-            throw new RuntimeException("Failed to import historical data", e);
+            logger.error("Error building dashboard snapshot: {}", e.getMessage(), e);
+        }
+
+        // Fill the remaining caches in the background before the first requests arrive
+        cacheWarmingService.warmAsync();
+    }
+
+    /**
+     * Updates basic and advanced stats for completed games, fetching many games per API call.
+     * If a batch fails it is retried game by game, so one bad game only loses its own stats.
+     */
+    private void updateGameStats(List<Games> finalGames) {
+        if (finalGames.isEmpty()) {
+            return;
         }
+        Map<Long, List<GameStats>> basicStats = updateInBatchOrPerGame(
+            "basic", finalGames, statsService::getAndUpdateGameStats, statsService::getAndUpdateGameStats);
+        Map<Long, List<AdvancedGameStats>> advancedStats = updateInBatchOrPerGame(
+            "advanced", finalGames, advancedStatsService::getAndUpdateGameAdvancedStats,
+            advancedStatsService::getAndUpdateGameAdvancedStats);
+
+        finalGames.forEach(game -> logger.debug("Processed game {} - Basic stats: {}, Advanced stats: {}",
+            game.getId(),
+            basicStats.getOrDefault(game.getId(), List.of()).size(),
+            advancedStats.getOrDefault(game.getId(), List.of()).size()));
+        logger.info("Stats updated for {} games", finalGames.size());
     }
 
-    @Transactional
-    public void importHistoricalDataByYearMonth(Integer year, Integer month) {
-        logger.info("Starting historical data import for {}/{}", year, month);
+    private <T> Map<Long, List<T>> updateInBatchOrPerGame(
+            String kind,
+            List<Games> games,
+            Function<List<Games>, Map<Long, List<T>>> batch,
+            Function<Games, List<T>> single) {
         try {
-            // Calculate start and end dates for the month
-            LocalDate startDate = LocalDate.of(year, month, 1);
-            LocalDate endDate = startDate.withDayOfMonth(
-                startDate.getMonth().length(startDate.isLeapYear())
-            );
-            
-            // Get and update games first
-            List<Games> games = gameService.getGamesByDateRange(startDate, endDate);
-            logger.info("Found {} games for {}/{}", games.size(), year, month);
-            
-            // Process each game like we do in updateGameResults()
-            games.forEach(game -> {
-                try {
-                    if ("Final".equals(game.getStatus())) {
-                        logger.info("Processing completed game {}", game.getId());
-                        statsService.getAndUpdateGameStats(game);
-                        advancedStatsService.getAndUpdateGameAdvancedStats(game);
-                        logger.debug("Processed game stats for game {}", game.getId());
-                    }
-                } catch (Exception e) {
-                    logger.error("Error processing game {}: {}", game.getId(), e.getMessage());
-                }
-            });
-            
-            logger.info("Completed historical data import for {}/{}", year, month);
+            return batch.apply(games);
         } catch (Exception e) {
-            logger.error("Error during historical data import: {}", e.getMessage(), e);
-            throw new RuntimeException("Failed to import historical data", e);
+            logger.warn("Batch {} stats update for {} games failed, retrying game by game: {}",
+                kind, games.size(), e.getMessage());
         }
-    }
 
-    @Transactional
-    public void refreshDataByYearMonth(int year, int month) {
-        logger.info("Starting data refresh for {}/{}", year, month);
-        
-        List<Games> games = gameService.getAndUpdateGamesByYearMonth(
-            year,
-            month
-        );
-        
+        Map<Long, List<T>> statsByGame = new HashMap<>();
+        List<Long> failedGames = new ArrayList<>();
         for (Games game : games) {
             try {
-                statsService.getAndUpdateGameStats(game);
-                logger.debug("Processed game: {}", game.getId());
+                statsByGame.put(game.getId(), single.apply(game));
             } catch (Exception e) {
-                logger.error("Error processing game {}: {}", game.getId(), e.getMessage());
+                logger.error("Error processing {} stats for game {}: {}", kind, game.getId(), e.getMessage());
+                failedGames.add(game.getExternalId());
             }
         }
+        if (!failedGames.isEmpty()) {
+            logger.error("Missing {} stats for {} of {} games (external IDs {})",
+                kind, failedGames.size(), games.size(), failedGames);
+        }
+        return statsByGame;
     }
-} 
\ No newline at end of file
+}
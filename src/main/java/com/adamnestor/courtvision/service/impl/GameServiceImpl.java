@@ -1,13 +1,16 @@
 package com.adamnestor.courtvision.service.impl;
 
+import com.adamnestor.courtvision.config.UsePrimaryDataSource;
 import com.adamnestor.courtvision.api.model.ApiGame;
 import com.adamnestor.courtvision.domain.Games;
+import com.adamnestor.courtvision.event.GamesUpdatedEvent;
 import com.adamnestor.courtvision.mapper.GameMapper;
 import com.adamnestor.courtvision.repository.GamesRepository;
 import com.adamnestor.courtvision.service.BallDontLieService;
 import com.adamnestor.courtvision.service.GameService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,6 +20,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
+@UsePrimaryDataSource
 public class GameServiceImpl implements GameService {
     
     private static final Logger logger = LoggerFactory.getLogger(GameServiceImpl.class);
@@ -24,23 +28,30 @@ public class GameServiceImpl implements GameService {
     private final BallDontLieService ballDontLieService;
     private final GamesRepository gamesRepository;
     private final GameMapper gameMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     public GameServiceImpl(
             BallDontLieService ballDontLieService,
             GamesRepository gamesRepository,
-            GameMapper gameMapper) {
+            GameMapper gameMapper,
+            ApplicationEventPublisher eventPublisher) {
         this.ballDontLieService = ballDontLieService;
         this.gamesRepository = gamesRepository;
         this.gameMapper = gameMapper;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
     @Transactional
     public List<Games> getAndUpdateGames(LocalDate date) {
         logger.debug("Fetching and updating games for date: {}", date);
-        List<ApiGame> apiGames = ballDontLieService.getGames(date);
-        
-        return apiGames.stream()
+        return updateGames(ballDontLieService.getGames(date));
+    }
+
+    @Override
+    @Transactional
+    public List<Games> updateGames(List<ApiGame> apiGames) {
+        return publishUpdated(apiGames.stream()
             .map(apiGame -> {
                 logger.debug("Processing API game with external ID: {}", apiGame.getId());
                 Games existingGame = gamesRepository
@@ -58,7 +69,7 @@ public class GameServiceImpl implements GameService {
                     return gamesRepository.save(newGame);
                 }
             })
-            .collect(Collectors.toList());
+            .collect(Collectors.toList()));
     }
 
     @Override
@@ -74,7 +85,7 @@ public class GameServiceImpl implements GameService {
             apiGames.addAll(ballDontLieService.getGamesByYearMonth(season + 1, month));
         }
         
-        return apiGames.stream()
+        return publishUpdated(apiGames.stream()
             .map(apiGame -> {
                 Games existingGame = gamesRepository.findByExternalId(apiGame.getId())
                     .orElse(null);
@@ -89,7 +100,7 @@ public class GameServiceImpl implements GameService {
                     return gamesRepository.save(newGame);
                 }
             })
-            .collect(Collectors.toList());
+            .collect(Collectors.toList()));
     }
 
     @Override
@@ -131,7 +142,7 @@ public class GameServiceImpl implements GameService {
         logger.info("Fetching games between {} and {}", startDate, endDate);
         List<ApiGame> apiGames = ballDontLieService.getGamesByDateRange(startDate, endDate);
         
-        return apiGames.stream()
+        return publishUpdated(apiGames.stream()
             .map(apiGame -> {
                 Games existingGame = gamesRepository.findByExternalId(apiGame.getId())
                     .orElse(null);
@@ -157,7 +168,7 @@ public class GameServiceImpl implements GameService {
                 }
             })
             .filter(game -> game != null)
-            .collect(Collectors.toList());
+            .collect(Collectors.toList()));
     }
 
     @Override
@@ -167,7 +178,7 @@ public class GameServiceImpl implements GameService {
         List<ApiGame> apiGames = ballDontLieService.getGamesByYearMonth(year, month);
         logger.debug("Received {} games from API", apiGames.size());
         
-        return apiGames.stream()
+        return publishUpdated(apiGames.stream()
             .map(apiGame -> {
                 Games existingGame = gamesRepository
                     .findByExternalId(apiGame.getId())
@@ -181,7 +192,7 @@ public class GameServiceImpl implements GameService {
                     return gamesRepository.save(newGame);
                 }
             })
-            .collect(Collectors.toList());
+            .collect(Collectors.toList()));
     }
 
     @Override
@@ -205,6 +216,19 @@ public class GameServiceImpl implements GameService {
         existingGame.setUpdatedAt(LocalDate.now());
         
         gamesRepository.save(existingGame);
+        publishUpdated(List.of(existingGame));
         logger.info("Game updated successfully");
     }
+
+    /**
+     * Announces the written games so versioned responses and the caches built on them move on
+     * once the transaction commits.
+     */
+    private List<Games> publishUpdated(List<Games> games) {
+        if (!games.isEmpty()) {
+            eventPublisher.publishEvent(new GamesUpdatedEvent(
+                games.stream().map(Games::getId).collect(Collectors.toSet())));
+        }
+        return games;
+    }
 } 
\ No newline at end of file
@@ -1,23 +1,32 @@
 package com.adamnestor.courtvision.service.impl;
 
+import com.adamnestor.courtvision.confidence.model.ConfidenceContext;
 import com.adamnestor.courtvision.confidence.service.ConfidenceScoreService;
 import com.adamnestor.courtvision.domain.*;
 import com.adamnestor.courtvision.dto.player.PlayerDetailStats;
 import com.adamnestor.courtvision.dto.response.DashboardStatsResponse;
 import com.adamnestor.courtvision.dto.response.GameStatDetail;
 import com.adamnestor.courtvision.mapper.DashboardMapper;
-import com.adamnestor.courtvision.repository.GameStatsRepository;
 import com.adamnestor.courtvision.repository.GamesRepository;
+import com.adamnestor.courtvision.repository.HitRatesRepository;
 import com.adamnestor.courtvision.repository.PlayersRepository;
 import com.adamnestor.courtvision.service.PlayerPerformanceService;
+import com.adamnestor.courtvision.service.concurrent.SingleFlight;
+import com.adamnestor.courtvision.service.dashboard.DashboardExecutor;
+import com.adamnestor.courtvision.service.gamelog.PlayerGameLog;
+import com.adamnestor.courtvision.service.gamelog.PlayerGameLogStore;
+import com.adamnestor.courtvision.service.gamelog.WindowAggregates;
+import com.adamnestor.courtvision.service.player.PlayerDetailCache;
 import com.adamnestor.courtvision.service.util.DateUtils;
+import com.adamnestor.courtvision.service.util.FixedPointMath;
 import com.adamnestor.courtvision.service.util.StatAnalysisUtils;
+import com.adamnestor.courtvision.service.version.DataGeneration;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.util.*;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -25,27 +34,43 @@ import java.util.stream.Stream;
 @Service
 public class PlayerPerformanceServiceImpl implements PlayerPerformanceService {
     private static final Logger logger = LoggerFactory.getLogger(PlayerPerformanceServiceImpl.class);
+    private static final long MIN_HIT_RATE_TENTHS = 600;
 
-    private final GameStatsRepository gameStatsRepository;
     private final GamesRepository gamesRepository;
     private final PlayersRepository playersRepository;
     private final DashboardMapper dashboardMapper;
     private final DateUtils dateUtils;
     private final ConfidenceScoreService confidenceScoreService;
+    private final PlayerGameLogStore playerGameLogStore;
+    private final HitRatesRepository hitRatesRepository;
+    private final DashboardExecutor dashboardExecutor;
+    private final PlayerDetailCache playerDetailCache;
+    private final DataGeneration dataGeneration;
+    private final SingleFlight<DetailRequest, PlayerDetailStats> detailFlight;
 
     public PlayerPerformanceServiceImpl(
-            GameStatsRepository gameStatsRepository,
             GamesRepository gamesRepository,
             PlayersRepository playersRepository,
             DashboardMapper dashboardMapper,
             DateUtils dateUtils,
-            ConfidenceScoreService confidenceScoreService) {
-        this.gameStatsRepository = gameStatsRepository;
+            ConfidenceScoreService confidenceScoreService,
+            PlayerGameLogStore playerGameLogStore,
+            HitRatesRepository hitRatesRepository,
+            DashboardExecutor dashboardExecutor,
+            PlayerDetailCache playerDetailCache,
+            DataGeneration dataGeneration,
+            MeterRegistry meterRegistry) {
         this.gamesRepository = gamesRepository;
         this.playersRepository = playersRepository;
         this.dashboardMapper = dashboardMapper;
         this.dateUtils = dateUtils;
         this.confidenceScoreService = confidenceScoreService;
+        this.playerGameLogStore = playerGameLogStore;
+        this.hitRatesRepository = hitRatesRepository;
+        this.dashboardExecutor = dashboardExecutor;
+        this.playerDetailCache = playerDetailCache;
+        this.dataGeneration = dataGeneration;
+        this.detailFlight = new SingleFlight<>("player-detail", meterRegistry);
     }
 
     public Map<String, Object> calculateHitRate(Players player, StatCategory category, Integer threshold, TimePeriod period) {
@@ -65,52 +90,65 @@ public class PlayerPerformanceServiceImpl implements PlayerPerformanceService {
         logger.info("Calculating hit rate for player {} - {} {} for period {}",
                 player.getId(), category, threshold, period);
 
-        // Get player games
-        List<GameStats> games = getPlayerGames(player, period);
-        
-        if (games.isEmpty()) {
-            return Collections.emptyMap();
+        // Standard lines are maintained in hit_rates; game rows are only needed to score confidence
+        Optional<HitRates> stored = hitRatesRepository.findByPlayerIdAndCategoryAndThresholdAndTimePeriod(
+                player.getId(), category, threshold, period);
+        if (stored.isPresent()) {
+            long hitRate = FixedPointMath.toUnscaled(stored.get().getHitRate(), FixedPointMath.HIT_RATE_SCALE);
+            long average = FixedPointMath.toUnscaled(stored.get().getAverage(), FixedPointMath.AVERAGE_SCALE);
+
+            Map<String, Object> result = new HashMap<>();
+            result.put("hitRate", FixedPointMath.toBigDecimal(hitRate, FixedPointMath.HIT_RATE_SCALE));
+            result.put("average", FixedPointMath.toBigDecimal(average, FixedPointMath.AVERAGE_SCALE));
+            result.put("confidenceScore", hitRate < MIN_HIT_RATE_TENTHS ? 0
+                    : calculateConfidenceScore(player, playerGameLogStore.getLog(player), period, category, threshold));
+            return result;
         }
 
-        // Calculate hit rate and create result map
-        Map<String, Object> result = new HashMap<>();
-        result.put("hitRate", calculateHitRateValue(games, category, threshold));
-        result.put("average", calculateAverageValue(games, category));
-        result.put("confidenceScore", calculateConfidenceScore(games, category, threshold));
-        return result;
+        // Computed from the player's game log
+        PlayerGameLog log = playerGameLogStore.getLog(player);
+        if (log.window(period) == 0) {
+            return Collections.emptyMap();
+        }
+        return calculateStats(player, log, period, category, threshold);
     }
 
-    public List<GameStats> getPlayerGames(Players player, TimePeriod timePeriod) {
-        logger.debug("Fetching player games from repository");
-        
-        int gamesNeeded = getRequiredGamesForPeriod(timePeriod);
-        return gameStatsRepository.findPlayerRecentGames(player)
-            .stream()
-            .limit(gamesNeeded)
-            .collect(Collectors.toList());
+    public PlayerDetailStats getPlayerDetailStats(
+            Long playerId,
+            TimePeriod timePeriod,
+            StatCategory category,
+            Integer threshold) {
+        // Served from the cache once computed; clients polling the same player with identical
+        // parameters share one computation, unless it started before the data generation moved
+        PlayerDetailCache.Key key = new PlayerDetailCache.Key(playerId, timePeriod, category, threshold);
+        return detailFlight.execute(new DetailRequest(dataGeneration.current(), key), () -> playerDetailCache.get(
+                key, () -> buildPlayerDetailStats(playerId, timePeriod, category, threshold)));
     }
 
-    public PlayerDetailStats getPlayerDetailStats(
+    private PlayerDetailStats buildPlayerDetailStats(
             Long playerId,
             TimePeriod timePeriod,
             StatCategory category,
             Integer threshold) {
-        
-        Players player = playersRepository.findById(playerId)
+        Players player = playersRepository.findWithTeamById(playerId)
                 .orElseThrow(() -> new IllegalArgumentException("Player not found"));
 
-        List<GameStats> games = getPlayerGames(player, timePeriod);
-        Map<String, Object> stats = calculateStats(games, category, threshold);
-        
-        List<GameStatDetail> gameDetails = games.stream()
-            .map(game -> new GameStatDetail(
-                game.getGame().getGameDate().toString(),
-                getOpponentString(game.getGame(), player.getTeam()),
-                !game.getGame().getHomeTeam().getId().equals(player.getTeam().getId()),
-                getStatValue(game, category),
-                getStatValue(game, category) >= threshold
-            ))
-            .collect(Collectors.toList());
+        // The period's games are the leading window of the player's game log
+        PlayerGameLog log = playerGameLogStore.getLog(player);
+        int window = log.window(timePeriod);
+        Map<String, Object> stats = calculateStats(player, log, timePeriod, category, threshold);
+
+        List<GameStatDetail> gameDetails = new ArrayList<>(window);
+        for (int i = 0; i < window; i++) {
+            int value = log.getStatValue(i, category);
+            gameDetails.add(new GameStatDetail(
+                log.getGameDate(i).toString(),
+                getOpponentString(log, i),
+                log.isAway(i),
+                value,
+                value >= threshold
+            ));
+        }
 
         return new PlayerDetailStats(
             player.getId(),
@@ -118,27 +156,14 @@ public class PlayerPerformanceServiceImpl implements PlayerPerformanceService {
             player.getTeam().getAbbreviation(),
             (BigDecimal) stats.get("hitRate"),
             (Integer) stats.get("confidenceScore"),
-            games.size(),
+            window,
             (BigDecimal) stats.get("average"),
             gameDetails
         );
     }
 
-    private String getOpponentString(Games game, Teams playerTeam) {
-        if (game.getHomeTeam().getId().equals(playerTeam.getId())) {
-            return "vs " + game.getAwayTeam().getAbbreviation();
-        } else {
-            return "@ " + game.getHomeTeam().getAbbreviation();
-        }
-    }
-
-    private int getStatValue(GameStats game, StatCategory category) {
-        return switch (category) {
-            case POINTS -> game.getPoints();
-            case ASSISTS -> game.getAssists();
-            case REBOUNDS -> game.getRebounds();
-            default -> throw new IllegalArgumentException("Unsupported stat category: " + category);
-        };
+    private String getOpponentString(PlayerGameLog log, int index) {
+        return (log.isAway(index) ? "@ " : "vs ") + log.getOpponentAbbreviation(index);
     }
 
     public Map<StatCategory, BigDecimal> getPlayerAverages(Players player, TimePeriod timePeriod) {
@@ -151,11 +176,12 @@ public class PlayerPerformanceServiceImpl implements PlayerPerformanceService {
 
         logger.info("Getting averages for player {} for period {}", player.getId(), timePeriod);
 
-        List<GameStats> games = getPlayerGames(player, timePeriod);
+        PlayerGameLog log = playerGameLogStore.getLog(player);
+        int window = log.window(timePeriod);
         Map<StatCategory, BigDecimal> averages = Map.of(
-                StatCategory.POINTS, StatAnalysisUtils.calculateAverage(games, StatCategory.POINTS),
-                StatCategory.ASSISTS, StatAnalysisUtils.calculateAverage(games, StatCategory.ASSISTS),
-                StatCategory.REBOUNDS, StatAnalysisUtils.calculateAverage(games, StatCategory.REBOUNDS)
+                StatCategory.POINTS, StatAnalysisUtils.calculateAverage(log, window, StatCategory.POINTS),
+                StatCategory.ASSISTS, StatAnalysisUtils.calculateAverage(log, window, StatCategory.ASSISTS),
+                StatCategory.REBOUNDS, StatAnalysisUtils.calculateAverage(log, window, StatCategory.REBOUNDS)
         );
 
         logger.debug("Calculated averages: {}", averages);
@@ -163,12 +189,12 @@ public class PlayerPerformanceServiceImpl implements PlayerPerformanceService {
     }
 
     public boolean hasSufficientData(Players player, TimePeriod timePeriod) {
-        List<GameStats> games = getPlayerGames(player, timePeriod);
+        int games = playerGameLogStore.getLog(player).window(timePeriod);
         int requiredGames = getRequiredGamesForPeriod(timePeriod);
 
-        boolean sufficient = games.size() >= requiredGames;
+        boolean sufficient = games >= requiredGames;
         logger.debug("Player {} has {} games, required {}", player.getId(),
-                games.size(), requiredGames);
+                games, requiredGames);
 
         return sufficient;
     }
@@ -200,6 +226,7 @@ public class PlayerPerformanceServiceImpl implements PlayerPerformanceService {
         DashboardMapper dashboardMapper,
         String sortDirection
     ) {
+        long deadline = dashboardExecutor.deadline();
         logger.info("Getting dashboard stats. Games exist for today: {}", !gamesRepository.findByGameDateAndStatus(
             dateUtils.getCurrentEasternDate(), "scheduled").isEmpty());
 
@@ -208,70 +235,146 @@ public class PlayerPerformanceServiceImpl implements PlayerPerformanceService {
         
         List<Players> todaysPlayers = getTodaysPlayers(todaysGames);
 
-        // Step 1: Calculate hit rates for ALL players
-        List<PlayerStats> allPlayers = todaysPlayers.parallelStream()
-            .map(player -> {
-                List<GameStats> games = getPlayerGames(player, timePeriod);
-                if (games.isEmpty()) return null;
-
-                BigDecimal hitRate = calculateHitRateValue(games, category, threshold);
-                if (hitRate == null) return null;
-
-                Map<String, Object> stats = new HashMap<>();
-                stats.put("hitRate", hitRate);
-                stats.put("average", calculateAverageValue(games, category));
-                stats.put("category", category);
-                stats.put("threshold", threshold);
-                
-                // Only calculate confidence score if hit rate ≥ 60%
-                if (hitRate.compareTo(new BigDecimal("60.0")) >= 0) {
-                    Games game = todaysGames.stream()
-                        .filter(g -> g.getHomeTeam().getId().equals(player.getTeam().getId()) || 
-                                   g.getAwayTeam().getId().equals(player.getTeam().getId()))
-                        .findFirst()
-                        .orElse(null);
-                    
-                    if (game != null) {
-                        int gamesCount = getRequiredGamesForPeriod(timePeriod);
-                        BigDecimal confidence = confidenceScoreService.calculateConfidenceScore(
-                            player, game, category, threshold, hitRate, gamesCount
-                        );
-                        stats.put("confidenceScore", confidence.intValue());
-                    }
-                }
+        // Step 1: Hit rates for ALL players - stored rows first, computed from game logs for the rest
+        List<PlayerStats> allPlayers = new ArrayList<>();
+        List<Players> unstored = new ArrayList<>();
+        Map<Long, HitRates> stored = new HashMap<>();
+        if (category.getValidThresholds().contains(threshold) && !todaysPlayers.isEmpty()) {
+            hitRatesRepository.findForPlayers(
+                    todaysPlayers.stream().map(Players::getId).collect(Collectors.toList()),
+                    timePeriod, category, threshold)
+                .forEach(row -> stored.put(row.getPlayer().getId(), row));
+        }
+        for (Players player : todaysPlayers) {
+            HitRates row = stored.get(player.getId());
+            if (row != null) {
+                allPlayers.add(new PlayerStats(
+                    player,
+                    FixedPointMath.toUnscaled(row.getHitRate(), FixedPointMath.HIT_RATE_SCALE),
+                    FixedPointMath.toUnscaled(row.getAverage(), FixedPointMath.AVERAGE_SCALE)));
+            } else {
+                unstored.add(player);
+            }
+        }
 
-                return new PlayerStats(player, stats, games);
+        Map<Long, PlayerGameLog> logs = unstored.isEmpty() ? Map.of() : playerGameLogStore.getLogs(
+            unstored, getRequiredGamesForPeriod(timePeriod));
+        // Logs are already loaded, so this is in-memory arithmetic and stays on the request thread
+        allPlayers.addAll(unstored.stream()
+            .map(player -> {
+                PlayerGameLog log = logs.get(player.getId());
+                int window = log.window(timePeriod);
+                if (window == 0) return null;
+
+                return new PlayerStats(
+                    player,
+                    calculateHitRateTenths(log, window, category, threshold),
+                    calculateAverageTenThousandths(log, window, category));
             })
             .filter(Objects::nonNull)
+            .collect(Collectors.toList()));
+
+        // Step 2: Only players with hit rate ≥ 60% are scored and returned to frontend
+        List<PlayerStats> qualifying = allPlayers.stream()
+            .filter(ps -> ps.hitRateTenths() >= MIN_HIT_RATE_TENTHS)
             .collect(Collectors.toList());
 
-        // Step 2: Only return players with hit rate ≥ 60% to frontend
-        return allPlayers.parallelStream()
-            // Filter 1: Must have hit rate ≥ 60%
-            .filter(ps -> {
-                BigDecimal hitRate = (BigDecimal) ps.stats().get("hitRate");
-                return hitRate.compareTo(new BigDecimal("60.0")) >= 0;
-            })
-            .map(ps -> {
-                Games game = todaysGames.stream()
-                    .filter(g -> g.getHomeTeam().getId().equals(ps.player().getTeam().getId()) || 
-                               g.getAwayTeam().getId().equals(ps.player().getTeam().getId()))
-                    .findFirst()
-                    .orElseThrow(() -> new IllegalStateException("Game not found for player with game today"));
+        // Confidence scores come from one batch of full game logs
+        Map<Long, PlayerGameLog> fullLogs = playerGameLogStore.getLogs(
+            qualifying.stream().map(PlayerStats::player).collect(Collectors.toList()), Integer.MAX_VALUE);
+
+        // Confidence scoring reads team context from the database, so it runs on the bounded dashboard pool
+        return dashboardExecutor.mapAll(qualifying, ps -> {
+                Games game = findTeamGame(todaysGames, ps.player().getTeam());
+                if (game == null) {
+                    throw new IllegalStateException("Game not found for player with game today");
+                }
 
                 boolean isAway = !game.getHomeTeam().getId().equals(ps.player().getTeam().getId());
                 String opponent = isAway ? 
                     "@ " + game.getHomeTeam().getAbbreviation() : 
                     "vs " + game.getAwayTeam().getAbbreviation();
 
+                int confidence = confidenceScoreService.calculateConfidence(
+                    new ConfidenceContext(ps.player(), fullLogs.get(ps.player().getId())),
+                    game, category, threshold, ps.hitRateTenths(), getRequiredGamesForPeriod(timePeriod)
+                );
+
                 return dashboardMapper.toStatsResponse(
-                    ps.player(), game, ps.stats(), opponent, isAway);
-            })
+                    ps.player(), game, category, threshold,
+                    ps.hitRateTenths(), ps.averageTenThousandths(), confidence, opponent, isAway);
+            }, deadline).stream()
             .sorted(createComparator(sortBy, sortDirection))
             .collect(Collectors.toList());
     }
 
-    private record PlayerStats(Players player, Map<String, Object> stats, List<GameStats> games) {}
+    private record DetailRequest(long generation, PlayerDetailCache.Key key) {}
+
+    private record PlayerStats(Players player, long hitRateTenths, long averageTenThousandths) {}
+
+    @Override
+    public Map<TimePeriod, List<DashboardStatsResponse>> calculateDashboardMatrix(List<Games> todaysGames) {
+        List<Players> todaysPlayers = getTodaysPlayers(todaysGames);
+        logger.info("Calculating dashboard matrix for {} players across {} games",
+            todaysPlayers.size(), todaysGames.size());
+
+        Map<TimePeriod, List<DashboardStatsResponse>> matrix = new EnumMap<>(TimePeriod.class);
+        for (TimePeriod period : TimePeriod.values()) {
+            matrix.put(period, new ArrayList<>());
+        }
+
+        Map<Long, PlayerGameLog> logs = playerGameLogStore.getLogs(todaysPlayers, Integer.MAX_VALUE);
+
+        for (Players player : todaysPlayers) {
+            Games game = findTeamGame(todaysGames, player.getTeam());
+            if (game == null) continue;
+
+            // Every period, category and threshold comes from one pass over the log
+            PlayerGameLog log = logs.get(player.getId());
+            if (log.isEmpty()) continue;
+            ConfidenceContext context = new ConfidenceContext(player, log);
+            WindowAggregates aggregates = WindowAggregates.of(log);
+
+            boolean isAway = !game.getHomeTeam().getId().equals(player.getTeam().getId());
+            String opponent = isAway ?
+                "@ " + game.getHomeTeam().getAbbreviation() :
+                "vs " + game.getAwayTeam().getAbbreviation();
+
+            for (TimePeriod period : TimePeriod.values()) {
+                int window = aggregates.window(period);
+
+                for (StatCategory category : StatCategory.values()) {
+                    long average = FixedPointMath.averageTenThousandths(aggregates.sum(category, period), window);
+
+                    for (Integer threshold : category.getValidThresholds()) {
+                        long hitRate = FixedPointMath.hitRateTenths(
+                            aggregates.hits(category, threshold, period), window);
+                        if (hitRate < MIN_HIT_RATE_TENTHS) continue;
+
+                        int confidence = confidenceScoreService.calculateConfidence(
+                            context, game, category, threshold, hitRate, getRequiredGamesForPeriod(period)
+                        );
+
+                        matrix.get(period).add(dashboardMapper.toStatsResponse(
+                            player, game, category, threshold, hitRate, average, confidence, opponent, isAway));
+                    }
+                }
+            }
+        }
+
+        Comparator<DashboardStatsResponse> comparator = createComparator("hitrate", "desc");
+        matrix.values().forEach(rows -> rows.sort(comparator));
+        return matrix;
+    }
+
+    private Games findTeamGame(List<Games> games, Teams team) {
+        if (team == null) return null;
+        return games.stream()
+            .filter(g -> g.getHomeTeam().getId().equals(team.getId()) ||
+                       g.getAwayTeam().getId().equals(team.getId()))
+            .findFirst()
+            .orElse(null);
+    }
 
     private List<Players> getTodaysPlayers(List<Games> todaysGames) {
         Set<Long> teamIds = todaysGames.stream()
@@ -303,80 +406,61 @@ public class PlayerPerformanceServiceImpl implements PlayerPerformanceService {
     }
 
     // Helper methods for calculations
-    private BigDecimal calculateHitRateValue(List<GameStats> games, StatCategory category, Integer threshold) {
-        if (games.isEmpty()) {
-            return BigDecimal.ZERO;
-        }
-        
-        long hits = games.stream()
-                .filter(game -> getStatValue(game, category) >= threshold)
-                .count();
-        
-        return BigDecimal.valueOf(hits)
-                .multiply(BigDecimal.valueOf(100))
-                .divide(BigDecimal.valueOf(games.size()), java.math.MathContext.DECIMAL32)
-                .setScale(1, RoundingMode.HALF_UP);
+    private long calculateHitRateTenths(PlayerGameLog log, int window, StatCategory category, Integer threshold) {
+        return FixedPointMath.hitRateTenths(
+                StatAnalysisUtils.countSuccesses(log, window, category, threshold), window);
     }
 
-    private BigDecimal calculateAverageValue(List<GameStats> games, StatCategory category) {
-        if (games.isEmpty()) {
-            return BigDecimal.ZERO;
-        }
-        
-        return games.stream()
-                .map(game -> BigDecimal.valueOf(getStatValue(game, category)))
-                .reduce(BigDecimal.ZERO, BigDecimal::add)
-                .divide(BigDecimal.valueOf(games.size()), java.math.MathContext.DECIMAL32)
-                .setScale(4, RoundingMode.HALF_UP);
+    private long calculateAverageTenThousandths(PlayerGameLog log, int window, StatCategory category) {
+        return FixedPointMath.averageTenThousandths(StatAnalysisUtils.sum(log, window, category), window);
     }
 
     private int getRequiredGamesForPeriod(TimePeriod period) {
-        return switch (period) {
-            case L5 -> 5;
-            case L10 -> 10;
-            case L15 -> 15;
-            case L20 -> 20;
-            case SEASON -> Integer.MAX_VALUE;
-        };
+        return period.getRequiredGames();
     }
 
     public Map<String, Object> calculateStats(
-        List<GameStats> games,
+        Players player,
+        PlayerGameLog log,
+        TimePeriod period,
         StatCategory category,
         Integer threshold
     ) {
+        int window = log.window(period);
         Map<String, Object> stats = new HashMap<>();
-        stats.put("hitRate", calculateHitRateValue(games, category, threshold));
-        stats.put("average", calculateAverageValue(games, category));
-        stats.put("successCount", Integer.valueOf((int) games.stream()
-                .filter(game -> getStatValue(game, category) >= threshold)
-                .count()));
-        stats.put("confidenceScore", Integer.valueOf(calculateConfidenceScore(games, category, threshold)));
+        stats.put("hitRate", FixedPointMath.toBigDecimal(
+                calculateHitRateTenths(log, window, category, threshold), FixedPointMath.HIT_RATE_SCALE));
+        stats.put("average", FixedPointMath.toBigDecimal(
+                calculateAverageTenThousandths(log, window, category), FixedPointMath.AVERAGE_SCALE));
+        stats.put("confidenceScore", calculateConfidenceScore(player, log, period, category, threshold));
         return stats;
     }
 
-    private int calculateConfidenceScore(List<GameStats> games, StatCategory category, Integer threshold) {
-        BigDecimal hitRate = calculateHitRateValue(games, category, threshold);
+    private int calculateConfidenceScore(
+            Players player, PlayerGameLog log, TimePeriod period, StatCategory category, Integer threshold) {
+        int window = log.window(period);
+        if (window == 0) {
+            return 0;
+        }
+        long hitRate = calculateHitRateTenths(log, window, category, threshold);
 
         // Only calculate confidence score if hit rate ≥ 60%
-        if (hitRate.compareTo(new BigDecimal("60.0")) < 0) {
+        if (hitRate < MIN_HIT_RATE_TENTHS) {
             return 0;
         }
 
-        // Get the player and game from the most recent GameStats
-        GameStats latestGame = games.get(0); // games are already ordered by date desc
-        Players player = latestGame.getPlayer();
-        Games game = latestGame.getGame();
+        // Scored against the most recent game; the log is ordered by date desc
+        Games game = gamesRepository.findById(log.getGameId(0))
+                .orElseThrow(() -> new IllegalStateException("Game not found: " + log.getGameId(0)));
 
-        // Calculate confidence score using our new service
-        return confidenceScoreService.calculateConfidenceScore(
-                player,
+        return confidenceScoreService.calculateConfidence(
+                new ConfidenceContext(player, log),
                 game,
                 category,
                 threshold,
                 hitRate,
-                games.size()
-        ).intValue();
+                window
+        );
     }
 
     @Override
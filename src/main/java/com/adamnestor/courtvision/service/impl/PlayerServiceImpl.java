@@ -1,23 +1,28 @@
 package com.adamnestor.courtvision.service.impl;
 
+import com.adamnestor.courtvision.config.UsePrimaryDataSource;
 import com.adamnestor.courtvision.api.model.ApiPlayer;
 import com.adamnestor.courtvision.domain.Players;
 import com.adamnestor.courtvision.domain.Teams;
 import com.adamnestor.courtvision.domain.PlayerStatus;
 import com.adamnestor.courtvision.domain.Games;
+import com.adamnestor.courtvision.event.PlayersUpdatedEvent;
 import com.adamnestor.courtvision.mapper.PlayerMapper;
 import com.adamnestor.courtvision.repository.PlayersRepository;
 import com.adamnestor.courtvision.repository.TeamsRepository;
 import com.adamnestor.courtvision.service.BallDontLieService;
 import com.adamnestor.courtvision.service.PlayerService;
 import com.adamnestor.courtvision.service.GameService;
+import com.adamnestor.courtvision.service.player.PlayerResolutionCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.retry.annotation.Backoff;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -27,6 +32,7 @@ import java.util.HashSet;
 import java.util.concurrent.atomic.AtomicInteger;
 
 @Service
+@UsePrimaryDataSource
 public class PlayerServiceImpl implements PlayerService {
     
     private static final Logger logger = LoggerFactory.getLogger(PlayerServiceImpl.class);
@@ -36,18 +42,24 @@ public class PlayerServiceImpl implements PlayerService {
     private final PlayerMapper playerMapper;
     private final GameService gameService;
     private final TeamsRepository teamsRepository;
+    private final PlayerResolutionCache playerResolutionCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     public PlayerServiceImpl(
             BallDontLieService ballDontLieService,
             PlayersRepository playersRepository,
             PlayerMapper playerMapper,
             GameService gameService,
-            TeamsRepository teamsRepository) {
+            TeamsRepository teamsRepository,
+            PlayerResolutionCache playerResolutionCache,
+            ApplicationEventPublisher eventPublisher) {
         this.ballDontLieService = ballDontLieService;
         this.playersRepository = playersRepository;
         this.playerMapper = playerMapper;
         this.gameService = gameService;
         this.teamsRepository = teamsRepository;
+        this.playerResolutionCache = playerResolutionCache;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -63,7 +75,7 @@ public class PlayerServiceImpl implements PlayerService {
                 return existingPlayer;  // Return existing data rather than updating with null
             }
             playerMapper.updateEntity(existingPlayer, apiPlayer);
-            return playersRepository.save(existingPlayer);
+            return publishUpdated(cache(playersRepository.save(existingPlayer)));
         } else {
             ApiPlayer apiPlayer = ballDontLieService.getPlayer(playerId);
             if (apiPlayer == null || apiPlayer.getId() == null) {
@@ -71,10 +83,39 @@ public class PlayerServiceImpl implements PlayerService {
                 return null;
             }
             Players newPlayer = playerMapper.toEntity(apiPlayer);
-            return playersRepository.save(newPlayer);
+            return publishUpdated(cache(playersRepository.save(newPlayer)));
         }
     }
 
+    @Override
+    @Transactional
+    public Players resolvePlayer(ApiPlayer apiPlayer) {
+        Long playerId = apiPlayer.getId();
+        Optional<Players> cached = playerResolutionCache.getFresh(playerId);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        if (apiPlayer.getFirstName() == null || apiPlayer.getLastName() == null) {
+            logger.debug("Embedded payload for player {} is incomplete, fetching from API", playerId);
+            return getAndUpdatePlayer(playerId);
+        }
+
+        Players player = playersRepository.findByExternalId(playerId).orElse(null);
+        if (player != null) {
+            playerMapper.updateEntity(player, apiPlayer);
+        } else {
+            logger.debug("Creating player {} from embedded stat payload", playerId);
+            player = playerMapper.toEntity(apiPlayer);
+        }
+        return cache(playersRepository.save(player));
+    }
+
+    private Players cache(Players player) {
+        playerResolutionCache.put(player);
+        return player;
+    }
+
     @Override
     @Transactional
     public List<Players> getAndUpdateActivePlayers() {
@@ -88,7 +129,7 @@ public class PlayerServiceImpl implements PlayerService {
 
         AtomicInteger processedCount = new AtomicInteger(0);
         
-        return apiPlayers.stream()
+        List<Players> updatedPlayers = apiPlayers.stream()
             .map(apiPlayer -> {
                 try {
                     // Add small delay every 5 players
@@ -122,6 +163,11 @@ public class PlayerServiceImpl implements PlayerService {
                 }
             })
             .collect(Collectors.toList());
+
+        // The whole active roster was just refreshed, so stat ingestion can resolve it without the API
+        playerResolutionCache.putAll(updatedPlayers);
+        publishUpdated(updatedPlayers);
+        return updatedPlayers;
     }
 
     @Retryable(
@@ -184,6 +230,9 @@ public class PlayerServiceImpl implements PlayerService {
             })
             .collect(Collectors.toList());
 
+        playerResolutionCache.putAll(updatedPlayers);
+        publishUpdated(updatedPlayers);
+
         // Handle former team players in a separate transaction
         handleFormerTeamPlayers(team, updatedPlayerIds);
         
@@ -195,21 +244,21 @@ public class PlayerServiceImpl implements PlayerService {
     @Transactional
     private void handleFormerTeamPlayers(Teams team, Set<Long> updatedPlayerIds) {
         List<Players> formerTeamPlayers = playersRepository.findByTeamId(team.getId());
-        int removedCount = 0;
+        List<Players> removedPlayers = new ArrayList<>();
         
         for (Players player : formerTeamPlayers) {
             if (!updatedPlayerIds.contains(player.getId())) {
                 logger.info("Removing team association for player {} {} (ID: {})", 
                     player.getFirstName(), player.getLastName(), player.getId());
                 player.setTeam(null);
-                playersRepository.save(player);
-                removedCount++;
+                removedPlayers.add(playersRepository.save(player));
             }
         }
         
-        if (removedCount > 0) {
+        if (!removedPlayers.isEmpty()) {
+            publishUpdated(removedPlayers);
             logger.info("Removed team association for {} players from team {}", 
-                removedCount, team.getName());
+                removedPlayers.size(), team.getName());
         }
     }
 
@@ -249,6 +298,30 @@ public class PlayerServiceImpl implements PlayerService {
 
     @Override
     public Players updatePlayer(Players player) {
-        return playersRepository.save(player);
+        return publishUpdated(playersRepository.save(player));
+    }
+
+    @Override
+    @Transactional
+    public List<Players> updatePlayers(List<Players> players) {
+        List<Players> saved = playersRepository.saveAll(players);
+        publishUpdated(saved);
+        return saved;
+    }
+
+    /**
+     * Announces the written players so versioned responses and the caches built on them move on
+     * once the transaction commits.
+     */
+    private void publishUpdated(List<Players> players) {
+        if (!players.isEmpty()) {
+            eventPublisher.publishEvent(new PlayersUpdatedEvent(
+                players.stream().map(Players::getId).collect(Collectors.toSet())));
+        }
+    }
+
+    private Players publishUpdated(Players player) {
+        publishUpdated(List.of(player));
+        return player;
     }
 } 
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.adamnestor.courtvision.service.impl;
 
+import com.adamnestor.courtvision.config.UsePrimaryDataSource;
 import com.adamnestor.courtvision.api.model.ApiGameStats;
 import com.adamnestor.courtvision.api.model.ApiAdvancedStats;
 import com.adamnestor.courtvision.domain.GameStats;
@@ -7,6 +8,7 @@ import com.adamnestor.courtvision.domain.AdvancedGameStats;
 import com.adamnestor.courtvision.domain.Games;
 import com.adamnestor.courtvision.domain.Players;
 import com.adamnestor.courtvision.domain.StatCategory;
+import com.adamnestor.courtvision.event.GameStatsIngestedEvent;
 import com.adamnestor.courtvision.mapper.StatsMapper;
 import com.adamnestor.courtvision.mapper.AdvancedStatsMapper;
 import com.adamnestor.courtvision.repository.GameStatsRepository;
@@ -14,17 +16,23 @@ import com.adamnestor.courtvision.repository.AdvancedGameStatsRepository;
 import com.adamnestor.courtvision.service.BallDontLieService;
 import com.adamnestor.courtvision.service.PlayerService;
 import com.adamnestor.courtvision.service.StatsService;
+import com.adamnestor.courtvision.service.hitrate.HitRateMaintainer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.dao.DataIntegrityViolationException;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.LinkedHashMap;
 import java.util.stream.Collectors;
 import java.util.ArrayList;
 
 @Service
+@UsePrimaryDataSource
 public class StatsServiceImpl implements StatsService {
     
     private static final Logger logger = LoggerFactory.getLogger(StatsServiceImpl.class);
@@ -35,6 +43,8 @@ public class StatsServiceImpl implements StatsService {
     private final PlayerService playerService;
     private final StatsMapper statsMapper;
     private final AdvancedStatsMapper advancedStatsMapper;
+    private final HitRateMaintainer hitRateMaintainer;
+    private final ApplicationEventPublisher eventPublisher;
 
     public StatsServiceImpl(
             BallDontLieService ballDontLieService,
@@ -42,13 +52,17 @@ public class StatsServiceImpl implements StatsService {
             AdvancedGameStatsRepository advancedGameStatsRepository,
             PlayerService playerService,
             StatsMapper statsMapper,
-            AdvancedStatsMapper advancedStatsMapper) {
+            AdvancedStatsMapper advancedStatsMapper,
+            HitRateMaintainer hitRateMaintainer,
+            ApplicationEventPublisher eventPublisher) {
         this.ballDontLieService = ballDontLieService;
         this.gameStatsRepository = gameStatsRepository;
         this.advancedGameStatsRepository = advancedGameStatsRepository;
         this.playerService = playerService;
         this.statsMapper = statsMapper;
         this.advancedStatsMapper = advancedStatsMapper;
+        this.hitRateMaintainer = hitRateMaintainer;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -57,12 +71,44 @@ public class StatsServiceImpl implements StatsService {
         logger.debug("Fetching and updating stats for game: {}", game.getId());
         List<ApiGameStats> apiStats = ballDontLieService.getGameStats(game.getExternalId());
         logger.debug("Received {} stats entries from API for game {}", apiStats.size(), game.getId());
-        
+
+        List<GameStats> savedStats = gameStatsRepository.upsertAll(toGameStats(game, apiStats));
+        onStatsWritten(savedStats);
+        return savedStats;
+    }
+
+    @Override
+    @Transactional
+    public Map<Long, List<GameStats>> getAndUpdateGameStats(List<Games> games) {
+        logger.debug("Fetching and updating stats for {} games", games.size());
+        return updateGameStats(games, ballDontLieService.getGameStats(
+            games.stream().map(Games::getExternalId).collect(Collectors.toList())));
+    }
+
+    @Override
+    @Transactional
+    public Map<Long, List<GameStats>> updateGameStats(List<Games> games, Map<Long, List<ApiGameStats>> apiStatsByGame) {
+        Map<Long, List<GameStats>> savedByGame = new LinkedHashMap<>();
+        List<GameStats> allStats = new ArrayList<>();
+        for (Games game : games) {
+            List<GameStats> gameStats = toGameStats(
+                game, apiStatsByGame.getOrDefault(game.getExternalId(), List.of()));
+            savedByGame.put(game.getId(), gameStats);
+            allStats.addAll(gameStats);
+        }
+
+        // One existing-row lookup and one insert/update batch for all games
+        gameStatsRepository.upsertAll(allStats);
+        onStatsWritten(allStats);
+        return savedByGame;
+    }
+
+    private List<GameStats> toGameStats(Games game, List<ApiGameStats> apiStats) {
         return apiStats.stream()
             .map(apiStat -> {
                 Players player = null;
                 if (apiStat.getPlayer() != null && apiStat.getPlayer().getId() != null) {
-                    player = playerService.getAndUpdatePlayer(apiStat.getPlayer().getId());
+                    player = playerService.resolvePlayer(apiStat.getPlayer());
                     if (player == null) {
                         logger.error("Could not find or create player with ID {} for game {}", 
                             apiStat.getPlayer().getId(), game.getId());
@@ -73,18 +119,8 @@ public class StatsServiceImpl implements StatsService {
                     logger.error("Raw stat entry: {}", apiStat);
                     return null;
                 }
-                
-                GameStats existingStats = gameStatsRepository
-                    .findByGameAndPlayer(game, player)
-                    .orElse(null);
-                
-                if (existingStats != null) {
-                    statsMapper.updateEntity(existingStats, apiStat);
-                    return gameStatsRepository.save(existingStats);
-                } else {
-                    GameStats newStats = statsMapper.toEntity(apiStat, game, player);
-                    return gameStatsRepository.save(newStats);
-                }
+
+                return statsMapper.toEntity(apiStat, game, player);
             })
             .filter(stats -> stats != null)
             .collect(Collectors.toList());
@@ -96,7 +132,7 @@ public class StatsServiceImpl implements StatsService {
         logger.debug("Fetching and updating season {} stats for player: {}", season, player.getId());
         List<ApiGameStats> apiStats = ballDontLieService.getPlayerSeasonStats(player.getExternalId(), season);
         
-        return apiStats.stream()
+        List<GameStats> savedStats = apiStats.stream()
             .map(apiStat -> {
                 GameStats existingStats = gameStatsRepository
                     .findByExternalId(apiStat.getId())
@@ -113,6 +149,21 @@ public class StatsServiceImpl implements StatsService {
                 }
             })
             .collect(Collectors.toList());
+
+        hitRateMaintainer.refresh(List.of(player));
+        eventPublisher.publishEvent(new GameStatsIngestedEvent(Set.of(player.getId())));
+        return savedStats;
+    }
+
+    /**
+     * Slides the players' stored hit-rate windows forward and announces the change so their cached
+     * logs and derived caches are dropped once the transaction commits.
+     */
+    private void onStatsWritten(List<GameStats> stats) {
+        Map<Long, Players> players = new LinkedHashMap<>();
+        stats.forEach(stat -> players.putIfAbsent(stat.getPlayer().getId(), stat.getPlayer()));
+        hitRateMaintainer.refresh(players.values());
+        eventPublisher.publishEvent(new GameStatsIngestedEvent(Set.copyOf(players.keySet())));
     }
 
     @Override
@@ -132,7 +183,7 @@ public class StatsServiceImpl implements StatsService {
             List<AdvancedGameStats> stats = new ArrayList<>();
             
             for (ApiAdvancedStats apiStat : apiStats) {
-                Players player = playerService.getAndUpdatePlayer(apiStat.getPlayer().getId());
+                Players player = playerService.resolvePlayer(apiStat.getPlayer());
                 if (player == null) {
                     logger.warn("Skipping advanced stat - no player found for game {}", game.getId());
                     continue;
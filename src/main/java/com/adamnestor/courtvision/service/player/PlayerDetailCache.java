@@ -0,0 +1,99 @@
+package com.adamnestor.courtvision.service.player;
+
+import com.adamnestor.courtvision.config.ReadWriteRoutingDataSource;
+import com.adamnestor.courtvision.domain.StatCategory;
+import com.adamnestor.courtvision.domain.TimePeriod;
+import com.adamnestor.courtvision.dto.player.PlayerDetailStats;
+import com.adamnestor.courtvision.event.AdvancedStatsIngestedEvent;
+import com.adamnestor.courtvision.event.GameStatsIngestedEvent;
+import com.adamnestor.courtvision.event.GamesUpdatedEvent;
+import com.adamnestor.courtvision.event.PlayersUpdatedEvent;
+import com.adamnestor.courtvision.service.version.DataGeneration;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Computed player detail stats per player, period, category and threshold.
+ * Entries are dropped once a write that feeds them commits: the player's box scores or player row
+ * per player, and advanced stats or game updates for everyone, since they move the team context
+ * behind every confidence score. Entries otherwise expire after a TTL.
+ * A load that overlaps an invalidation is returned to its caller but not kept, since it may have
+ * read the old rows.
+ */
+@Component
+public class PlayerDetailCache {
+    public record Key(Long playerId, TimePeriod timePeriod, StatCategory category, Integer threshold) {}
+
+    private final Cache<Key, PlayerDetailStats> details;
+    private final AtomicLong generation = new AtomicLong();
+
+    public PlayerDetailCache(
+            MeterRegistry meterRegistry,
+            @Value("${players.detail-cache.max-size:20000}") long maxSize,
+            @Value("${players.detail-cache.ttl-minutes:60}") long ttlMinutes) {
+        this.details = CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .<Key, PlayerDetailStats>build(), "players.detail");
+    }
+
+    public PlayerDetailStats get(Key key, Supplier<PlayerDetailStats> loader) {
+        PlayerDetailStats cached = details.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        long loadedAt = generation.get();
+        PlayerDetailStats loaded = ReadWriteRoutingDataSource.onPrimaryAfterWrite(loader);
+        details.put(key, loaded);
+        if (generation.get() != loadedAt) {
+            details.asMap().remove(key, loaded);
+        }
+        return loaded;
+    }
+
+    @Order(DataGeneration.INVALIDATION_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGameStatsIngested(GameStatsIngestedEvent event) {
+        evict(event.playerIds());
+    }
+
+    @Order(DataGeneration.INVALIDATION_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPlayersUpdated(PlayersUpdatedEvent event) {
+        evict(event.playerIds());
+    }
+
+    @Order(DataGeneration.INVALIDATION_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAdvancedStatsIngested(AdvancedStatsIngestedEvent event) {
+        clear();
+    }
+
+    @Order(DataGeneration.INVALIDATION_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGamesUpdated(GamesUpdatedEvent event) {
+        clear();
+    }
+
+    public void evict(Set<Long> playerIds) {
+        generation.incrementAndGet();
+        details.asMap().keySet().removeIf(key -> playerIds.contains(key.playerId()));
+    }
+
+    public void clear() {
+        generation.incrementAndGet();
+        details.invalidateAll();
+    }
+}
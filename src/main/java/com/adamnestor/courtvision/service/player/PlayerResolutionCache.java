@@ -0,0 +1,108 @@
+package com.adamnestor.courtvision.service.player;
+
+import com.adamnestor.courtvision.domain.Players;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * External ID to {@link Players} resolution cache for stat ingestion.
+ * Entries are fresh for a configurable TTL; a stale or missing entry tells the caller to
+ * refresh the player. Players written inside a transaction are only visible to that transaction
+ * until it commits, so another ingest worker never resolves to a row that is not committed.
+ */
+@Component
+public class PlayerResolutionCache {
+    private static final Logger logger = LoggerFactory.getLogger(PlayerResolutionCache.class);
+
+    private final Cache<Long, Players> players;
+
+    public PlayerResolutionCache(
+            MeterRegistry meterRegistry,
+            @Value("${players.resolution-cache.max-size:10000}") long maxSize,
+            @Value("${players.resolution-cache.ttl-minutes:360}") long ttlMinutes) {
+        this.players = CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .<Long, Players>build(), "players.resolution");
+    }
+
+    /**
+     * Returns the cached player if it was refreshed within the TTL, including players written
+     * earlier in the caller's own transaction.
+     */
+    public Optional<Players> getFresh(Long externalId) {
+        Map<?, ?> pending = (Map<?, ?>) TransactionSynchronizationManager.getResource(this);
+        if (pending != null && pending.get(externalId) instanceof Players written) {
+            return Optional.of(written);
+        }
+        return Optional.ofNullable(players.getIfPresent(externalId));
+    }
+
+    public void put(Players player) {
+        if (player == null || player.getExternalId() == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            pending().put(player.getExternalId(), player);
+        } else {
+            players.put(player.getExternalId(), player);
+        }
+    }
+
+    public void putAll(Collection<Players> players) {
+        players.forEach(this::put);
+        logger.debug("Warmed player resolution cache with {} players", players.size());
+    }
+
+    /**
+     * Players written in the current transaction, published to the shared cache once it commits.
+     * The map is unbound while the transaction is suspended, so a nested REQUIRES_NEW transaction
+     * keeps its own.
+     */
+    @SuppressWarnings("unchecked")
+    private Map<Long, Players> pending() {
+        Map<Long, Players> pending = (Map<Long, Players>) TransactionSynchronizationManager.getResource(this);
+        if (pending != null) {
+            return pending;
+        }
+        Map<Long, Players> written = new HashMap<>();
+        TransactionSynchronizationManager.bindResource(this, written);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void suspend() {
+                TransactionSynchronizationManager.unbindResourceIfPossible(PlayerResolutionCache.this);
+            }
+
+            @Override
+            public void resume() {
+                TransactionSynchronizationManager.bindResource(PlayerResolutionCache.this, written);
+            }
+
+            @Override
+            public void afterCommit() {
+                players.putAll(written);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(PlayerResolutionCache.this);
+            }
+        });
+        return written;
+    }
+}
@@ -0,0 +1,114 @@
+package com.adamnestor.courtvision.service.util;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Scaled-long arithmetic for the dashboard scoring hot paths.
+ * Values are carried as unscaled longs (hit rates in tenths of a percent, averages in
+ * ten-thousandths) and only converted to {@link BigDecimal} at the response boundary.
+ * Rounding reproduces {@code divide(MathContext.DECIMAL32).setScale(scale, HALF_UP)} exactly.
+ */
+public final class FixedPointMath {
+    public static final int HIT_RATE_SCALE = 1;
+    public static final int AVERAGE_SCALE = 4;
+
+    private static final int DECIMAL32_PRECISION = 7;
+    private static final long[] POWERS_OF_TEN = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L,
+            1_000_000_000L, 10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L,
+            10_000_000_000_000L, 100_000_000_000_000L, 1_000_000_000_000_000L,
+            10_000_000_000_000_000L, 100_000_000_000_000_000L, 1_000_000_000_000_000_000L
+    };
+
+    private FixedPointMath() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Hit rate as a percentage in tenths, e.g. 2 of 3 games is 667 (66.7%).
+     */
+    public static long hitRateTenths(int hits, int games) {
+        return games == 0 ? 0 : decimal32Quotient(hits * 100L, games, HIT_RATE_SCALE);
+    }
+
+    /**
+     * Average per game in ten-thousandths, e.g. 65 over 3 games is 216667 (21.6667).
+     */
+    public static long averageTenThousandths(long sum, int games) {
+        return games == 0 ? 0 : decimal32Quotient(sum, games, AVERAGE_SCALE);
+    }
+
+    public static BigDecimal toBigDecimal(long unscaledValue, int scale) {
+        return BigDecimal.valueOf(unscaledValue, scale);
+    }
+
+    /**
+     * Inverse of {@link #toBigDecimal}: the value as an unscaled long at {@code scale}, e.g.
+     * 66.7 at scale 1 is 667. Values stored at a coarser scale are padded, finer ones rounded HALF_UP.
+     */
+    public static long toUnscaled(BigDecimal value, int scale) {
+        return value.setScale(scale, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    /**
+     * Computes {@code numerator / denominator} rounded to 7 significant digits (HALF_EVEN)
+     * and then to {@code scale} decimal places (HALF_UP), returned as an unscaled long.
+     */
+    public static long decimal32Quotient(long numerator, long denominator, int scale) {
+        if (numerator < 0 || denominator <= 0) {
+            throw new IllegalArgumentException("Quotient requires a non-negative numerator and positive denominator");
+        }
+        if (numerator == 0) {
+            return 0;
+        }
+
+        // Decimal places kept by the 7-digit rounding step
+        int fractionDigits = DECIMAL32_PRECISION - integerDigits(numerator, denominator);
+
+        long rounded = fractionDigits >= 0
+                ? divideHalfEven(numerator * POWERS_OF_TEN[fractionDigits], denominator)
+                : divideHalfEven(numerator, denominator * POWERS_OF_TEN[-fractionDigits]);
+
+        if (fractionDigits <= scale) {
+            return rounded * POWERS_OF_TEN[scale - fractionDigits];
+        }
+        return divideHalfUp(rounded, POWERS_OF_TEN[fractionDigits - scale]);
+    }
+
+    /**
+     * Returns d such that 10^(d-1) <= numerator / denominator < 10^d.
+     */
+    private static int integerDigits(long numerator, long denominator) {
+        long integerPart = numerator / denominator;
+        if (integerPart > 0) {
+            int digits = 1;
+            while (digits < POWERS_OF_TEN.length && integerPart >= POWERS_OF_TEN[digits]) {
+                digits++;
+            }
+            return digits;
+        }
+
+        int digits = 1;
+        long scaled = numerator;
+        while (scaled < denominator) {
+            scaled *= 10;
+            digits--;
+        }
+        return digits;
+    }
+
+    private static long divideHalfEven(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        long twiceRemainder = 2 * (dividend % divisor);
+        if (twiceRemainder > divisor || (twiceRemainder == divisor && (quotient & 1) == 1)) {
+            quotient++;
+        }
+        return quotient;
+    }
+
+    private static long divideHalfUp(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        return 2 * (dividend % divisor) >= divisor ? quotient + 1 : quotient;
+    }
+}
@@ -2,6 +2,7 @@ package com.adamnestor.courtvision.service.util;
 
 import com.adamnestor.courtvision.domain.GameStats;
 import com.adamnestor.courtvision.domain.StatCategory;
+import com.adamnestor.courtvision.service.gamelog.PlayerGameLog;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -31,20 +32,11 @@ public class StatAnalysisUtils {
     public static Map<String, Object> analyzeCategoryStats(List<GameStats> games, StatCategory category) {
         logger.debug("Analyzing all stats for category: {} with {} games", category, games.size());
 
-        Map<String, Object> analysis = new HashMap<>();
-
-        // Basic stats
-        analysis.put("average", calculateAverage(games, category));
-        analysis.put("category", category);
-
-        // Hit rates for all thresholds
-        Map<Integer, Map<String, Object>> thresholdAnalysis = new TreeMap<>();
-        for (Integer threshold : getThresholdsForCategory(category)) {
-            thresholdAnalysis.put(threshold, analyzeThreshold(games, category, threshold));
+        int[] values = new int[games.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = getStatValue(games.get(i), category);
         }
-        analysis.put("thresholdAnalysis", thresholdAnalysis);
-
-        return analysis;
+        return analyzeCategory(values, values.length, category);
     }
 
     /**
@@ -117,6 +109,131 @@ public class StatAnalysisUtils {
                 .divide(BigDecimal.valueOf(games.size()), DECIMAL_PLACES, RoundingMode.HALF_UP);
     }
 
+    /**
+     * Analyzes hit rates and averages for all standard thresholds over the first
+     * {@code window} games of a columnar game log
+     */
+    public static Map<String, Object> analyzeCategoryStats(PlayerGameLog log, int window, StatCategory category) {
+        logger.debug("Analyzing all stats for category: {} with {} games", category, window);
+        return analyzeCategory(log.column(category), window, category);
+    }
+
+    /**
+     * Analyzes all standard thresholds over the first {@code window} values in one pass: the sum
+     * and every threshold's hit count are tallied together rather than re-scanning per threshold
+     */
+    private static Map<String, Object> analyzeCategory(int[] values, int window, StatCategory category) {
+        List<Integer> thresholds = getThresholdsForCategory(category);
+        int[] limits = new int[thresholds.size()];
+        for (int t = 0; t < limits.length; t++) {
+            limits[t] = thresholds.get(t);
+        }
+        long sum = 0;
+        int[] successCounts = new int[limits.length];
+        for (int i = 0; i < window; i++) {
+            int value = values[i];
+            sum += value;
+            for (int t = 0; t < limits.length; t++) {
+                if (value >= limits[t]) {
+                    successCounts[t]++;
+                }
+            }
+        }
+
+        Map<String, Object> analysis = new HashMap<>();
+        BigDecimal average = window > 0 ? toAverage(sum, window) : BigDecimal.ZERO;
+        analysis.put("average", average);
+        analysis.put("category", category);
+
+        Map<Integer, Map<String, Object>> thresholdAnalysis = new TreeMap<>();
+        for (int t = 0; t < limits.length; t++) {
+            Integer threshold = thresholds.get(t);
+            if (window <= 0) {
+                thresholdAnalysis.put(threshold, createEmptyAnalysis(category, threshold));
+                continue;
+            }
+            int successes = successCounts[t];
+
+            Map<String, Object> thresholdStats = new HashMap<>();
+            thresholdStats.put("threshold", threshold);
+            thresholdStats.put("hitRate", toHitRate(successes, window));
+            thresholdStats.put("successCount", successes);
+            thresholdStats.put("failureCount", window - successes);
+            thresholdStats.put("average", average);
+            thresholdStats.put("category", category);
+            thresholdAnalysis.put(threshold, thresholdStats);
+        }
+        analysis.put("thresholdAnalysis", thresholdAnalysis);
+
+        return analysis;
+    }
+
+    /**
+     * Analyzes performance for a specific threshold over a game log window
+     */
+    public static Map<String, Object> analyzeThreshold(PlayerGameLog log, int window, StatCategory category, Integer threshold) {
+        if (log == null || window <= 0) {
+            return createEmptyAnalysis(category, threshold);
+        }
+
+        int successes = countSuccesses(log, window, category, threshold);
+
+        Map<String, Object> analysis = new HashMap<>();
+        analysis.put("threshold", threshold);
+        analysis.put("hitRate", toHitRate(successes, window));
+        analysis.put("successCount", successes);
+        analysis.put("failureCount", window - successes);
+        analysis.put("average", calculateAverage(log, window, category));
+        analysis.put("category", category);
+        return analysis;
+    }
+
+    /**
+     * Calculates the hit rate for a specific threshold over a game log window
+     */
+    public static BigDecimal calculateHitRate(PlayerGameLog log, int window, StatCategory category, int threshold) {
+        if (log == null || window <= 0) {
+            return BigDecimal.ZERO;
+        }
+        return toHitRate(countSuccesses(log, window, category, threshold), window);
+    }
+
+    /**
+     * Calculates the average for a stat category over a game log window
+     */
+    public static BigDecimal calculateAverage(PlayerGameLog log, int window, StatCategory category) {
+        if (log == null || window <= 0) {
+            return BigDecimal.ZERO;
+        }
+        return toAverage(sum(log, window, category), window);
+    }
+
+    /**
+     * Sums a stat column over the first {@code window} games
+     */
+    public static long sum(PlayerGameLog log, int window, StatCategory category) {
+        int[] column = log.column(category);
+        long sum = 0;
+        for (int i = 0; i < window; i++) {
+            sum += column[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Counts games within the first {@code window} games meeting or exceeding the threshold
+     */
+    public static int countSuccesses(PlayerGameLog log, int window, StatCategory category, int threshold) {
+        int[] column = log.column(category);
+        int count = 0;
+        for (int i = 0; i < window; i++) {
+            if (column[i] >= threshold) {
+                count++;
+            }
+        }
+        return count;
+    }
+
     /**
      * Returns standard thresholds for a category
      */
@@ -162,6 +279,17 @@ public class StatAnalysisUtils {
         return count;
     }
 
+    private static BigDecimal toHitRate(int successes, int gamesCount) {
+        return BigDecimal.valueOf(successes)
+                .multiply(BigDecimal.valueOf(100))
+                .divide(BigDecimal.valueOf(gamesCount), DECIMAL_PLACES, RoundingMode.HALF_UP);
+    }
+
+    private static BigDecimal toAverage(long sum, int gamesCount) {
+        return BigDecimal.valueOf((double) sum)
+                .divide(BigDecimal.valueOf(gamesCount), DECIMAL_PLACES, RoundingMode.HALF_UP);
+    }
+
     private static Map<String, Object> createEmptyAnalysis(StatCategory category, Integer threshold) {
         Map<String, Object> analysis = new HashMap<>();
         analysis.put("threshold", threshold);
@@ -0,0 +1,80 @@
+package com.adamnestor.courtvision.service.version;
+
+import com.adamnestor.courtvision.event.AdvancedStatsIngestedEvent;
+import com.adamnestor.courtvision.event.DashboardSnapshotPublishedEvent;
+import com.adamnestor.courtvision.event.GameStatsIngestedEvent;
+import com.adamnestor.courtvision.event.GamesUpdatedEvent;
+import com.adamnestor.courtvision.event.PlayersUpdatedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counter that moves whenever the data behind the read endpoints can have changed: after ingested
+ * box scores, advanced stats, game updates (schedule, status, scores) or player updates (roster,
+ * status) commit, and when a dashboard snapshot is published.
+ * Response versions (ETags) are derived from it, so an unchanged generation means an unchanged body.
+ * The counter moves after the caches behind those endpoints have dropped what the write made stale
+ * (their listeners run at {@link #INVALIDATION_ORDER}), so a request that reads the new generation
+ * computes its body from fresh entries.
+ * <p>
+ * The counter starts at the startup time in epoch millis so that versions handed out before a
+ * restart are never reused; each instance keeps its own counter.
+ */
+@Component
+public class DataGeneration {
+    private static final Logger logger = LoggerFactory.getLogger(DataGeneration.class);
+
+    /**
+     * Listener order of the cache invalidations that must run before the generation moves.
+     */
+    public static final int INVALIDATION_ORDER = Ordered.LOWEST_PRECEDENCE - 1;
+
+    private final AtomicLong generation = new AtomicLong(System.currentTimeMillis());
+
+    public long current() {
+        return generation.get();
+    }
+
+    public long bump() {
+        long next = generation.incrementAndGet();
+        logger.debug("Data generation is now {}", next);
+        return next;
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGameStatsIngested(GameStatsIngestedEvent event) {
+        bump();
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAdvancedStatsIngested(AdvancedStatsIngestedEvent event) {
+        bump();
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGamesUpdated(GamesUpdatedEvent event) {
+        bump();
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPlayersUpdated(PlayersUpdatedEvent event) {
+        bump();
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @EventListener
+    public void onSnapshotPublished(DashboardSnapshotPublishedEvent event) {
+        bump();
+    }
+}
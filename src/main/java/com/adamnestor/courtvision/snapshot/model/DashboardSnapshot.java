@@ -0,0 +1,51 @@
+package com.adamnestor.courtvision.snapshot.model;
+
+import com.adamnestor.courtvision.domain.StatCategory;
+import com.adamnestor.courtvision.domain.TimePeriod;
+import com.adamnestor.courtvision.dto.response.DashboardStatsResponse;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Immutable, precomputed dashboard matrix for a single game day.
+ * Each entry holds the qualifying rows for one period/category/threshold combination,
+ * already ordered by hit rate and confidence score (descending).
+ */
+public final class DashboardSnapshot {
+    private final LocalDate gameDate;
+    private final Instant generatedAt;
+    private final int totalGames;
+    private final Map<Key, List<DashboardStatsResponse>> entries;
+
+    public DashboardSnapshot(
+            LocalDate gameDate,
+            Instant generatedAt,
+            int totalGames,
+            Map<Key, List<DashboardStatsResponse>> entries) {
+        this.gameDate = gameDate;
+        this.generatedAt = generatedAt;
+        this.totalGames = totalGames;
+        this.entries = Map.copyOf(entries);
+    }
+
+    public Optional<List<DashboardStatsResponse>> lookup(TimePeriod period, StatCategory category, Integer threshold) {
+        if (period == null || category == null || threshold == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(entries.get(new Key(period, category, threshold)));
+    }
+
+    public LocalDate getGameDate() { return gameDate; }
+
+    public Instant getGeneratedAt() { return generatedAt; }
+
+    public int getTotalGames() { return totalGames; }
+
+    public int size() { return entries.size(); }
+
+    public record Key(TimePeriod period, StatCategory category, int threshold) {}
+}
@@ -0,0 +1,26 @@
+package com.adamnestor.courtvision.snapshot.service;
+
+import com.adamnestor.courtvision.snapshot.model.DashboardSnapshot;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+public interface DashboardSnapshotService {
+    /**
+     * Computes the full dashboard matrix for today's games and atomically
+     * replaces the currently published snapshot. The snapshot is not published
+     * if the underlying data changed while it was being computed.
+     *
+     * @return The newly built snapshot
+     */
+    DashboardSnapshot rebuildSnapshot();
+
+    /**
+     * Returns the published snapshot if it was built for the given game date and
+     * no write affecting it has committed since.
+     *
+     * @param gameDate The game date the caller is serving
+     * @return Optional containing the snapshot for that date
+     */
+    Optional<DashboardSnapshot> getSnapshot(LocalDate gameDate);
+}
@@ -0,0 +1,203 @@
+package com.adamnestor.courtvision.snapshot.service.impl;
+
+import com.adamnestor.courtvision.config.ReadWriteRoutingDataSource;
+import com.adamnestor.courtvision.domain.Games;
+import com.adamnestor.courtvision.domain.StatCategory;
+import com.adamnestor.courtvision.domain.TimePeriod;
+import com.adamnestor.courtvision.dto.response.DashboardStatsResponse;
+import com.adamnestor.courtvision.event.AdvancedStatsIngestedEvent;
+import com.adamnestor.courtvision.event.DashboardSnapshotPublishedEvent;
+import com.adamnestor.courtvision.event.GameStatsIngestedEvent;
+import com.adamnestor.courtvision.event.GamesUpdatedEvent;
+import com.adamnestor.courtvision.event.PlayersUpdatedEvent;
+import com.adamnestor.courtvision.repository.GamesRepository;
+import com.adamnestor.courtvision.service.PlayerPerformanceService;
+import com.adamnestor.courtvision.service.util.DateUtils;
+import com.adamnestor.courtvision.service.version.DataGeneration;
+import com.adamnestor.courtvision.snapshot.model.DashboardSnapshot;
+import com.adamnestor.courtvision.snapshot.service.DashboardSnapshotService;
+import org.slf4j.Logger;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Holds the dashboard snapshot for today's games. The snapshot is dropped as soon as a write that
+ * can change its rows commits (box scores, advanced stats, game or player updates), and the
+ * dashboard falls back to live calculation until it is rebuilt in the background. The rebuild is
+ * debounced, so a burst of writes (an import, a backfill, the status pass) costs one rebuild once
+ * the writes go quiet.
+ * <p>
+ * A generation guards rebuilds: a snapshot whose build overlapped an invalidation was computed
+ * from data that may predate the write, so it is withdrawn instead of published.
+ */
+@Service
+public class DashboardSnapshotServiceImpl implements DashboardSnapshotService {
+    private static final Logger logger = LoggerFactory.getLogger(DashboardSnapshotServiceImpl.class);
+
+    private final PlayerPerformanceService playerPerformanceService;
+    private final GamesRepository gamesRepository;
+    private final DateUtils dateUtils;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AtomicReference<DashboardSnapshot> currentSnapshot = new AtomicReference<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final ScheduledExecutorService rebuilder =
+            Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("snapshot-rebuild-"));
+    private final long rebuildDelayMillis;
+    private ScheduledFuture<?> pendingRebuild;
+
+    public DashboardSnapshotServiceImpl(
+            PlayerPerformanceService playerPerformanceService,
+            GamesRepository gamesRepository,
+            DateUtils dateUtils,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${dashboard.snapshot.rebuild-delay-ms:30000}") long rebuildDelayMillis) {
+        this.playerPerformanceService = playerPerformanceService;
+        this.gamesRepository = gamesRepository;
+        this.dateUtils = dateUtils;
+        this.eventPublisher = eventPublisher;
+        this.rebuildDelayMillis = rebuildDelayMillis;
+    }
+
+    @Override
+    public DashboardSnapshot rebuildSnapshot() {
+        long start = System.currentTimeMillis();
+        long observed = generation.get();
+        LocalDate today = dateUtils.getCurrentEasternDate();
+        List<Games> todaysGames = ReadWriteRoutingDataSource.onPrimaryAfterWrite(
+                () -> gamesRepository.findByGameDateAndStatus(today, "scheduled"));
+        logger.info("Building dashboard snapshot for {} ({} games)", today, todaysGames.size());
+
+        Map<TimePeriod, List<DashboardStatsResponse>> matrix =
+                playerPerformanceService.calculateDashboardMatrix(todaysGames);
+
+        // Index every row under its period/category/threshold key; rows arrive pre-sorted
+        Map<DashboardSnapshot.Key, List<DashboardStatsResponse>> entries = new HashMap<>();
+        for (TimePeriod period : TimePeriod.values()) {
+            for (StatCategory category : StatCategory.values()) {
+                for (Integer threshold : category.getValidThresholds()) {
+                    entries.put(new DashboardSnapshot.Key(period, category, threshold), List.of());
+                }
+            }
+        }
+        matrix.forEach((period, rows) -> {
+            Map<DashboardSnapshot.Key, List<DashboardStatsResponse>> grouped = new HashMap<>();
+            for (DashboardStatsResponse row : rows) {
+                grouped.computeIfAbsent(
+                        new DashboardSnapshot.Key(period, row.category(), row.threshold()),
+                        key -> new ArrayList<>()).add(row);
+            }
+            grouped.forEach((key, value) -> entries.put(key, List.copyOf(value)));
+        });
+
+        DashboardSnapshot snapshot = new DashboardSnapshot(today, Instant.now(), todaysGames.size(), entries);
+        currentSnapshot.set(snapshot);
+        if (generation.get() != observed) {
+            // A write committed while the matrix was computed; leave the dashboard on live calculation
+            currentSnapshot.compareAndSet(snapshot, null);
+            logger.info("Discarded dashboard snapshot for {}: data changed during the build", today);
+            return snapshot;
+        }
+        cancelPendingRebuild(observed);
+        eventPublisher.publishEvent(new DashboardSnapshotPublishedEvent(today, snapshot.getGeneratedAt()));
+
+        logger.info("Published dashboard snapshot for {} with {} entries in {} ms",
+                today, snapshot.size(), System.currentTimeMillis() - start);
+        return snapshot;
+    }
+
+    @Order(DataGeneration.INVALIDATION_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGameStatsIngested(GameStatsIngestedEvent event) {
+        invalidate("box scores");
+    }
+
+    @Order(DataGeneration.INVALIDATION_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAdvancedStatsIngested(AdvancedStatsIngestedEvent event) {
+        invalidate("advanced stats");
+    }
+
+    @Order(DataGeneration.INVALIDATION_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGamesUpdated(GamesUpdatedEvent event) {
+        invalidate("game updates");
+    }
+
+    @Order(DataGeneration.INVALIDATION_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPlayersUpdated(PlayersUpdatedEvent event) {
+        invalidate("player updates");
+    }
+
+    private void invalidate(String cause) {
+        generation.incrementAndGet();
+        DashboardSnapshot dropped = currentSnapshot.getAndSet(null);
+        if (dropped != null) {
+            logger.info("Dropped dashboard snapshot for {} after {}", dropped.getGameDate(), cause);
+        }
+        scheduleRebuild(dropped != null);
+    }
+
+    /**
+     * (Re)starts the rebuild countdown when a snapshot was just dropped or a rebuild is still
+     * outstanding; a rebuild already running will be discarded by the generation check.
+     */
+    private synchronized void scheduleRebuild(boolean dropped) {
+        boolean outstanding = pendingRebuild != null && !pendingRebuild.isDone();
+        if (!dropped && !outstanding) {
+            return;
+        }
+        if (outstanding) {
+            pendingRebuild.cancel(false);
+        }
+        pendingRebuild = rebuilder.schedule(this::rebuildInBackground, rebuildDelayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * A published snapshot makes a countdown started before its build redundant.
+     */
+    private synchronized void cancelPendingRebuild(long observed) {
+        if (pendingRebuild != null && generation.get() == observed) {
+            pendingRebuild.cancel(false);
+        }
+    }
+
+    private void rebuildInBackground() {
+        try {
+            rebuildSnapshot();
+        } catch (Exception e) {
+            logger.error("Error rebuilding dashboard snapshot: {}", e.getMessage(), e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuilder.shutdownNow();
+    }
+
+    @Override
+    public Optional<DashboardSnapshot> getSnapshot(LocalDate gameDate) {
+        return Optional.ofNullable(currentSnapshot.get())
+                .filter(snapshot -> snapshot.getGameDate().equals(gameDate));
+    }
+}
@@ -0,0 +1,60 @@
+package com.adamnestor.courtvision.util;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Counts the SQL statements Hibernate prepares while a count is open on the current thread.
+ * Work handed to other threads is counted against the same total when wrapped with
+ * {@link #propagating(Function)}.
+ */
+public class SqlStatementCounter implements StatementInspector {
+    private static final ThreadLocal<AtomicInteger> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Starts a new count on the current thread and returns it.
+     */
+    public static AtomicInteger start() {
+        AtomicInteger count = new AtomicInteger();
+        CURRENT.set(count);
+        return count;
+    }
+
+    public static void stop() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Wraps a task so that statements it runs on another thread count towards the caller's total.
+     */
+    public static <T, R> Function<T, R> propagating(Function<T, R> task) {
+        AtomicInteger count = CURRENT.get();
+        if (count == null) {
+            return task;
+        }
+        return item -> {
+            AtomicInteger previous = CURRENT.get();
+            CURRENT.set(count);
+            try {
+                return task.apply(item);
+            } finally {
+                if (previous == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(previous);
+                }
+            }
+        };
+    }
+
+    @Override
+    public String inspect(String sql) {
+        AtomicInteger count = CURRENT.get();
+        if (count != null) {
+            count.incrementAndGet();
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,37 @@
+package com.adamnestor.courtvision.warmup.model;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * Outcome of one cache warm-up run. Each stage reports how many entries it warmed out of the
+ * number it set out to warm; coverage is their ratio (1.0 when there was nothing to warm).
+ */
+public record WarmupReport(
+        LocalDate gameDate,
+        int dashboardVariantsWarmed,
+        int dashboardVariantsExpected,
+        int playerDetailsWarmed,
+        int playerDetailsExpected,
+        int teamContextsWarmed,
+        int teamContextsExpected,
+        int failures,
+        long durationMillis,
+        Instant finishedAt
+) {
+    public double dashboardCoverage() {
+        return coverage(dashboardVariantsWarmed, dashboardVariantsExpected);
+    }
+
+    public double playerDetailCoverage() {
+        return coverage(playerDetailsWarmed, playerDetailsExpected);
+    }
+
+    public double teamContextCoverage() {
+        return coverage(teamContextsWarmed, teamContextsExpected);
+    }
+
+    private static double coverage(int warmed, int expected) {
+        return expected == 0 ? 1.0 : (double) warmed / expected;
+    }
+}
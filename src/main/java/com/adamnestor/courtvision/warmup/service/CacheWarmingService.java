@@ -0,0 +1,27 @@
+package com.adamnestor.courtvision.warmup.service;
+
+import com.adamnestor.courtvision.warmup.model.WarmupReport;
+
+import java.util.Optional;
+
+public interface CacheWarmingService {
+    /**
+     * Starts warming today's caches on the background warm-up executor.
+     *
+     * @return false if a warm-up is already running and none was started
+     */
+    boolean warmAsync();
+
+    /**
+     * Warms team context, the dashboard snapshot and player detail stats for tonight's players
+     * on the calling thread, throttled to the configured rate.
+     *
+     * @return The outcome of the run
+     */
+    WarmupReport warm();
+
+    /**
+     * Returns the outcome of the most recent completed warm-up, if any.
+     */
+    Optional<WarmupReport> getLastReport();
+}
@@ -0,0 +1,242 @@
+package com.adamnestor.courtvision.warmup.service.impl;
+
+import com.adamnestor.courtvision.confidence.service.TeamContextCache;
+import com.adamnestor.courtvision.config.ReadWriteRoutingDataSource;
+import com.adamnestor.courtvision.domain.Games;
+import com.adamnestor.courtvision.domain.PlayerStatus;
+import com.adamnestor.courtvision.domain.Players;
+import com.adamnestor.courtvision.domain.StatCategory;
+import com.adamnestor.courtvision.domain.Teams;
+import com.adamnestor.courtvision.domain.TimePeriod;
+import com.adamnestor.courtvision.repository.GamesRepository;
+import com.adamnestor.courtvision.repository.PlayersRepository;
+import com.adamnestor.courtvision.service.PlayerPerformanceService;
+import com.adamnestor.courtvision.service.util.DateUtils;
+import com.adamnestor.courtvision.snapshot.model.DashboardSnapshot;
+import com.adamnestor.courtvision.snapshot.service.DashboardSnapshotService;
+import com.adamnestor.courtvision.warmup.model.WarmupReport;
+import com.adamnestor.courtvision.warmup.service.CacheWarmingService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Warms the caches that tonight's first requests would otherwise fill: team context for every
+ * team playing, the dashboard snapshot (and with it the confidence components and game logs of
+ * every qualifying player) and player detail stats for every period and category of tonight's
+ * players at the category's default threshold.
+ * <p>
+ * Warming only reads the database, through the same routing as every other cache fill; player details
+ * are paced to {@code warmup.max-per-second} on a single background thread so the run does not
+ * compete with user traffic for connections.
+ * Duration is published as the {@code courtvision.warmup.duration} timer and the last run's coverage
+ * per stage as the {@code courtvision.warmup.coverage} gauge.
+ */
+@Service
+public class CacheWarmingServiceImpl implements CacheWarmingService {
+    private static final Logger logger = LoggerFactory.getLogger(CacheWarmingServiceImpl.class);
+
+    private final GamesRepository gamesRepository;
+    private final PlayersRepository playersRepository;
+    private final TeamContextCache teamContextCache;
+    private final DashboardSnapshotService dashboardSnapshotService;
+    private final PlayerPerformanceService playerPerformanceService;
+    private final DateUtils dateUtils;
+    private final long intervalNanos;
+    private final Timer durationTimer;
+    private final ExecutorService worker;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicReference<WarmupReport> lastReport = new AtomicReference<>();
+
+    public CacheWarmingServiceImpl(
+            GamesRepository gamesRepository,
+            PlayersRepository playersRepository,
+            TeamContextCache teamContextCache,
+            DashboardSnapshotService dashboardSnapshotService,
+            PlayerPerformanceService playerPerformanceService,
+            DateUtils dateUtils,
+            MeterRegistry meterRegistry,
+            @Value("${warmup.max-per-second:20}") int maxPerSecond) {
+        if (maxPerSecond <= 0) {
+            throw new IllegalArgumentException("Warm-up rate must be positive");
+        }
+        this.gamesRepository = gamesRepository;
+        this.playersRepository = playersRepository;
+        this.teamContextCache = teamContextCache;
+        this.dashboardSnapshotService = dashboardSnapshotService;
+        this.playerPerformanceService = playerPerformanceService;
+        this.dateUtils = dateUtils;
+        this.intervalNanos = TimeUnit.SECONDS.toNanos(1) / maxPerSecond;
+        this.worker = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("warmup-"));
+
+        this.durationTimer = Timer.builder("courtvision.warmup.duration").register(meterRegistry);
+        registerCoverage(meterRegistry, "dashboard", WarmupReport::dashboardCoverage);
+        registerCoverage(meterRegistry, "player_detail", WarmupReport::playerDetailCoverage);
+        registerCoverage(meterRegistry, "team_context", WarmupReport::teamContextCoverage);
+    }
+
+    @Override
+    public boolean warmAsync() {
+        if (!running.compareAndSet(false, true)) {
+            logger.info("Cache warm-up already running, not starting another");
+            return false;
+        }
+        worker.submit(ReadWriteRoutingDataSource.propagating(() -> {
+            try {
+                warm();
+            } catch (RuntimeException e) {
+                logger.error("Cache warm-up failed: {}", e.getMessage(), e);
+            } finally {
+                running.set(false);
+            }
+        }));
+        return true;
+    }
+
+    @Override
+    public WarmupReport warm() {
+        long start = System.nanoTime();
+        LocalDate today = dateUtils.getCurrentEasternDate();
+        List<Games> todaysGames = gamesRepository.findByGameDateAndStatus(today, "scheduled");
+        logger.info("Warming caches for {} ({} games)", today, todaysGames.size());
+        int failures = 0;
+
+        // 1. Team context for every team playing tonight
+        Map<Long, Teams> teams = new LinkedHashMap<>();
+        for (Games game : todaysGames) {
+            teams.putIfAbsent(game.getHomeTeam().getId(), game.getHomeTeam());
+            teams.putIfAbsent(game.getAwayTeam().getId(), game.getAwayTeam());
+        }
+        int teamContextsWarmed = 0;
+        for (Teams team : teams.values()) {
+            try {
+                teamContextCache.getTeamContext(team);
+                teamContextsWarmed++;
+            } catch (RuntimeException e) {
+                failures++;
+                logger.warn("Could not warm team context for team {}: {}", team.getId(), e.getMessage());
+            }
+        }
+
+        // 2. Dashboard variants, all served from the snapshot; rebuilt if none was published today
+        int dashboardVariantsExpected = 0;
+        int dashboardVariantsWarmed = 0;
+        Optional<DashboardSnapshot> snapshot = Optional.empty();
+        try {
+            snapshot = Optional.of(dashboardSnapshotService.getSnapshot(today)
+                    .orElseGet(dashboardSnapshotService::rebuildSnapshot));
+        } catch (RuntimeException e) {
+            failures++;
+            logger.warn("Could not warm dashboard snapshot: {}", e.getMessage());
+        }
+        for (TimePeriod period : TimePeriod.values()) {
+            for (StatCategory category : StatCategory.values()) {
+                for (Integer threshold : category.getValidThresholds()) {
+                    dashboardVariantsExpected++;
+                    if (snapshot.isPresent() && snapshot.get().lookup(period, category, threshold).isPresent()) {
+                        dashboardVariantsWarmed++;
+                    }
+                }
+            }
+        }
+
+        // 3. Player detail stats, paced so the run does not crowd out user requests
+        List<Players> players = teams.isEmpty()
+                ? List.of()
+                : playersRepository.findByTeamIdInAndStatus(teams.keySet(), PlayerStatus.ACTIVE);
+        int playerDetailsExpected = players.size() * TimePeriod.values().length * StatCategory.values().length;
+        int playerDetailsWarmed = 0;
+        long next = System.nanoTime();
+        details:
+        for (Players player : players) {
+            for (TimePeriod period : TimePeriod.values()) {
+                for (StatCategory category : StatCategory.values()) {
+                    if (!pace(next)) {
+                        logger.warn("Cache warm-up interrupted");
+                        break details;
+                    }
+                    next = Math.max(next, System.nanoTime()) + intervalNanos;
+                    try {
+                        playerPerformanceService.getPlayerDetailStats(
+                                player.getId(), period, category, category.getDefaultThreshold());
+                        playerDetailsWarmed++;
+                    } catch (RuntimeException e) {
+                        failures++;
+                        logger.debug("Could not warm detail stats for player {}: {}", player.getId(), e.getMessage());
+                    }
+                }
+            }
+        }
+
+        long elapsed = System.nanoTime() - start;
+        durationTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        WarmupReport report = new WarmupReport(today,
+                dashboardVariantsWarmed, dashboardVariantsExpected,
+                playerDetailsWarmed, playerDetailsExpected,
+                teamContextsWarmed, teams.size(),
+                failures, Duration.ofNanos(elapsed).toMillis(), Instant.now());
+        lastReport.set(report);
+
+        logger.info("Warmed caches for {} in {} ms: {}/{} dashboard variants, {}/{} player details, "
+                        + "{}/{} team contexts, {} failures",
+                today, report.durationMillis(),
+                dashboardVariantsWarmed, dashboardVariantsExpected,
+                playerDetailsWarmed, playerDetailsExpected,
+                teamContextsWarmed, teams.size(), failures);
+        return report;
+    }
+
+    @Override
+    public Optional<WarmupReport> getLastReport() {
+        return Optional.ofNullable(lastReport.get());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdownNow();
+    }
+
+    /**
+     * Waits until the given {@link System#nanoTime()}; returns false if interrupted.
+     */
+    private static boolean pace(long until) {
+        long wait = until - System.nanoTime();
+        if (wait <= 0) {
+            return true;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(wait);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void registerCoverage(MeterRegistry meterRegistry, String stage, ToDoubleFunction<WarmupReport> coverage) {
+        Gauge.builder("courtvision.warmup.coverage", lastReport,
+                        reference -> reference.get() == null ? Double.NaN : coverage.applyAsDouble(reference.get()))
+                .tag("stage", stage)
+                .register(meterRegistry);
+    }
+}
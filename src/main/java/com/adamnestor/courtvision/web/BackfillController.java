@@ -0,0 +1,83 @@
+package com.adamnestor.courtvision.web;
+
+import com.adamnestor.courtvision.backfill.model.BackfillProgress;
+import com.adamnestor.courtvision.backfill.service.BackfillJobService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/backfill")
+public class BackfillController {
+    private static final Logger logger = LoggerFactory.getLogger(BackfillController.class);
+
+    private final BackfillJobService backfillJobService;
+
+    public BackfillController(BackfillJobService backfillJobService) {
+        this.backfillJobService = backfillJobService;
+    }
+
+    @PostMapping("/month/{year}/{month}")
+    public ResponseEntity<BackfillProgress> startMonth(
+            @PathVariable Integer year,
+            @PathVariable Integer month) {
+        logger.info("Starting backfill for {}/{}", year, month);
+        return accepted(backfillJobService.startMonth(year, month));
+    }
+
+    @PostMapping("/season/{season}")
+    public ResponseEntity<BackfillProgress> startSeason(@PathVariable Integer season) {
+        logger.info("Starting backfill for season {}", season);
+        return accepted(backfillJobService.startSeason(season));
+    }
+
+    @PostMapping("/{jobId}/resume")
+    public ResponseEntity<BackfillProgress> resume(@PathVariable Long jobId) {
+        if (backfillJobService.getProgress(jobId).isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        try {
+            return accepted(backfillJobService.resume(jobId));
+        } catch (IllegalStateException e) {
+            logger.warn("Cannot resume backfill job {}: {}", jobId, e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    @PostMapping("/{jobId}/cancel")
+    public ResponseEntity<BackfillProgress> cancel(@PathVariable Long jobId) {
+        if (backfillJobService.getProgress(jobId).isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        try {
+            return ResponseEntity.ok(backfillJobService.cancel(jobId));
+        } catch (IllegalStateException e) {
+            logger.warn("Cannot cancel backfill job {}: {}", jobId, e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<BackfillProgress> getProgress(@PathVariable Long jobId) {
+        return ResponseEntity.of(backfillJobService.getProgress(jobId));
+    }
+
+    @GetMapping
+    public ResponseEntity<List<BackfillProgress>> getRecentJobs() {
+        return ResponseEntity.ok(backfillJobService.getRecentJobs());
+    }
+
+    /**
+     * 202 with a Location header pointing at the job's progress endpoint
+     */
+    static ResponseEntity<BackfillProgress> accepted(BackfillProgress progress) {
+        return ResponseEntity.accepted()
+            .location(URI.create("/api/admin/backfill/" + progress.jobId()))
+            .body(progress);
+    }
+}
@@ -10,8 +10,10 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -20,9 +22,11 @@ import java.util.List;
 @Tag(name = "Dashboard", description = "NBA Statistics Dashboard APIs")
 public class DashboardController {
     private final DashboardService dashboardService;
+    private final ResponseVersioning responseVersioning;
 
-    public DashboardController(DashboardService dashboardService) {
+    public DashboardController(DashboardService dashboardService, ResponseVersioning responseVersioning) {
         this.dashboardService = dashboardService;
+        this.responseVersioning = responseVersioning;
     }
 
     @Operation(summary = "Get dashboard statistics")
@@ -34,16 +38,27 @@ public class DashboardController {
                     schema = @Schema(implementation = ServiceResponse.class)
             )
     )
+    @ApiResponse(responseCode = "304", description = "Dashboard unchanged since the version in If-None-Match")
     @GetMapping("/stats")
     public ResponseEntity<ServiceResponse<List<DashboardStatsResponse>>> getDashboardStats(
         @RequestParam(required = false) String timeFrame,
         @RequestParam(defaultValue = "POINTS") String categoryStr,
         @RequestParam(required = false) Integer threshold,
         @RequestParam(required = false) String sortBy,
-        @RequestParam(required = false) String sortDir
+        @RequestParam(required = false) String sortDir,
+        WebRequest webRequest
     ) {
         StatCategory category = StatCategory.valueOf(categoryStr.toUpperCase());
 
+        // Answer polls for an unchanged dashboard before building anything
+        String etag = responseVersioning.etag(responseVersioning.version(), "dashboard", timeFrame, category.name(), threshold, sortBy, sortDir);
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .cacheControl(responseVersioning.cacheControl())
+                .build();
+        }
+
         DashboardResponse response = dashboardService.getDashboardStats(
             timeFrame,
             category,
@@ -52,6 +67,9 @@ public class DashboardController {
             sortDir
         );
 
-        return ResponseEntity.ok(ServiceResponse.success(response.stats(), response.metadata()));
+        return ResponseEntity.ok()
+            .eTag(etag)
+            .cacheControl(responseVersioning.cacheControl())
+            .body(ServiceResponse.success(response.stats(), response.metadata()));
     }
 }
\ No newline at end of file
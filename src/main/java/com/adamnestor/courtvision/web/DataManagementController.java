@@ -1,6 +1,8 @@
 package com.adamnestor.courtvision.web;
 
-import com.adamnestor.courtvision.service.impl.DataRefreshServiceImpl;
+import com.adamnestor.courtvision.backfill.model.BackfillProgress;
+import com.adamnestor.courtvision.backfill.service.BackfillJobService;
+import com.adamnestor.courtvision.service.hitrate.HitRateMaintainer;
 import com.adamnestor.courtvision.service.util.DateUtils;
 import com.adamnestor.courtvision.domain.Games;
 import org.slf4j.Logger;
@@ -15,17 +17,20 @@ import com.adamnestor.courtvision.repository.GamesRepository;
 @RequestMapping("/api/admin/data")
 public class DataManagementController {
 
-    private final DataRefreshServiceImpl dataRefreshService;
+    private final BackfillJobService backfillJobService;
+    private final HitRateMaintainer hitRateMaintainer;
     private final GamesRepository gamesRepository;
     private final DateUtils dateUtils;
     private static final Logger logger = LoggerFactory.getLogger(DataManagementController.class);
 
     @Autowired
     public DataManagementController(
-            DataRefreshServiceImpl dataRefreshService, 
+            BackfillJobService backfillJobService,
+            HitRateMaintainer hitRateMaintainer,
             GamesRepository gamesRepository,
             DateUtils dateUtils) {
-        this.dataRefreshService = dataRefreshService;
+        this.backfillJobService = backfillJobService;
+        this.hitRateMaintainer = hitRateMaintainer;
         this.gamesRepository = gamesRepository;
         this.dateUtils = dateUtils;
     }
@@ -49,12 +54,24 @@ public class DataManagementController {
         return ResponseEntity.ok(games);
     }
 
+    /**
+     * Starts the import as a backfill job and returns its handle immediately; poll, cancel
+     * or list it under /api/admin/backfill.
+     */
     @PostMapping("/import/{year}/{month}")
-    public ResponseEntity<String> importHistoricalDataByYearMonth(
+    public ResponseEntity<BackfillProgress> importHistoricalDataByYearMonth(
             @PathVariable Integer year,
             @PathVariable Integer month) {
-        dataRefreshService.importHistoricalDataByYearMonth(year, month);
-        return ResponseEntity.ok(
-                String.format("Historical data import completed for %d/%d", year, month));
+        logger.info("Queueing historical data import for {}/{}", year, month);
+        return BackfillController.accepted(backfillJobService.startMonth(year, month));
     }
-} 
\ No newline at end of file
+
+    /**
+     * Recomputes stored hit rates for all active players; stat ingestion keeps them current after that.
+     */
+    @PostMapping("/hit-rates/rebuild")
+    public ResponseEntity<String> rebuildHitRates() {
+        int players = hitRateMaintainer.rebuildActivePlayers();
+        return ResponseEntity.ok(String.format("Hit rates rebuilt for %d players", players));
+    }
+}
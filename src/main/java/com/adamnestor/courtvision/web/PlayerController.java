@@ -18,6 +18,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/players")
@@ -30,10 +31,15 @@ public class PlayerController {
     private static final Logger logger = LoggerFactory.getLogger(PlayerController.class);
     private final PlayerPerformanceService statsService;
     private final PlayerResponseMapper playerResponseMapper;
+    private final ResponseVersioning responseVersioning;
 
-    public PlayerController(PlayerPerformanceService statsService, PlayerResponseMapper playerResponseMapper) {
+    public PlayerController(
+            PlayerPerformanceService statsService,
+            PlayerResponseMapper playerResponseMapper,
+            ResponseVersioning responseVersioning) {
         this.statsService = statsService;
         this.playerResponseMapper = playerResponseMapper;
+        this.responseVersioning = responseVersioning;
     }
 
     @Operation(
@@ -66,6 +72,10 @@ public class PlayerController {
                     )
             )
     )
+    @ApiResponse(
+            responseCode = "304",
+            description = "Player statistics unchanged since the version in If-None-Match"
+    )
     @ApiResponse(
             responseCode = "400",
             description = "Invalid parameters provided",
@@ -123,7 +133,9 @@ public class PlayerController {
                     example = "20",
                     schema = @Schema(type = "integer", minimum = "1", maximum = "100")
             )
-            @RequestParam(required = false) Integer threshold) {
+            @RequestParam(required = false) Integer threshold,
+
+            WebRequest webRequest) {
 
         logger.info("Fetching player stats - id: {}, period: {}, category: {}, threshold: {}",
                 playerId, timePeriod, category, threshold);
@@ -136,11 +148,23 @@ public class PlayerController {
             };
         }
 
+        // Answer polls for unchanged stats before computing anything
+        String etag = responseVersioning.etag(responseVersioning.version(), "player", playerId, timePeriod.name(), category.name(), threshold);
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(responseVersioning.cacheControl())
+                    .build();
+        }
+
         try {
             PlayerDetailStats stats = statsService.getPlayerDetailStats(
                     playerId, timePeriod, category, threshold);
             PlayerStatsResponse response = playerResponseMapper.toPlayerStatsResponse(stats);
-            return ResponseEntity.ok(ServiceResponse.success(response));
+            return ResponseEntity.ok()
+                    .eTag(etag)
+                    .cacheControl(responseVersioning.cacheControl())
+                    .body(ServiceResponse.success(response));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
                     .body(ServiceResponse.error(e.getMessage()));
@@ -0,0 +1,59 @@
+package com.adamnestor.courtvision.web;
+
+import com.adamnestor.courtvision.service.util.DateUtils;
+import com.adamnestor.courtvision.service.version.DataGeneration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Versions read responses for conditional GETs. A strong ETag combines the current
+ * {@link DataGeneration}, today's Eastern date (the endpoints are built around today's games)
+ * and a hash of the request parameters, so it changes whenever the body could.
+ * The version is read before the body is computed: the generation only moves once the caches
+ * behind the body have been invalidated, so a body computed afterwards is at least as new as its
+ * ETag, and one computed across a write is simply sent again on the next poll.
+ * <p>
+ * Responses are sent with {@code Cache-Control: no-cache} by default, making clients revalidate
+ * every poll; {@code http.cache.max-age-seconds} lets them reuse a body for that long first.
+ */
+@Component
+public class ResponseVersioning {
+    private final DataGeneration dataGeneration;
+    private final DateUtils dateUtils;
+    private final CacheControl cacheControl;
+
+    public ResponseVersioning(
+            DataGeneration dataGeneration,
+            DateUtils dateUtils,
+            @Value("${http.cache.max-age-seconds:0}") long maxAgeSeconds) {
+        this.dataGeneration = dataGeneration;
+        this.dateUtils = dateUtils;
+        this.cacheControl = maxAgeSeconds > 0
+                ? CacheControl.maxAge(maxAgeSeconds, TimeUnit.SECONDS).mustRevalidate()
+                : CacheControl.noCache();
+    }
+
+    /**
+     * Returns the current data version, to be read before the response body is computed.
+     */
+    public long version() {
+        return dataGeneration.current();
+    }
+
+    /**
+     * Returns the quoted ETag for a response computed at the given version to the given request parameters.
+     */
+    public String etag(long version, Object... requestParams) {
+        return "\"" + version
+                + "-" + dateUtils.getCurrentEasternDate()
+                + "-" + Integer.toHexString(Arrays.hashCode(requestParams)) + "\"";
+    }
+
+    public CacheControl cacheControl() {
+        return cacheControl;
+    }
+}
@@ -0,0 +1,94 @@
+package com.adamnestor.courtvision.web;
+
+import com.adamnestor.courtvision.util.SqlStatementCounter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/**
+ * Counts the SQL statements each API request runs and checks them against a per-endpoint budget
+ * ({@code sql.budget.dashboard}, {@code sql.budget.player-stats}, {@code sql.budget.default}).
+ * Counts are published as the {@code courtvision.sql.statements} summary and overruns as
+ * {@code courtvision.sql.budget.exceeded}, both tagged by endpoint, and logged. The check runs once
+ * the response has been written, so it only observes; the endpoint tests enforce the budgets.
+ */
+@Component
+public class SqlBudgetFilter extends OncePerRequestFilter {
+    private static final Logger logger = LoggerFactory.getLogger(SqlBudgetFilter.class);
+    private static final Pattern PLAYER_STATS = Pattern.compile("/api/players/[^/]+/stats");
+
+    private final MeterRegistry meterRegistry;
+    private final int dashboardBudget;
+    private final int playerStatsBudget;
+    private final int defaultBudget;
+
+    public SqlBudgetFilter(
+            MeterRegistry meterRegistry,
+            @Value("${sql.budget.dashboard:20}") int dashboardBudget,
+            @Value("${sql.budget.player-stats:10}") int playerStatsBudget,
+            @Value("${sql.budget.default:50}") int defaultBudget) {
+        this.meterRegistry = meterRegistry;
+        this.dashboardBudget = dashboardBudget;
+        this.playerStatsBudget = playerStatsBudget;
+        this.defaultBudget = defaultBudget;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        AtomicInteger statements = SqlStatementCounter.start();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            SqlStatementCounter.stop();
+        }
+
+        String endpoint = endpoint(request.getRequestURI());
+        int budget = switch (endpoint) {
+            case "dashboard" -> dashboardBudget;
+            case "player-stats" -> playerStatsBudget;
+            default -> defaultBudget;
+        };
+        DistributionSummary.builder("courtvision.sql.statements")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry)
+                .record(statements.get());
+
+        if (statements.get() > budget) {
+            Counter.builder("courtvision.sql.budget.exceeded")
+                    .tag("endpoint", endpoint)
+                    .register(meterRegistry)
+                    .increment();
+            logger.warn("{} {} ran {} SQL statements, budget is {}",
+                    request.getMethod(), request.getRequestURI(), statements.get(), budget);
+        }
+    }
+
+    private static String endpoint(String uri) {
+        if (uri.equals("/api/dashboard/stats")) {
+            return "dashboard";
+        }
+        if (PLAYER_STATS.matcher(uri).matches()) {
+            return "player-stats";
+        }
+        return "other";
+    }
+}
@@ -0,0 +1,137 @@
+-- Schema as generated from the JPA entities before migrations were introduced.
+-- Existing databases are baselined at this version and skip it (see FlywayConfig).
+
+CREATE TABLE teams (
+    id            BIGINT       NOT NULL AUTO_INCREMENT,
+    external_id   BIGINT       NOT NULL,
+    name          VARCHAR(255) NOT NULL,
+    abbreviation  VARCHAR(3)   NOT NULL,
+    city          VARCHAR(255) NOT NULL,
+    conference    VARCHAR(32)  NOT NULL,
+    division      VARCHAR(255) NOT NULL,
+    created_at    DATE,
+    updated_at    DATE,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_teams_external_id UNIQUE (external_id),
+    CONSTRAINT uk_teams_abbreviation UNIQUE (abbreviation)
+);
+
+CREATE TABLE players (
+    id             BIGINT       NOT NULL AUTO_INCREMENT,
+    external_id    BIGINT       NOT NULL,
+    first_name     VARCHAR(255) NOT NULL,
+    last_name      VARCHAR(255) NOT NULL,
+    team_id        BIGINT,
+    position       VARCHAR(255),
+    jersey_number  VARCHAR(255),
+    status         VARCHAR(32),
+    created_at     DATE         NOT NULL,
+    updated_at     DATE,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_players_external_id UNIQUE (external_id),
+    CONSTRAINT fk_players_team FOREIGN KEY (team_id) REFERENCES teams (id)
+);
+
+CREATE TABLE games (
+    id               BIGINT       NOT NULL AUTO_INCREMENT,
+    external_id      BIGINT,
+    home_team_id     BIGINT       NOT NULL,
+    away_team_id     BIGINT       NOT NULL,
+    game_date        DATE,
+    game_time        VARCHAR(255),
+    season           INT          NOT NULL,
+    status           VARCHAR(255),
+    period           INT,
+    home_team_score  INT,
+    away_team_score  INT,
+    created_at       DATE,
+    updated_at       DATE,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_games_external_id UNIQUE (external_id),
+    CONSTRAINT fk_games_home_team FOREIGN KEY (home_team_id) REFERENCES teams (id),
+    CONSTRAINT fk_games_away_team FOREIGN KEY (away_team_id) REFERENCES teams (id)
+);
+
+CREATE TABLE game_stats (
+    id                        BIGINT       NOT NULL AUTO_INCREMENT,
+    external_id               BIGINT,
+    player_id                 BIGINT       NOT NULL,
+    game_id                   BIGINT       NOT NULL,
+    minutes_played            VARCHAR(255),
+    points                    INT,
+    assists                   INT,
+    rebounds                  INT,
+    steals                    INT,
+    blocks                    INT,
+    turnovers                 INT,
+    field_goals_made          INT,
+    field_goals_attempted     INT,
+    three_pointers_made       INT,
+    three_pointers_attempted  INT,
+    free_throws_made          INT,
+    free_throws_attempted     INT,
+    created_at                DATE,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_game_stats_player FOREIGN KEY (player_id) REFERENCES players (id),
+    CONSTRAINT fk_game_stats_game FOREIGN KEY (game_id) REFERENCES games (id)
+);
+
+CREATE TABLE advanced_game_stats (
+    id                            BIGINT        NOT NULL AUTO_INCREMENT,
+    player_id                     BIGINT        NOT NULL,
+    game_id                       BIGINT        NOT NULL,
+    pie                           DECIMAL(6, 3),
+    pace                          DOUBLE,
+    assist_percentage             DECIMAL(5, 2),
+    assist_ratio                  DECIMAL(5, 2),
+    assist_to_turnover            DECIMAL(4, 2),
+    defensive_rating              DECIMAL(5, 2),
+    defensive_rebound_percentage  DECIMAL(5, 2),
+    effective_fg_percentage       DECIMAL(5, 2),
+    net_rating                    DECIMAL(5, 2),
+    offensive_rating              DECIMAL(5, 2),
+    offensive_rebound_percentage  DECIMAL(5, 2),
+    rebound_percentage            DECIMAL(5, 2),
+    true_shooting_percentage      DECIMAL(5, 2),
+    turnover_ratio                DECIMAL(5, 2),
+    usage_percentage              DECIMAL(5, 2),
+    created_at                    DATE,
+    days_of_rest                  INT,
+    rest_impact_score             DECIMAL(5, 2),
+    blowout_risk                  DECIMAL(5, 2),
+    performance_retention         DECIMAL(5, 2),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_advanced_game_stats_player FOREIGN KEY (player_id) REFERENCES players (id),
+    CONSTRAINT fk_advanced_game_stats_game FOREIGN KEY (game_id) REFERENCES games (id)
+);
+
+CREATE TABLE hit_rates (
+    id               BIGINT         NOT NULL AUTO_INCREMENT,
+    player_id        BIGINT         NOT NULL,
+    category         VARCHAR(32)    NOT NULL,
+    threshold        INT            NOT NULL,
+    time_period      VARCHAR(32)    NOT NULL,
+    hit_rate         DECIMAL(38, 2) NOT NULL,
+    average          DECIMAL(38, 2) NOT NULL,
+    games_counted    INT            NOT NULL,
+    last_calculated  DATE           NOT NULL,
+    created_at       DATE,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_hit_rates_player FOREIGN KEY (player_id) REFERENCES players (id)
+);
+
+CREATE TABLE users (
+    id               BIGINT       NOT NULL AUTO_INCREMENT,
+    email            VARCHAR(255) NOT NULL,
+    password_hash    VARCHAR(255) NOT NULL,
+    role             VARCHAR(32),
+    status           VARCHAR(32),
+    last_login       DATE,
+    last_login_time  VARCHAR(255),
+    created_at       DATE,
+    updated_at       DATE,
+    first_name       VARCHAR(255),
+    last_name        VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
@@ -0,0 +1,30 @@
+-- Resumable backfill jobs: one job record per admin import and one checkpoint row per day.
+
+CREATE TABLE backfill_jobs (
+    id           BIGINT       NOT NULL AUTO_INCREMENT,
+    description  VARCHAR(255) NOT NULL,
+    start_date   DATE         NOT NULL,
+    end_date     DATE         NOT NULL,
+    status       VARCHAR(32)  NOT NULL,
+    created_at   DATETIME(6),
+    started_at   DATETIME(6),
+    finished_at  DATETIME(6),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE backfill_units (
+    id               BIGINT        NOT NULL AUTO_INCREMENT,
+    job_id           BIGINT        NOT NULL,
+    game_date        DATE          NOT NULL,
+    status           VARCHAR(32)   NOT NULL,
+    attempts         INT           NOT NULL,
+    games_processed  INT           NOT NULL,
+    rows_written     INT           NOT NULL,
+    duration_ms      BIGINT,
+    last_error       VARCHAR(1000),
+    completed_at     DATETIME(6),
+    PRIMARY KEY (id)
+);
+
+-- Pending and failed units of a job (resume, progress)
+CREATE INDEX idx_backfill_units_job_status ON backfill_units (job_id, status);
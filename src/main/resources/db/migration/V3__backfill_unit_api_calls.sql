@@ -0,0 +1,4 @@
+-- API calls spent per backfill unit, reported with job progress. Units recorded before this
+-- version report zero.
+
+ALTER TABLE backfill_units ADD COLUMN api_calls BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,17 @@
+-- hit_rates is maintained incrementally with one row per player line, so the line becomes a unique
+-- key and the stored values keep the precision the dashboard ranks on.
+--
+-- The table only holds derived data and older versions could leave duplicate lines, so it is
+-- cleared rather than deduplicated. Lookups compute missing lines on the fly until the table is
+-- refilled by ingestion or POST /api/admin/data/hit-rates/rebuild.
+
+DELETE FROM hit_rates;
+
+ALTER TABLE hit_rates MODIFY hit_rate DECIMAL(4, 1) NOT NULL;
+ALTER TABLE hit_rates MODIFY average DECIMAL(9, 4) NOT NULL;
+
+ALTER TABLE hit_rates
+    ADD CONSTRAINT uk_hit_rates_player_line UNIQUE (player_id, category, threshold, time_period);
+
+-- Top lines for a period, category and threshold ordered by hit rate (dashboard ranking)
+CREATE INDEX idx_hit_rates_line_rate ON hit_rates (time_period, category, threshold, hit_rate);
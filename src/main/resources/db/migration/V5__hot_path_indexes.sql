@@ -0,0 +1,29 @@
+-- Indexes for the hot read paths, plus game_date copied onto the per-game stat tables so
+-- recent-game lookups for a player can be answered from one index without joining games.
+
+ALTER TABLE game_stats ADD COLUMN game_date DATE;
+UPDATE game_stats SET game_date = (SELECT g.game_date FROM games g WHERE g.id = game_stats.game_id);
+
+ALTER TABLE advanced_game_stats ADD COLUMN game_date DATE;
+UPDATE advanced_game_stats SET game_date = (SELECT g.game_date FROM games g WHERE g.id = advanced_game_stats.game_id);
+
+-- Recent games, previous game and date ranges per player (findPlayerRecentGames,
+-- findByPlayerOrderByGameDateDesc, findPreviousGame, findRecentGameStatIds); InnoDB appends the
+-- primary key, so the ID lookup for batched game logs is index-only
+CREATE INDEX idx_game_stats_player_date ON game_stats (player_id, game_date);
+CREATE INDEX idx_advanced_game_stats_player_date ON advanced_game_stats (player_id, game_date);
+
+-- Existing-row lookups of the bulk upserts and per-game stat lists
+CREATE INDEX idx_game_stats_game_player ON game_stats (game_id, player_id);
+CREATE INDEX idx_advanced_game_stats_game_player ON advanced_game_stats (game_id, player_id);
+
+-- Team games since a date (findAverageTeamDefensiveRating and the other team averages): the
+-- home/away OR is answered by merging both indexes
+CREATE INDEX idx_games_home_team_date ON games (home_team_id, game_date);
+CREATE INDEX idx_games_away_team_date ON games (away_team_id, game_date);
+
+-- Today's slate (findByGameDateAndStatus) and rolling rating windows (findGameRatingTotalsSince)
+CREATE INDEX idx_games_date_status ON games (game_date, status);
+
+-- Active roster of the teams playing (findByTeamIdInAndStatus)
+CREATE INDEX idx_players_team_status ON players (team_id, status);
@@ -0,0 +1,8 @@
+-- Per-player, per-game features computed when advanced stats are ingested (see GameFeatureStage).
+-- days_of_rest and rest_impact_score already exist; rows stored before this version keep NULL
+-- features until their day is ingested again.
+
+ALTER TABLE advanced_game_stats ADD COLUMN back_to_back BOOLEAN;
+ALTER TABLE advanced_game_stats ADD COLUMN home_game BOOLEAN;
+ALTER TABLE advanced_game_stats ADD COLUMN point_margin INT;
+ALTER TABLE advanced_game_stats ADD COLUMN blowout BOOLEAN;
@@ -0,0 +1,59 @@
+package com.adamnestor.courtvision.backfill.service.impl;
+
+import com.adamnestor.courtvision.backfill.model.BackfillProgress;
+import com.adamnestor.courtvision.backfill.service.BackfillJobService;
+import com.adamnestor.courtvision.domain.BackfillStatus;
+import com.adamnestor.courtvision.service.BallDontLieService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(properties =
+        "spring.datasource.url=jdbc:h2:mem:backfill;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=VALUE,YEAR,MONTH")
+class BackfillJobServiceImplTest {
+
+    @MockBean
+    private BallDontLieService ballDontLieService;
+
+    @Autowired
+    private BackfillJobService backfillJobService;
+
+    @Test
+    void callsTheApiOutsideTheUnitTransaction() throws InterruptedException {
+        Set<LocalDate> fetchedInTransaction = ConcurrentHashMap.newKeySet();
+        Set<LocalDate> fetched = ConcurrentHashMap.newKeySet();
+        when(ballDontLieService.getGames(any(LocalDate.class))).thenAnswer(invocation -> {
+            LocalDate date = invocation.getArgument(0);
+            fetched.add(date);
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                fetchedInTransaction.add(date);
+            }
+            return List.of();
+        });
+
+        BackfillProgress progress = backfillJobService.startMonth(2024, 2);
+        for (int i = 0; i < 100 && !isFinished(progress); i++) {
+            Thread.sleep(100);
+            progress = backfillJobService.getProgress(progress.jobId()).orElseThrow();
+        }
+
+        assertThat(progress.status()).isEqualTo(BackfillStatus.COMPLETED);
+        assertThat(fetched).hasSize(29);
+        assertThat(fetchedInTransaction).isEmpty();
+    }
+
+    private static boolean isFinished(BackfillProgress progress) {
+        return progress.status() != BackfillStatus.PENDING && progress.status() != BackfillStatus.RUNNING;
+    }
+}
@@ -0,0 +1,163 @@
+package com.adamnestor.courtvision.confidence.service.impl;
+
+import com.adamnestor.courtvision.confidence.cache.ConfidenceComponentCache;
+import com.adamnestor.courtvision.confidence.model.ConfidenceContext;
+import com.adamnestor.courtvision.confidence.model.GameContext;
+import com.adamnestor.courtvision.confidence.service.GameContextService;
+import com.adamnestor.courtvision.domain.Games;
+import com.adamnestor.courtvision.domain.Players;
+import com.adamnestor.courtvision.domain.StatCategory;
+import com.adamnestor.courtvision.domain.Teams;
+import com.adamnestor.courtvision.repository.GameStatsRepository;
+import com.adamnestor.courtvision.service.gamelog.GameStatLine;
+import com.adamnestor.courtvision.service.gamelog.PlayerGameLogStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * The primitive {@code calculateConfidence} has to return exactly the integer part of the BigDecimal
+ * score, {@code calculateConfidenceScore(...).intValue()}, including where the double arithmetic
+ * lands on or next to a rounding boundary and falls back to BigDecimal.
+ */
+class ConfidenceScoreServiceImplTest {
+    private static final LocalDate LAST_GAME = LocalDate.of(2024, 3, 1);
+    private static final int[] GAME_COUNTS = {5, 10, 15, 20, Integer.MAX_VALUE};
+
+    private final Random random = new Random(6);
+    private GameStatsRepository gameStatsRepository;
+    private PlayerGameLogStore playerGameLogStore;
+    private StubGameContextService gameContextService;
+    private ConfidenceScoreServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        gameStatsRepository = mock(GameStatsRepository.class);
+        playerGameLogStore = new PlayerGameLogStore(gameStatsRepository);
+        gameContextService = new StubGameContextService();
+        service = new ConfidenceScoreServiceImpl(playerGameLogStore, gameContextService,
+                new ConfidenceComponentCache(new SimpleMeterRegistry(), 100_000, 60));
+    }
+
+    @Test
+    void matchesBigDecimalScoreAcrossThresholdsAndPeriods() {
+        int checked = 0;
+        for (long playerId = 1; playerId <= 40; playerId++) {
+            ConfidenceContext context = context(playerId, randomLog(playerId, random.nextInt(30)));
+            for (int restDays = 1; restDays <= 4; restDays++) {
+                Games game = game(restDays);
+                for (StatCategory category : StatCategory.values()) {
+                    for (Integer threshold : category.getValidThresholds()) {
+                        for (int gamesCount : GAME_COUNTS) {
+                            long hitRateTenths = random.nextInt(1001);
+                            gameContextService.thousandths = random.nextInt(100_001);
+                            assertParity(context, game, category, threshold, hitRateTenths, gamesCount);
+                            checked++;
+                        }
+                    }
+                }
+            }
+        }
+        assertThat(checked).isEqualTo(40 * 4 * 12 * GAME_COUNTS.length);
+    }
+
+    @Test
+    void matchesBigDecimalScoreAtRoundingBoundaries() {
+        // Stepping the matchup score by 0.001 (0.00025 weighted) crosses every x.995 boundary of the
+        // combined score, with the rest multipliers of a back-to-back, normal and extended rest
+        ConfidenceContext flat = context(1L, constantLog(1L, 12, 10));
+        ConfidenceContext strong = context(2L, randomLog(2L, 20));
+        for (ConfidenceContext context : List.of(flat, strong)) {
+            for (int restDays = 1; restDays <= 3; restDays++) {
+                Games game = game(restDays);
+                for (long hitRateTenths : new long[]{0, 333, 500, 667, 1000}) {
+                    for (long thousandths = 0; thousandths <= 100_000; thousandths += 1) {
+                        gameContextService.thousandths = thousandths;
+                        assertParity(context, game, StatCategory.POINTS, 10, hitRateTenths, 10);
+                    }
+                }
+            }
+        }
+    }
+
+    private void assertParity(ConfidenceContext context, Games game, StatCategory category, Integer threshold,
+                              long hitRateTenths, int gamesCount) {
+        int expected = service.calculateConfidenceScore(context, game, category, threshold,
+                BigDecimal.valueOf(hitRateTenths, 1), gamesCount).intValue();
+        int actual = service.calculateConfidence(context, game, category, threshold, hitRateTenths, gamesCount);
+        if (actual != expected) {
+            throw new AssertionError(String.format("player %d, %s %d, hit rate %s, %d games, matchup %d: expected %d but was %d",
+                    context.getPlayer().getId(), category, threshold, BigDecimal.valueOf(hitRateTenths, 1),
+                    gamesCount, gameContextService.thousandths, expected, actual));
+        }
+    }
+
+    private ConfidenceContext context(long playerId, List<GameStatLine> lines) {
+        Teams team = new Teams();
+        team.setId(1L);
+        Players player = new Players();
+        player.setId(playerId);
+        player.setTeam(team);
+        when(gameStatsRepository.findRecentLinesForPlayers(anyCollection(), anyInt())).thenReturn(lines);
+        return new ConfidenceContext(player, playerGameLogStore.getLog(player));
+    }
+
+    /**
+     * A game {@code restDays} days after the last logged one; its ID keeps rest factors apart.
+     */
+    private static Games game(int restDays) {
+        Games game = new Games();
+        game.setId(1_000L + restDays);
+        game.setGameDate(LAST_GAME.plusDays(restDays));
+        return game;
+    }
+
+    private List<GameStatLine> randomLog(long playerId, int size) {
+        List<GameStatLine> lines = new ArrayList<>();
+        LocalDate date = LAST_GAME;
+        for (int i = 0; i < size; i++) {
+            lines.add(line(playerId, i, date, random.nextInt(46), random.nextInt(16), random.nextInt(19)));
+            date = date.minusDays(1 + random.nextInt(3));
+        }
+        return lines;
+    }
+
+    private static List<GameStatLine> constantLog(long playerId, int size, int value) {
+        List<GameStatLine> lines = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            lines.add(line(playerId, i, LAST_GAME.minusDays(2L * i), value, value, value));
+        }
+        return lines;
+    }
+
+    private static GameStatLine line(long playerId, int index, LocalDate date, int points, int assists, int rebounds) {
+        return new GameStatLine(playerId, playerId * 100 + index, date, 1L, "AAA", 2L, "BBB",
+                points, assists, rebounds, 0, 0, 0);
+    }
+
+    private static final class StubGameContextService implements GameContextService {
+        private long thousandths;
+
+        @Override
+        public GameContext calculateGameContext(Players player, Games game, StatCategory category) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long calculateOverallScoreThousandths(Players player, Games game) {
+            return thousandths;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.adamnestor.courtvision.confidence.service.impl;
+
+import com.adamnestor.courtvision.confidence.model.GameRatingTotals;
+import com.adamnestor.courtvision.confidence.service.TeamContextCache;
+import com.adamnestor.courtvision.domain.Teams;
+import com.adamnestor.courtvision.event.AdvancedStatsIngestedEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class TeamContextCacheImplTest {
+
+    @Autowired
+    private TeamContextCache teamContextCache;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void appliesIngestedGameOnlyOnceItsTransactionCommits() {
+        Teams home = team(9_001L);
+        Teams away = team(9_002L);
+        assertThat(teamContextCache.getTeamContext(home).getGamesCount()).isZero();
+
+        AdvancedStatsIngestedEvent event = new AdvancedStatsIngestedEvent(Set.of(home.getId(), away.getId()),
+                List.of(new GameRatingTotals(9_100L, LocalDate.now().minusDays(1), home.getId(), away.getId(),
+                        new BigDecimal("220.0"), 2L, 198.0, 2L, new BigDecimal("4.0"), 2L)));
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        transaction.executeWithoutResult(status -> {
+            eventPublisher.publishEvent(event);
+            status.setRollbackOnly();
+        });
+        assertThat(teamContextCache.getTeamContext(home).getGamesCount()).isZero();
+
+        transaction.executeWithoutResult(status -> {
+            eventPublisher.publishEvent(event);
+            assertThat(teamContextCache.getTeamContext(home).getGamesCount()).isZero();
+        });
+        assertThat(teamContextCache.getTeamContext(home).getGamesCount()).isEqualTo(1);
+        assertThat(teamContextCache.getTeamContext(away).getDefensiveRating())
+                .hasValueSatisfying(rating -> assertThat(rating).isEqualByComparingTo("110"));
+    }
+
+    private static Teams team(Long id) {
+        Teams team = new Teams();
+        team.setId(id);
+        return team;
+    }
+}
@@ -0,0 +1,139 @@
+package com.adamnestor.courtvision.config;
+
+import com.adamnestor.courtvision.backfill.service.BackfillJobService;
+import com.adamnestor.courtvision.domain.Players;
+import com.adamnestor.courtvision.event.GameStatsIngestedEvent;
+import com.adamnestor.courtvision.service.gamelog.PlayerGameLogStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs the application against two local database instances: Flyway migrates the primary only,
+ * so anything routed to the empty replica fails and the current database name tells the routes apart.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:primary;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=VALUE,YEAR,MONTH",
+        "spring.datasource.hikari.maximum-pool-size=6",
+        "datasource.replica.url=jdbc:h2:mem:replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=VALUE,YEAR,MONTH",
+        "datasource.replica.hikari.maximum-pool-size=3"})
+class ReadWriteRoutingDataSourceTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private BackfillJobService backfillJobService;
+
+    @Autowired
+    private PlayerGameLogStore playerGameLogStore;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Test
+    void routesReadOnlyTransactionsToReplica() {
+        assertThat(inTransaction(true, this::currentDatabase)).isEqualTo("replica");
+        assertThat(inTransaction(false, this::currentDatabase)).isEqualTo("primary");
+        assertThat(currentDatabase()).isEqualTo("primary");
+
+        assertThatThrownBy(() -> inTransaction(true,
+                () -> new JdbcTemplate(dataSource).queryForObject("SELECT COUNT(*) FROM teams", Long.class)))
+                .hasMessageContaining("teams");
+    }
+
+    @Test
+    void pinnedWorkReadsFromPrimary() {
+        assertThat(inTransaction(true, () -> ReadWriteRoutingDataSource.onPrimary(this::currentDatabase)))
+                .isEqualTo("primary");
+        // Read-only repository reads of a @UsePrimaryDataSource service
+        assertThat(backfillJobService.getRecentJobs()).isEmpty();
+    }
+
+    @Test
+    void propagatesPinToOtherThreads() {
+        Function<Object, String> readOnlyRead = ignored -> inTransaction(true, this::currentDatabase);
+        Function<Object, String> pinnedTask =
+                ReadWriteRoutingDataSource.onPrimary(() -> ReadWriteRoutingDataSource.propagating(readOnlyRead));
+        Function<Object, String> unpinnedTask = ReadWriteRoutingDataSource.propagating(readOnlyRead);
+
+        assertThat(CompletableFuture.supplyAsync(() -> pinnedTask.apply(null)).join()).isEqualTo("primary");
+        assertThat(CompletableFuture.supplyAsync(() -> unpinnedTask.apply(null)).join()).isEqualTo("replica");
+
+        AtomicReference<String> route = new AtomicReference<>();
+        Runnable pinnedRunnable = ReadWriteRoutingDataSource.onPrimary(() -> ReadWriteRoutingDataSource.propagating(
+                () -> route.set(inTransaction(true, this::currentDatabase))));
+        CompletableFuture.runAsync(pinnedRunnable).join();
+        assertThat(route).hasValue("primary");
+    }
+
+    @Test
+    void cacheLoadsReadFromReplicaOutsideWriteWindow() {
+        Players player = new Players();
+        player.setId(1L);
+        ReadWriteRoutingDataSource.clearWriteWindow();
+
+        // Game logs load in a read-only transaction, which fails against the schema-less replica
+        assertThatThrownBy(() -> playerGameLogStore.getLog(player)).hasMessageContaining("game_stats");
+        assertThat(ReadWriteRoutingDataSource.onPrimaryAfterWrite(() -> inTransaction(true, this::currentDatabase)))
+                .isEqualTo("replica");
+    }
+
+    @Test
+    void cacheLoadsReadFromPrimaryAfterWrite() {
+        Players player = new Players();
+        player.setId(2L);
+        ReadWriteRoutingDataSource.clearWriteWindow();
+        eventPublisher.publishEvent(new GameStatsIngestedEvent(Set.of(2L)));
+
+        try {
+            assertThat(playerGameLogStore.getLog(player).size()).isZero();
+            assertThat(ReadWriteRoutingDataSource.onPrimaryAfterWrite(() -> inTransaction(true, this::currentDatabase)))
+                    .isEqualTo("primary");
+        } finally {
+            ReadWriteRoutingDataSource.clearWriteWindow();
+        }
+    }
+
+    @Test
+    void publishesPoolMetersPerRoute() {
+        inTransaction(true, this::currentDatabase);
+        inTransaction(false, this::currentDatabase);
+
+        assertThat(meterRegistry.get("hikaricp.connections.max").tag("pool", "replica").gauge().value())
+                .isEqualTo(3.0);
+        assertThat(meterRegistry.get("hikaricp.connections.max").tag("pool", "primary").gauge().value())
+                .isEqualTo(6.0);
+    }
+
+    private <T> T inTransaction(boolean readOnly, Supplier<T> work) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        return template.execute(status -> work.get());
+    }
+
+    private String currentDatabase() {
+        return new JdbcTemplate(dataSource).queryForObject("SELECT DATABASE()", String.class).toLowerCase();
+    }
+}
@@ -0,0 +1,74 @@
+package com.adamnestor.courtvision.repository;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the Flyway migrations on the in-memory MySQL-compatible stand-in, lets Hibernate validate
+ * the result against the entities, and checks with EXPLAIN that the hot read paths are answered
+ * from their indexes. The queries mirror the SQL the repository methods generate.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class HotQueryIndexTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    static Stream<Arguments> hotQueries() {
+        return Stream.of(
+                // findRecentGameStatIds (index-only)
+                Arguments.of("SELECT gs.id FROM game_stats gs " +
+                                "WHERE gs.player_id = 1 ORDER BY gs.game_date DESC LIMIT 10",
+                        "idx_game_stats_player_date"),
+                // findPreviousGame, findGamesByDateRange
+                Arguments.of("SELECT gs.id, gs.points FROM game_stats gs " +
+                                "WHERE gs.player_id = 1 AND gs.game_date < DATE '2024-01-15' " +
+                                "ORDER BY gs.game_date DESC LIMIT 1",
+                        "idx_game_stats_player_date"),
+                Arguments.of("SELECT ags.id FROM advanced_game_stats ags " +
+                                "WHERE ags.player_id = 1 AND ags.game_date >= DATE '2024-01-01'",
+                        "idx_advanced_game_stats_player_date"),
+                // Existing-row lookups of the bulk upserts
+                Arguments.of("SELECT gs.id FROM game_stats gs WHERE gs.game_id = 1 AND gs.player_id = 2",
+                        "idx_game_stats_game_player"),
+                Arguments.of("SELECT ags.id FROM advanced_game_stats ags WHERE ags.game_id = 1 AND ags.player_id = 2",
+                        "idx_advanced_game_stats_game_player"),
+                // findAverageTeamDefensiveRating: MySQL merges both indexes for the home/away OR, the
+                // stand-in has no index merge, so each side is checked on its own
+                Arguments.of("SELECT g.id FROM games g WHERE g.home_team_id = 1 AND g.game_date >= DATE '2024-01-01'",
+                        "idx_games_home_team_date"),
+                Arguments.of("SELECT g.id FROM games g WHERE g.away_team_id = 1 AND g.game_date >= DATE '2024-01-01'",
+                        "idx_games_away_team_date"),
+                // findByGameDateAndStatus
+                Arguments.of("SELECT g.id FROM games g WHERE g.game_date = DATE '2024-01-15' AND g.status = 'Final'",
+                        "idx_games_date_status"),
+                // findByTeamIdInAndStatus
+                Arguments.of("SELECT p.id FROM players p WHERE p.team_id IN (1, 2) AND p.status = 'ACTIVE'",
+                        "idx_players_team_status"),
+                // Dashboard ranking of stored hit rates
+                Arguments.of("SELECT h.id FROM hit_rates h " +
+                                "WHERE h.time_period = 'L10' AND h.category = 'POINTS' AND h.threshold = 20 " +
+                                "ORDER BY h.hit_rate DESC LIMIT 10",
+                        "idx_hit_rates_line_rate"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("hotQueries")
+    void hotQueryUsesIndex(String sql, String index) {
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+
+        assertThat(plan)
+                .contains("." + index + ":")
+                .doesNotContain("tableScan");
+    }
+}
@@ -0,0 +1,61 @@
+package com.adamnestor.courtvision.service;
+
+import com.adamnestor.courtvision.domain.StatCategory;
+import com.adamnestor.courtvision.dto.response.DashboardResponse;
+import com.adamnestor.courtvision.mapper.DashboardMapper;
+import com.adamnestor.courtvision.repository.GamesRepository;
+import com.adamnestor.courtvision.service.util.DateUtils;
+import com.adamnestor.courtvision.service.version.DataGeneration;
+import com.adamnestor.courtvision.snapshot.service.DashboardSnapshotService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DashboardServiceTest {
+
+    @Test
+    void doesNotJoinComputationStartedBeforeTheGenerationMoved() throws Exception {
+        PlayerPerformanceService playerPerformanceService = mock(PlayerPerformanceService.class);
+        DashboardSnapshotService snapshotService = mock(DashboardSnapshotService.class);
+        GamesRepository gamesRepository = mock(GamesRepository.class);
+        DataGeneration dataGeneration = new DataGeneration();
+        DashboardService service = new DashboardService(playerPerformanceService, mock(DashboardMapper.class),
+                gamesRepository, new DateUtils(), snapshotService, dataGeneration, new SimpleMeterRegistry());
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(snapshotService.getSnapshot(any()))
+                .thenAnswer(invocation -> {
+                    // The first computation is still reading the old data when the write lands
+                    started.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    return Optional.empty();
+                })
+                .thenReturn(Optional.empty());
+        when(playerPerformanceService.calculateDashboardStats(any(), any(), any(), any())).thenReturn(List.of());
+        when(gamesRepository.findByGameDateAndStatus(any(), any())).thenReturn(List.of());
+
+        CompletableFuture<DashboardResponse> before = CompletableFuture.supplyAsync(
+                () -> service.getDashboardStats("L10", StatCategory.POINTS, 20, null, null));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        dataGeneration.bump();
+
+        service.getDashboardStats("L10", StatCategory.POINTS, 20, null, null);
+        release.countDown();
+        before.get(5, TimeUnit.SECONDS);
+
+        verify(snapshotService, times(2)).getSnapshot(any());
+    }
+}
@@ -0,0 +1,112 @@
+package com.adamnestor.courtvision.service.feature;
+
+import com.adamnestor.courtvision.domain.AdvancedGameStats;
+import com.adamnestor.courtvision.domain.Conference;
+import com.adamnestor.courtvision.domain.GameStats;
+import com.adamnestor.courtvision.domain.Games;
+import com.adamnestor.courtvision.domain.PlayerStatus;
+import com.adamnestor.courtvision.domain.Players;
+import com.adamnestor.courtvision.domain.Teams;
+import com.adamnestor.courtvision.repository.AdvancedGameStatsRepository;
+import com.adamnestor.courtvision.repository.GameStatsRepository;
+import com.adamnestor.courtvision.repository.GamesRepository;
+import com.adamnestor.courtvision.repository.PlayersRepository;
+import com.adamnestor.courtvision.repository.TeamsRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class GameFeatureStageTest {
+    private static final LocalDate FIRST_DAY = LocalDate.of(2019, 1, 10);
+
+    @Autowired
+    private GameFeatureStage gameFeatureStage;
+
+    @Autowired
+    private TeamsRepository teamsRepository;
+
+    @Autowired
+    private PlayersRepository playersRepository;
+
+    @Autowired
+    private GamesRepository gamesRepository;
+
+    @Autowired
+    private GameStatsRepository gameStatsRepository;
+
+    @Autowired
+    private AdvancedGameStatsRepository advancedGameStatsRepository;
+
+    @Test
+    void recomputesRestOnceABackfilledRangeIsComplete() {
+        Teams home = teamsRepository.save(team(7_001L, "HOM"));
+        Teams away = teamsRepository.save(team(7_002L, "AWY"));
+        Players player = new Players();
+        player.setExternalId(7_100L);
+        player.setFirstName("First");
+        player.setLastName("Last");
+        player.setTeam(home);
+        player.setStatus(PlayerStatus.ACTIVE);
+        player = playersRepository.save(player);
+
+        // The backfill committed day two before day one, and a later game was already stored,
+        // so both were stamped without the neighbouring game
+        AdvancedGameStats dayOne = store(player, home, away, FIRST_DAY, 7_201L);
+        AdvancedGameStats dayTwo = store(player, home, away, FIRST_DAY.plusDays(1), 7_202L);
+        AdvancedGameStats later = store(player, home, away, FIRST_DAY.plusDays(4), 7_203L);
+
+        int recomputed = gameFeatureStage.recompute(FIRST_DAY, FIRST_DAY.plusDays(1));
+
+        assertThat(recomputed).isEqualTo(3);
+        assertThat(advancedGameStatsRepository.findById(dayOne.getId()).orElseThrow().getDaysOfRest()).isNull();
+        AdvancedGameStats secondGame = advancedGameStatsRepository.findById(dayTwo.getId()).orElseThrow();
+        assertThat(secondGame.getDaysOfRest()).isEqualTo(1);
+        assertThat(secondGame.getBackToBack()).isTrue();
+        AdvancedGameStats nextGame = advancedGameStatsRepository.findById(later.getId()).orElseThrow();
+        assertThat(nextGame.getDaysOfRest()).isEqualTo(3);
+        assertThat(nextGame.getBackToBack()).isFalse();
+    }
+
+    private AdvancedGameStats store(Players player, Teams home, Teams away, LocalDate date, Long externalId) {
+        Games game = new Games();
+        game.setExternalId(externalId);
+        game.setSeason(2018);
+        game.setHomeTeam(home);
+        game.setAwayTeam(away);
+        game.setGameDate(date);
+        game.setStatus("Final");
+        game.setHomeTeamScore(110);
+        game.setAwayTeamScore(100);
+        game = gamesRepository.save(game);
+
+        GameStats stats = new GameStats();
+        stats.setExternalId(externalId);
+        stats.setGame(game);
+        stats.setPlayer(player);
+        stats.setGameDate(date);
+        stats.setPoints(20);
+        gameStatsRepository.save(stats);
+
+        AdvancedGameStats advanced = new AdvancedGameStats();
+        advanced.setGame(game);
+        advanced.setPlayer(player);
+        advanced.setGameDate(date);
+        return advancedGameStatsRepository.save(advanced);
+    }
+
+    private static Teams team(Long externalId, String abbreviation) {
+        Teams team = new Teams();
+        team.setExternalId(externalId);
+        team.setName(abbreviation);
+        team.setAbbreviation(abbreviation);
+        team.setCity(abbreviation);
+        team.setConference(Conference.values()[0]);
+        team.setDivision("Division");
+        return team;
+    }
+}
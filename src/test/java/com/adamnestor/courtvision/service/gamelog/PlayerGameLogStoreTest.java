@@ -0,0 +1,71 @@
+package com.adamnestor.courtvision.service.gamelog;
+
+import com.adamnestor.courtvision.domain.Players;
+import com.adamnestor.courtvision.domain.Teams;
+import com.adamnestor.courtvision.event.GameStatsIngestedEvent;
+import com.adamnestor.courtvision.repository.GameStatsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PlayerGameLogStoreTest {
+    private GameStatsRepository gameStatsRepository;
+    private PlayerGameLogStore store;
+    private Players player;
+
+    @BeforeEach
+    void setUp() {
+        gameStatsRepository = mock(GameStatsRepository.class);
+        store = new PlayerGameLogStore(gameStatsRepository);
+
+        Teams team = new Teams();
+        team.setId(10L);
+        player = new Players();
+        player.setId(1L);
+        player.setTeam(team);
+    }
+
+    @Test
+    void keepsLogUntilStatsIngestedEventArrives() {
+        when(gameStatsRepository.findRecentLinesForPlayers(anyCollection(), anyInt()))
+                .thenReturn(List.of(line(20)));
+
+        store.getLog(player);
+        store.getLog(player);
+        verify(gameStatsRepository, times(1)).findRecentLinesForPlayers(anyCollection(), anyInt());
+
+        store.onGameStatsIngested(new GameStatsIngestedEvent(Set.of(player.getId())));
+        store.getLog(player);
+        verify(gameStatsRepository, times(2)).findRecentLinesForPlayers(anyCollection(), anyInt());
+    }
+
+    @Test
+    void doesNotKeepLogLoadedAcrossAnEviction() {
+        when(gameStatsRepository.findRecentLinesForPlayers(anyCollection(), anyInt()))
+                .thenAnswer(invocation -> {
+                    // A commit lands while this load is reading the old rows
+                    store.onGameStatsIngested(new GameStatsIngestedEvent(Set.of(player.getId())));
+                    return List.of(line(20));
+                })
+                .thenReturn(List.of(line(30), line(20)));
+
+        assertThat(store.getLog(player).size()).isEqualTo(1);
+        assertThat(store.getLog(player).size()).isEqualTo(2);
+    }
+
+    private GameStatLine line(int points) {
+        return new GameStatLine(player.getId(), (long) points, LocalDate.of(2024, 1, 1).plusDays(points),
+                10L, "AAA", 20L, "BBB", points, 5, 5, 1, 1, 2);
+    }
+}
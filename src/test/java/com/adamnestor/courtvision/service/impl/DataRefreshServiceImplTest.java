@@ -0,0 +1,90 @@
+package com.adamnestor.courtvision.service.impl;
+
+import com.adamnestor.courtvision.api.model.ApiGame;
+import com.adamnestor.courtvision.client.BallDontLieClient;
+import com.adamnestor.courtvision.domain.Games;
+import com.adamnestor.courtvision.service.AdvancedStatsService;
+import com.adamnestor.courtvision.service.GameService;
+import com.adamnestor.courtvision.service.PlayerService;
+import com.adamnestor.courtvision.service.StatsService;
+import com.adamnestor.courtvision.snapshot.service.DashboardSnapshotService;
+import com.adamnestor.courtvision.warmup.service.CacheWarmingService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DataRefreshServiceImplTest {
+    private BallDontLieClient apiClient;
+    private GameService gameService;
+    private StatsService statsService;
+    private AdvancedStatsService advancedStatsService;
+    private DataRefreshServiceImpl service;
+    private Games first;
+    private Games second;
+
+    @BeforeEach
+    void setUp() {
+        apiClient = mock(BallDontLieClient.class);
+        gameService = mock(GameService.class);
+        statsService = mock(StatsService.class);
+        advancedStatsService = mock(AdvancedStatsService.class);
+        service = new DataRefreshServiceImpl(apiClient, gameService, statsService, advancedStatsService,
+                mock(PlayerService.class), mock(DashboardSnapshotService.class), mock(CacheWarmingService.class));
+
+        first = game(1L);
+        second = game(2L);
+        when(apiClient.getGames(any(LocalDate.class))).thenReturn(List.of(finalGame(1L), finalGame(2L)));
+        when(gameService.findByExternalId(1L)).thenReturn(first);
+        when(gameService.findByExternalId(2L)).thenReturn(second);
+    }
+
+    @Test
+    void retriesAFailedBatchGameByGame() {
+        when(statsService.getAndUpdateGameStats(anyList())).thenThrow(new IllegalStateException("bad box score"));
+        when(statsService.getAndUpdateGameStats(first)).thenThrow(new IllegalStateException("bad box score"));
+        when(statsService.getAndUpdateGameStats(second)).thenReturn(List.of());
+        when(advancedStatsService.getAndUpdateGameAdvancedStats(anyList())).thenReturn(Map.of());
+
+        service.updateGameResults();
+
+        // The healthy game still gets its basic stats, and advanced stats are unaffected
+        verify(statsService).getAndUpdateGameStats(second);
+        verify(advancedStatsService).getAndUpdateGameAdvancedStats(List.of(first, second));
+        verify(advancedStatsService, never()).getAndUpdateGameAdvancedStats(any(Games.class));
+    }
+
+    @Test
+    void keepsTheBatchPathWhenItSucceeds() {
+        when(statsService.getAndUpdateGameStats(anyList())).thenReturn(Map.of());
+        when(advancedStatsService.getAndUpdateGameAdvancedStats(anyList())).thenReturn(Map.of());
+
+        service.updateGameResults();
+
+        verify(statsService, never()).getAndUpdateGameStats(any(Games.class));
+        verify(advancedStatsService, never()).getAndUpdateGameAdvancedStats(any(Games.class));
+    }
+
+    private static Games game(Long id) {
+        Games game = new Games();
+        game.setId(id);
+        game.setExternalId(id);
+        return game;
+    }
+
+    private static ApiGame finalGame(Long externalId) {
+        ApiGame game = new ApiGame();
+        game.setId(externalId);
+        game.setStatus("Final");
+        return game;
+    }
+}
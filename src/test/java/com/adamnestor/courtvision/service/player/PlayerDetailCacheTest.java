@@ -0,0 +1,96 @@
+package com.adamnestor.courtvision.service.player;
+
+import com.adamnestor.courtvision.domain.StatCategory;
+import com.adamnestor.courtvision.domain.TimePeriod;
+import com.adamnestor.courtvision.dto.player.PlayerDetailStats;
+import com.adamnestor.courtvision.event.AdvancedStatsIngestedEvent;
+import com.adamnestor.courtvision.event.GameStatsIngestedEvent;
+import com.adamnestor.courtvision.event.GamesUpdatedEvent;
+import com.adamnestor.courtvision.event.PlayersUpdatedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PlayerDetailCacheTest {
+    private static final PlayerDetailCache.Key FIRST =
+            new PlayerDetailCache.Key(1L, TimePeriod.L10, StatCategory.POINTS, 20);
+    private static final PlayerDetailCache.Key SECOND =
+            new PlayerDetailCache.Key(2L, TimePeriod.L10, StatCategory.POINTS, 20);
+
+    private PlayerDetailCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        cache = new PlayerDetailCache(new SimpleMeterRegistry(), 100, 60);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void dropsOnlyTheWrittenPlayersOnPlayerWrites() {
+        List<Runnable> writes = List.of(
+                () -> cache.onGameStatsIngested(new GameStatsIngestedEvent(Set.of(1L))),
+                () -> cache.onPlayersUpdated(new PlayersUpdatedEvent(Set.of(1L))));
+
+        for (Runnable write : writes) {
+            load(FIRST);
+            load(SECOND);
+            int before = loads.get();
+
+            write.run();
+            load(FIRST);
+            load(SECOND);
+            assertThat(loads.get()).isEqualTo(before + 1);
+        }
+    }
+
+    @Test
+    void dropsEveryPlayerWhenTeamContextInputsChange() {
+        List<Runnable> writes = List.of(
+                () -> cache.onAdvancedStatsIngested(new AdvancedStatsIngestedEvent(Set.of(10L), List.of())),
+                () -> cache.onGamesUpdated(new GamesUpdatedEvent(Set.of(100L))));
+
+        for (Runnable write : writes) {
+            load(FIRST);
+            load(SECOND);
+            int before = loads.get();
+
+            write.run();
+            load(FIRST);
+            load(SECOND);
+            assertThat(loads.get()).isEqualTo(before + 2);
+        }
+    }
+
+    @Test
+    void doesNotKeepDetailsLoadedAcrossAnInvalidation() {
+        PlayerDetailStats stale = cache.get(FIRST, () -> {
+            // Advanced stats commit while this load is reading the old team context
+            cache.onAdvancedStatsIngested(new AdvancedStatsIngestedEvent(Set.of(10L), List.of()));
+            return details(FIRST.playerId());
+        });
+        assertThat(stale).isNotNull();
+
+        load(FIRST);
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    private PlayerDetailStats load(PlayerDetailCache.Key key) {
+        return cache.get(key, () -> {
+            loads.incrementAndGet();
+            return details(key.playerId());
+        });
+    }
+
+    private static PlayerDetailStats details(Long playerId) {
+        return new PlayerDetailStats(playerId, "Player " + playerId, "AAA",
+                new BigDecimal("50.00"), 60, 10, new BigDecimal("20.00"), List.of());
+    }
+}
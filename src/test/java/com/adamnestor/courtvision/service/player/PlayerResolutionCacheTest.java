@@ -0,0 +1,112 @@
+package com.adamnestor.courtvision.service.player;
+
+import com.adamnestor.courtvision.domain.Players;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PlayerResolutionCacheTest {
+    private PlayerResolutionCache cache;
+    private TransactionTemplate transaction;
+
+    @BeforeEach
+    void setUp() {
+        cache = new PlayerResolutionCache(new SimpleMeterRegistry(), 100, 60);
+        transaction = new TransactionTemplate(new NoOpTransactionManager());
+    }
+
+    @Test
+    void publishesPlayersWrittenInATransactionOnlyOnceItCommits() {
+        Players player = player(237L);
+
+        transaction.executeWithoutResult(status -> {
+            cache.put(player);
+            assertThat(cache.getFresh(237L)).contains(player);
+            assertThat(fromAnotherWorker(237L)).isEmpty();
+        });
+
+        assertThat(fromAnotherWorker(237L)).contains(player);
+    }
+
+    @Test
+    void dropsPlayersWrittenInARolledBackTransaction() {
+        transaction.executeWithoutResult(status -> {
+            cache.put(player(237L));
+            status.setRollbackOnly();
+        });
+
+        assertThat(cache.getFresh(237L)).isEmpty();
+    }
+
+    @Test
+    void keepsANestedTransactionsWritesSeparate() {
+        Players outer = player(1L);
+        Players inner = player(2L);
+        TransactionTemplate requiresNew = new TransactionTemplate(transaction.getTransactionManager());
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        transaction.executeWithoutResult(status -> {
+            cache.put(outer);
+            requiresNew.executeWithoutResult(nested -> {
+                assertThat(cache.getFresh(1L)).isEmpty();
+                cache.put(inner);
+                nested.setRollbackOnly();
+            });
+            assertThat(cache.getFresh(1L)).contains(outer);
+            assertThat(cache.getFresh(2L)).isEmpty();
+        });
+
+        assertThat(cache.getFresh(1L)).contains(outer);
+        assertThat(cache.getFresh(2L)).isEmpty();
+    }
+
+    private Optional<Players> fromAnotherWorker(Long externalId) {
+        return CompletableFuture.supplyAsync(() -> cache.getFresh(externalId)).join();
+    }
+
+    private static Players player(Long externalId) {
+        Players player = new Players();
+        player.setExternalId(externalId);
+        return player;
+    }
+
+    /**
+     * Drives transaction synchronization without a database.
+     */
+    private static class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected Object doSuspend(Object transaction) {
+            return transaction;
+        }
+
+        @Override
+        protected void doResume(Object transaction, Object suspendedResources) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.adamnestor.courtvision.service.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link FixedPointMath#decimal32Quotient} against the BigDecimal expression it replaces,
+ * {@code divide(MathContext.DECIMAL32).setScale(scale, HALF_UP)}.
+ */
+class FixedPointMathTest {
+
+    @Test
+    void matchesBigDecimalForEveryHitRateAndAverageUpToFourHundredGames() {
+        for (long games = 1; games <= 400; games++) {
+            for (long numerator = 0; numerator <= 100 * games; numerator++) {
+                assertParity(numerator, games, FixedPointMath.HIT_RATE_SCALE);
+                assertParity(numerator, games, FixedPointMath.AVERAGE_SCALE);
+            }
+        }
+    }
+
+    @Test
+    void matchesBigDecimalForLargeAndRandomQuotients() {
+        Random random = new Random(32);
+        for (int i = 0; i < 500_000; i++) {
+            assertParity(random.nextInt(5_000_000), 1 + random.nextInt(200_000), random.nextBoolean() ? 1 : 4);
+        }
+        for (int i = 0; i < 200_000; i++) {
+            assertParity(random.nextInt(1_000_000_000), 1 + random.nextInt(100), random.nextInt(6));
+        }
+    }
+
+    @Test
+    void roundsSevenDigitTiesHalfEvenThenHalfUp() {
+        // 1/8 = 0.125 is exact at 7 digits and rounds up at scale 2; 2/3 rounds once at 7 digits
+        assertThat(FixedPointMath.decimal32Quotient(1, 8, 2)).isEqualTo(13);
+        assertThat(FixedPointMath.decimal32Quotient(2, 3, 1)).isEqualTo(7);
+        // 12345675 has 8 digits: the tie at the 7th rounds to the even 1234568, 12345665 to 1234566
+        assertParity(12_345_675, 1, 0);
+        assertParity(12_345_665, 1, 0);
+        assertParity(12_345_675, 10, 1);
+    }
+
+    @Test
+    void convertsHitRatesAndAverages() {
+        assertThat(FixedPointMath.hitRateTenths(2, 3)).isEqualTo(667);
+        assertThat(FixedPointMath.hitRateTenths(0, 0)).isZero();
+        assertThat(FixedPointMath.averageTenThousandths(65, 3)).isEqualTo(216_667);
+        assertThat(FixedPointMath.toBigDecimal(667, 1)).isEqualByComparingTo("66.7");
+        assertThat(FixedPointMath.toUnscaled(new BigDecimal("66.65"), 1)).isEqualTo(667);
+    }
+
+    @Test
+    void rejectsNegativeNumeratorsAndNonPositiveDenominators() {
+        assertThatThrownBy(() -> FixedPointMath.decimal32Quotient(-1, 3, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> FixedPointMath.decimal32Quotient(1, 0, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void assertParity(long numerator, long denominator, int scale) {
+        BigDecimal expected = BigDecimal.valueOf(numerator)
+                .divide(BigDecimal.valueOf(denominator), MathContext.DECIMAL32)
+                .setScale(scale, RoundingMode.HALF_UP);
+        BigDecimal actual = FixedPointMath.toBigDecimal(
+                FixedPointMath.decimal32Quotient(numerator, denominator, scale), scale);
+        if (!actual.equals(expected)) {
+            throw new AssertionError(numerator + " / " + denominator + " at scale " + scale
+                    + ": expected " + expected + " but was " + actual);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.adamnestor.courtvision.service.version;
+
+import com.adamnestor.courtvision.api.model.ApiGame;
+import com.adamnestor.courtvision.domain.Conference;
+import com.adamnestor.courtvision.domain.Games;
+import com.adamnestor.courtvision.domain.PlayerStatus;
+import com.adamnestor.courtvision.domain.Players;
+import com.adamnestor.courtvision.domain.StatCategory;
+import com.adamnestor.courtvision.domain.TimePeriod;
+import com.adamnestor.courtvision.dto.player.PlayerDetailStats;
+import com.adamnestor.courtvision.event.PlayersUpdatedEvent;
+import com.adamnestor.courtvision.domain.Teams;
+import com.adamnestor.courtvision.repository.GamesRepository;
+import com.adamnestor.courtvision.repository.PlayersRepository;
+import com.adamnestor.courtvision.repository.TeamsRepository;
+import com.adamnestor.courtvision.service.GameService;
+import com.adamnestor.courtvision.service.PlayerService;
+import com.adamnestor.courtvision.service.player.PlayerDetailCache;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+
+@SpringBootTest
+class DataGenerationTest {
+
+    @SpyBean
+    private DataGeneration dataGeneration;
+
+    @Autowired
+    private PlayerDetailCache playerDetailCache;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private GameService gameService;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private TeamsRepository teamsRepository;
+
+    @Autowired
+    private PlayersRepository playersRepository;
+
+    @Autowired
+    private GamesRepository gamesRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void movesOnceGameAndPlayerStatusWritesCommit() {
+        Teams home = teamsRepository.save(team(8_001L, "HHH"));
+        Teams away = teamsRepository.save(team(8_002L, "VVV"));
+        Games game = new Games();
+        game.setExternalId(8_100L);
+        game.setSeason(2024);
+        game.setHomeTeam(home);
+        game.setAwayTeam(away);
+        game.setGameDate(LocalDate.now());
+        game.setStatus("scheduled");
+        gamesRepository.save(game);
+        Players player = new Players();
+        player.setExternalId(8_200L);
+        player.setFirstName("First");
+        player.setLastName("Last");
+        player.setTeam(home);
+        player.setStatus(PlayerStatus.INACTIVE);
+        player = playersRepository.save(player);
+
+        ApiGame tipOff = new ApiGame();
+        tipOff.setId(8_100L);
+        tipOff.setStatus("1st Qtr");
+        tipOff.setHomeTeamScore(2);
+        tipOff.setVisitorTeamScore(0);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        long before = dataGeneration.current();
+        transaction.executeWithoutResult(status -> {
+            gameService.processGameResults(tipOff);
+            status.setRollbackOnly();
+        });
+        assertThat(dataGeneration.current()).isEqualTo(before);
+
+        transaction.executeWithoutResult(status -> {
+            gameService.processGameResults(tipOff);
+            assertThat(dataGeneration.current()).isEqualTo(before);
+        });
+        long afterGame = dataGeneration.current();
+        assertThat(afterGame).isGreaterThan(before);
+
+        player.setStatus(PlayerStatus.ACTIVE);
+        playerService.updatePlayers(List.of(player));
+        assertThat(dataGeneration.current()).isGreaterThan(afterGame);
+    }
+
+    @Test
+    void movesOnlyAfterTheCachesDroppedTheWrittenRows() {
+        PlayerDetailCache.Key key = new PlayerDetailCache.Key(8_300L, TimePeriod.L10, StatCategory.POINTS, 20);
+        PlayerDetailStats stale = details(key.playerId());
+        playerDetailCache.get(key, () -> stale);
+
+        // A request reading the new generation must not be served the entry cached before the write
+        AtomicBoolean servedStale = new AtomicBoolean();
+        doAnswer(invocation -> {
+            servedStale.compareAndSet(false, playerDetailCache.get(key, () -> details(key.playerId())) == stale);
+            return invocation.callRealMethod();
+        }).when(dataGeneration).bump();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(
+                status -> eventPublisher.publishEvent(new PlayersUpdatedEvent(Set.of(key.playerId()))));
+        assertThat(servedStale).isFalse();
+    }
+
+    private static PlayerDetailStats details(Long playerId) {
+        return new PlayerDetailStats(playerId, "Player " + playerId, "AAA",
+                new BigDecimal("50.00"), 60, 10, new BigDecimal("20.00"), List.of());
+    }
+
+    private static Teams team(Long externalId, String abbreviation) {
+        Teams team = new Teams();
+        team.setExternalId(externalId);
+        team.setName(abbreviation);
+        team.setAbbreviation(abbreviation);
+        team.setCity(abbreviation);
+        team.setConference(Conference.values()[0]);
+        team.setDivision("Division");
+        return team;
+    }
+}
@@ -0,0 +1,108 @@
+package com.adamnestor.courtvision.snapshot.service.impl;
+
+import com.adamnestor.courtvision.event.AdvancedStatsIngestedEvent;
+import com.adamnestor.courtvision.event.DashboardSnapshotPublishedEvent;
+import com.adamnestor.courtvision.event.GameStatsIngestedEvent;
+import com.adamnestor.courtvision.event.GamesUpdatedEvent;
+import com.adamnestor.courtvision.event.PlayersUpdatedEvent;
+import com.adamnestor.courtvision.repository.GamesRepository;
+import com.adamnestor.courtvision.service.PlayerPerformanceService;
+import com.adamnestor.courtvision.service.util.DateUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DashboardSnapshotServiceImplTest {
+    private static final LocalDate TODAY = LocalDate.of(2024, 1, 15);
+
+    private PlayerPerformanceService playerPerformanceService;
+    private GamesRepository gamesRepository;
+    private DateUtils dateUtils;
+    private ApplicationEventPublisher eventPublisher;
+    private DashboardSnapshotServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        playerPerformanceService = mock(PlayerPerformanceService.class);
+        gamesRepository = mock(GamesRepository.class);
+        dateUtils = mock(DateUtils.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        when(dateUtils.getCurrentEasternDate()).thenReturn(TODAY);
+        when(gamesRepository.findByGameDateAndStatus(eq(TODAY), any())).thenReturn(List.of());
+        when(playerPerformanceService.calculateDashboardMatrix(anyList())).thenReturn(Map.of());
+        service = new DashboardSnapshotServiceImpl(
+                playerPerformanceService, gamesRepository, dateUtils, eventPublisher, 60_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void dropsSnapshotWhenAWriteCommits() {
+        List<Runnable> writes = List.of(
+                () -> service.onGameStatsIngested(new GameStatsIngestedEvent(Set.of(1L))),
+                () -> service.onAdvancedStatsIngested(new AdvancedStatsIngestedEvent(Set.of(1L), List.of())),
+                () -> service.onGamesUpdated(new GamesUpdatedEvent(Set.of(1L))),
+                () -> service.onPlayersUpdated(new PlayersUpdatedEvent(Set.of(1L))));
+
+        for (Runnable write : writes) {
+            service.rebuildSnapshot();
+            assertThat(service.getSnapshot(TODAY)).isPresent();
+
+            write.run();
+            assertThat(service.getSnapshot(TODAY)).isEmpty();
+        }
+    }
+
+    @Test
+    void rebuildsOnceWritesGoQuiet() throws InterruptedException {
+        service.shutdown();
+        service = new DashboardSnapshotServiceImpl(
+                playerPerformanceService, gamesRepository, dateUtils, eventPublisher, 200);
+        service.rebuildSnapshot();
+
+        for (int i = 0; i < 5; i++) {
+            service.onGameStatsIngested(new GameStatsIngestedEvent(Set.of((long) i)));
+            assertThat(service.getSnapshot(TODAY)).isEmpty();
+        }
+        for (int i = 0; i < 50 && service.getSnapshot(TODAY).isEmpty(); i++) {
+            Thread.sleep(50);
+        }
+
+        assertThat(service.getSnapshot(TODAY)).isPresent();
+        // One build for the initial snapshot and one for the whole burst of writes
+        verify(playerPerformanceService, times(2)).calculateDashboardMatrix(anyList());
+    }
+
+    @Test
+    void doesNotPublishSnapshotBuiltAcrossAnInvalidation() {
+        when(playerPerformanceService.calculateDashboardMatrix(anyList())).thenAnswer(invocation -> {
+            // A game moves to in progress while the matrix is computed from the old rows
+            service.onGamesUpdated(new GamesUpdatedEvent(Set.of(1L)));
+            return Map.of();
+        });
+
+        service.rebuildSnapshot();
+
+        assertThat(service.getSnapshot(TODAY)).isEmpty();
+        verify(eventPublisher, never()).publishEvent(any(DashboardSnapshotPublishedEvent.class));
+    }
+}
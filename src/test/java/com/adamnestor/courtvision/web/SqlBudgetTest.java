@@ -0,0 +1,188 @@
+package com.adamnestor.courtvision.web;
+
+import com.adamnestor.courtvision.domain.Conference;
+import com.adamnestor.courtvision.domain.GameStats;
+import com.adamnestor.courtvision.domain.Games;
+import com.adamnestor.courtvision.domain.PlayerStatus;
+import com.adamnestor.courtvision.domain.Players;
+import com.adamnestor.courtvision.domain.StatCategory;
+import com.adamnestor.courtvision.domain.Teams;
+import com.adamnestor.courtvision.repository.GameStatsRepository;
+import com.adamnestor.courtvision.repository.GamesRepository;
+import com.adamnestor.courtvision.repository.PlayersRepository;
+import com.adamnestor.courtvision.repository.TeamsRepository;
+import com.adamnestor.courtvision.service.util.DateUtils;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Drives the dashboard and player detail endpoints over a seeded league and fails when a request
+ * runs more SQL statements than its budget, e.g. after a change reintroduces per-row lazy loads.
+ * Statements are counted by {@link SqlBudgetFilter}; the league is large enough that per-player
+ * queries would blow the budgets.
+ */
+@SpringBootTest(properties =
+        "spring.datasource.url=jdbc:h2:mem:sqlbudget;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=VALUE,YEAR,MONTH")
+@AutoConfigureMockMvc
+@WithMockUser
+class SqlBudgetTest {
+    private static final int PLAYERS_PER_TEAM = 12;
+    private static final int PAST_GAMES = 30;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TeamsRepository teamsRepository;
+
+    @Autowired
+    private PlayersRepository playersRepository;
+
+    @Autowired
+    private GamesRepository gamesRepository;
+
+    @Autowired
+    private GameStatsRepository gameStatsRepository;
+
+    @Autowired
+    private DateUtils dateUtils;
+
+    @Value("${sql.budget.dashboard:20}")
+    private int dashboardBudget;
+
+    @Value("${sql.budget.player-stats:10}")
+    private int playerStatsBudget;
+
+    private final List<Players> players = new ArrayList<>();
+
+    @BeforeEach
+    void seedLeague() {
+        if (teamsRepository.count() > 0) {
+            players.addAll(playersRepository.findAll());
+            return;
+        }
+        Teams home = teamsRepository.save(team(1L, "AAA"));
+        Teams away = teamsRepository.save(team(2L, "BBB"));
+        for (int i = 0; i < PLAYERS_PER_TEAM * 2; i++) {
+            Players player = new Players();
+            player.setExternalId(100L + i);
+            player.setFirstName("First" + i);
+            player.setLastName("Last" + i);
+            player.setTeam(i % 2 == 0 ? home : away);
+            player.setStatus(PlayerStatus.ACTIVE);
+            players.add(playersRepository.save(player));
+        }
+
+        Random random = new Random(22);
+        LocalDate today = dateUtils.getCurrentEasternDate();
+        for (int g = 0; g < PAST_GAMES; g++) {
+            Games game = game(1_000L + g, g % 2 == 0 ? home : away, g % 2 == 0 ? away : home,
+                    today.minusDays(2L * (PAST_GAMES - g)), "Final");
+            game.setHomeTeamScore(95 + random.nextInt(30));
+            game.setAwayTeamScore(95 + random.nextInt(30));
+            Games saved = gamesRepository.save(game);
+            for (Players player : players) {
+                GameStats stats = new GameStats();
+                stats.setExternalId(saved.getId() * 1_000 + player.getId());
+                stats.setGame(saved);
+                stats.setPlayer(player);
+                stats.setPoints(4 + random.nextInt(30));
+                stats.setAssists(random.nextInt(12));
+                stats.setRebounds(random.nextInt(14));
+                gameStatsRepository.save(stats);
+            }
+        }
+
+        Games tonight = game(9_999L, home, away, today, "scheduled");
+        tonight.setGameTime("7:00 PM");
+        gamesRepository.save(tonight);
+    }
+
+    @Test
+    void playerDetailStaysWithinBudget() throws Exception {
+        for (Players player : players) {
+            for (String period : List.of("L5", "L20", "SEASON")) {
+                int statements = statementsFor("player-stats",
+                        get("/api/players/{id}/stats", player.getId())
+                                .param("timePeriod", period)
+                                .param("category", "POINTS"));
+                assertThat(statements).as("player %d, %s", player.getId(), period)
+                        .isLessThanOrEqualTo(playerStatsBudget);
+            }
+        }
+    }
+
+    @Test
+    void dashboardStaysWithinBudget() throws Exception {
+        for (StatCategory category : StatCategory.values()) {
+            for (String timeFrame : List.of("L10", "L20")) {
+                int statements = statementsFor("dashboard",
+                        get("/api/dashboard/stats")
+                                .param("categoryStr", category.name())
+                                .param("timeFrame", timeFrame)
+                                .param("threshold", String.valueOf(category.getDefaultThreshold())));
+                assertThat(statements).as("%s, %s", category, timeFrame)
+                        .isLessThanOrEqualTo(dashboardBudget);
+            }
+        }
+    }
+
+    /**
+     * Performs the request and returns the number of statements the filter counted for it.
+     */
+    private int statementsFor(String endpoint, RequestBuilder request) throws Exception {
+        double before = recorded(endpoint);
+        mockMvc.perform(request).andExpect(status().isOk());
+        return (int) (recorded(endpoint) - before);
+    }
+
+    private double recorded(String endpoint) {
+        DistributionSummary summary = meterRegistry.find("courtvision.sql.statements")
+                .tag("endpoint", endpoint)
+                .summary();
+        return summary != null ? summary.totalAmount() : 0;
+    }
+
+    private static Teams team(Long externalId, String abbreviation) {
+        Teams team = new Teams();
+        team.setExternalId(externalId);
+        team.setName(abbreviation);
+        team.setAbbreviation(abbreviation);
+        team.setCity(abbreviation);
+        team.setConference(Conference.values()[0]);
+        team.setDivision("Division");
+        return team;
+    }
+
+    private static Games game(Long externalId, Teams home, Teams away, LocalDate date, String status) {
+        Games game = new Games();
+        game.setExternalId(externalId);
+        game.setSeason(2024);
+        game.setHomeTeam(home);
+        game.setAwayTeam(away);
+        game.setGameDate(date);
+        game.setStatus(status);
+        return game;
+    }
+}